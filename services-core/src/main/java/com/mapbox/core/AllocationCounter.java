@@ -0,0 +1,56 @@
+package com.mapbox.core;
+
+import java.lang.reflect.Method;
+
+/**
+ * Reads the number of bytes allocated so far by the current thread, on the JVMs able to count
+ * them such as HotSpot. Their {@code com.sun.management.ThreadMXBean} is looked up reflectively
+ * since it doesn't exist on Android, where no count is available.
+ *
+ * @since 4.9.0
+ */
+final class AllocationCounter {
+
+  private static final Object THREAD_BEAN;
+  private static final Method GET_THREAD_ALLOCATED_BYTES;
+
+  static {
+    Object threadBean = null;
+    Method getThreadAllocatedBytes = null;
+    try {
+      threadBean = Class.forName("java.lang.management.ManagementFactory")
+        .getMethod("getThreadMXBean").invoke(null);
+      Class<?> beanType = Class.forName("com.sun.management.ThreadMXBean");
+      if (beanType.isInstance(threadBean)
+        && (Boolean) beanType.getMethod("isThreadAllocatedMemorySupported").invoke(threadBean)) {
+        beanType.getMethod("setThreadAllocatedMemoryEnabled", boolean.class)
+          .invoke(threadBean, true);
+        getThreadAllocatedBytes = beanType.getMethod("getThreadAllocatedBytes", long.class);
+      }
+    } catch (Exception | LinkageError unsupported) {
+      getThreadAllocatedBytes = null;
+    }
+    THREAD_BEAN = threadBean;
+    GET_THREAD_ALLOCATED_BYTES = getThreadAllocatedBytes;
+  }
+
+  // Private constructor preventing instances of class
+  private AllocationCounter() {
+  }
+
+  /**
+   * The number of bytes allocated by the current thread since it started.
+   *
+   * @return the number of bytes, or -1 if it can't be counted
+   */
+  static long currentThreadAllocatedBytes() {
+    if (GET_THREAD_ALLOCATED_BYTES == null) {
+      return -1;
+    }
+    try {
+      return (Long) GET_THREAD_ALLOCATED_BYTES.invoke(THREAD_BEAN, Thread.currentThread().getId());
+    } catch (Exception exception) {
+      return -1;
+    }
+  }
+}
@@ -0,0 +1,266 @@
+package com.mapbox.core;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import okhttp3.MediaType;
+import okhttp3.Request;
+import okhttp3.ResponseBody;
+import okio.Buffer;
+import retrofit2.Call;
+import retrofit2.Callback;
+import retrofit2.Response;
+
+/**
+ * Lets concurrent identical calls share a single request, see
+ * {@link MapboxService#setCallCoalescer(CallCoalescer)} and
+ * {@link MapboxService#setDefaultCallCoalescer(CallCoalescer)}. Calls are identical when they are
+ * made by the same service class through the same call factory, with the same HTTP method, URL
+ * and body. The first call sends the request, and calls made while it is in flight wait for its
+ * response instead of sending their own. All of them then get the same parsed response, while
+ * unparsed {@link ResponseBody} and error bodies are copied so that each call can read its own.
+ * <p>
+ * Calls sharing a request are cancelled independently: a cancelled call fails right away, and
+ * the request itself is only cancelled once no call waits for it anymore. Since the response is
+ * shared, its body shouldn't be modified. Blocking calls wait for the request to complete rather
+ * than sending it from the calling thread.
+ * </p>
+ *
+ * @since 4.9.0
+ */
+public final class CallCoalescer {
+
+  private final ConcurrentMap<Key, Flight<?>> flights = new ConcurrentHashMap<>();
+  private final AtomicLong coalescedCalls = new AtomicLong();
+
+  /**
+   * Create a new instance of this class. A single coalescer is meant to be shared by all the
+   * services it should apply to.
+   *
+   * @since 4.9.0
+   */
+  public CallCoalescer() {
+  }
+
+  /**
+   * The number of distinct requests currently in flight.
+   *
+   * @return the number of requests in flight
+   * @since 4.9.0
+   */
+  public int inFlightRequests() {
+    return flights.size();
+  }
+
+  /**
+   * The number of calls which didn't send a request of their own, as an identical one was
+   * already in flight.
+   *
+   * @return the number of coalesced calls
+   * @since 4.9.0
+   */
+  public long coalescedCalls() {
+    return coalescedCalls.get();
+  }
+
+  /**
+   * Adds a waiter to the request in flight for the given key, or sends the given call if there's
+   * none.
+   *
+   * @param key    the key identifying the request
+   * @param call   the call to send if no identical request is in flight
+   * @param waiter the callback to notify once the request completes
+   * @param <T>    Type parameter for response.
+   * @return the request the waiter was added to
+   */
+  @SuppressWarnings("unchecked")
+  <T> Flight<T> join(Key key, Call<T> call, Callback<T> waiter) {
+    while (true) {
+      Flight<T> flight = (Flight<T>) flights.get(key);
+      if (flight != null) {
+        if (flight.add(waiter)) {
+          coalescedCalls.incrementAndGet();
+          return flight;
+        }
+        // Completed in the meantime, its response can't be used anymore
+        flights.remove(key, flight);
+        continue;
+      }
+
+      flight = new Flight<>(this, key, call);
+      flight.add(waiter);
+      if (flights.putIfAbsent(key, flight) == null) {
+        call.enqueue(flight);
+        return flight;
+      }
+    }
+  }
+
+  /**
+   * Identifies a request: the service class and call factory sending it, its method, URL and body.
+   * Call factories are compared by identity.
+   */
+  static final class Key {
+
+    private final Class<?> owner;
+    private final okhttp3.Call.Factory callFactory;
+    private final String method;
+    private final String url;
+    private final byte[] body;
+
+    Key(Class<?> owner, okhttp3.Call.Factory callFactory, Request request) throws IOException {
+      this.owner = owner;
+      this.callFactory = callFactory;
+      this.method = request.method();
+      this.url = request.url().toString();
+      if (request.body() != null) {
+        Buffer buffer = new Buffer();
+        request.body().writeTo(buffer);
+        this.body = buffer.readByteArray();
+      } else {
+        this.body = null;
+      }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
+      if (!(other instanceof Key)) {
+        return false;
+      }
+      Key that = (Key) other;
+      return owner == that.owner
+        && callFactory == that.callFactory
+        && method.equals(that.method)
+        && url.equals(that.url)
+        && Arrays.equals(body, that.body);
+    }
+
+    @Override
+    public int hashCode() {
+      int hashCode = 1;
+      hashCode *= 1000003;
+      hashCode ^= owner.hashCode();
+      hashCode *= 1000003;
+      hashCode ^= System.identityHashCode(callFactory);
+      hashCode *= 1000003;
+      hashCode ^= method.hashCode();
+      hashCode *= 1000003;
+      hashCode ^= url.hashCode();
+      hashCode *= 1000003;
+      hashCode ^= Arrays.hashCode(body);
+      return hashCode;
+    }
+  }
+
+  /**
+   * A request in flight and the callbacks waiting for it.
+   *
+   * @param <T> Type parameter for response.
+   */
+  static final class Flight<T> implements Callback<T> {
+
+    private final CallCoalescer coalescer;
+    private final Key key;
+    private final Call<T> call;
+    private final List<Callback<T>> waiters = new ArrayList<>();
+    private boolean done;
+
+    Flight(CallCoalescer coalescer, Key key, Call<T> call) {
+      this.coalescer = coalescer;
+      this.key = key;
+      this.call = call;
+    }
+
+    synchronized boolean add(Callback<T> waiter) {
+      if (done) {
+        return false;
+      }
+      waiters.add(waiter);
+      return true;
+    }
+
+    /**
+     * Removes a waiter, cancelling the request if it was the last one.
+     *
+     * @param waiter the callback which isn't waiting anymore
+     * @return true if the waiter was still waiting
+     */
+    boolean remove(Callback<T> waiter) {
+      boolean cancel;
+      synchronized (this) {
+        if (done || !waiters.remove(waiter)) {
+          return false;
+        }
+        cancel = waiters.isEmpty();
+        done = cancel;
+      }
+      if (cancel) {
+        coalescer.flights.remove(key, this);
+        call.cancel();
+      }
+      return true;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public void onResponse(Call<T> call, Response<T> response) {
+      List<Callback<T>> notified = complete();
+      ResponseBody errorBody = response.errorBody();
+      ResponseBody rawBody = errorBody;
+      if (rawBody == null && response.body() instanceof ResponseBody) {
+        rawBody = (ResponseBody) response.body();
+      }
+      if (rawBody == null) {
+        for (Callback<T> waiter : notified) {
+          waiter.onResponse(call, response);
+        }
+        return;
+      }
+
+      // A response body can only be read once, every waiter gets its own copy
+      MediaType contentType = rawBody.contentType();
+      byte[] bytes;
+      try {
+        bytes = rawBody.bytes();
+      } catch (IOException exception) {
+        onFailure(call, exception, notified);
+        return;
+      }
+      for (Callback<T> waiter : notified) {
+        ResponseBody copy = ResponseBody.create(contentType, bytes);
+        waiter.onResponse(call, errorBody != null ? Response.<T>error(copy, response.raw())
+          : Response.success((T) copy, response.raw()));
+      }
+    }
+
+    @Override
+    public void onFailure(Call<T> call, Throwable throwable) {
+      onFailure(call, throwable, complete());
+    }
+
+    private void onFailure(Call<T> call, Throwable throwable, List<Callback<T>> notified) {
+      for (Callback<T> waiter : notified) {
+        waiter.onFailure(call, throwable);
+      }
+    }
+
+    private List<Callback<T>> complete() {
+      coalescer.flights.remove(key, this);
+      synchronized (this) {
+        if (done) {
+          return new ArrayList<>();
+        }
+        done = true;
+        return new ArrayList<>(waiters);
+      }
+    }
+  }
+}
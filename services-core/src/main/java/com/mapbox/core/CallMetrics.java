@@ -0,0 +1,215 @@
+package com.mapbox.core;
+
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+
+/**
+ * Where the time of a completed call went, as reported to the {@link CallMetricsListener} set
+ * through {@link MapboxService#setCallMetricsListener(CallMetricsListener)}. Durations are in
+ * nanoseconds, and are -1 when the phase didn't happen, for instance no DNS lookup or connection
+ * is needed when a pooled connection is reused.
+ *
+ * @since 4.9.0
+ */
+public final class CallMetrics {
+
+  private final String serviceType;
+  private final String profile;
+  private final int code;
+  private final long dnsNanos;
+  private final long connectNanos;
+  private final long timeToFirstByteNanos;
+  private final long downloadNanos;
+  private final long parseNanos;
+  private final long totalNanos;
+  private final long responseBytes;
+  private final String responseType;
+  private final long parsedBytes;
+  private final long allocatedBytes;
+
+  CallMetrics(String serviceType, String profile, int code, long dnsNanos, long connectNanos,
+              long timeToFirstByteNanos, long downloadNanos, long parseNanos, long totalNanos,
+              long responseBytes, String responseType, long parsedBytes, long allocatedBytes) {
+    this.serviceType = serviceType;
+    this.profile = profile;
+    this.code = code;
+    this.dnsNanos = dnsNanos;
+    this.connectNanos = connectNanos;
+    this.timeToFirstByteNanos = timeToFirstByteNanos;
+    this.downloadNanos = downloadNanos;
+    this.parseNanos = parseNanos;
+    this.totalNanos = totalNanos;
+    this.responseBytes = responseBytes;
+    this.responseType = responseType;
+    this.parsedBytes = parsedBytes;
+    this.allocatedBytes = allocatedBytes;
+  }
+
+  /**
+   * The type of service which made the call, the simple name of its Retrofit interface such as
+   * {@code DirectionsService}.
+   *
+   * @return the service type
+   * @since 4.9.0
+   */
+  @NonNull
+  public String serviceType() {
+    return serviceType;
+  }
+
+  /**
+   * The profile of the request for the APIs with one in their path, such as
+   * {@code mapbox/driving} for Directions, or the endpoint for Geocoding.
+   *
+   * @return the profile, or null if the API has none
+   * @since 4.9.0
+   */
+  @Nullable
+  public String profile() {
+    return profile;
+  }
+
+  /**
+   * The HTTP status code of the response.
+   *
+   * @return the status code, or -1 if the call failed without a response
+   * @since 4.9.0
+   */
+  public int code() {
+    return code;
+  }
+
+  /**
+   * Whether the call failed without a response, for instance because of a timeout.
+   *
+   * @return true if there's no response
+   * @since 4.9.0
+   */
+  public boolean isFailed() {
+    return code < 0;
+  }
+
+  /**
+   * The time spent resolving the host name.
+   *
+   * @return the DNS lookup duration, or -1 if there was none
+   * @since 4.9.0
+   */
+  public long dnsNanos() {
+    return dnsNanos;
+  }
+
+  /**
+   * The time spent opening a connection, including the TLS handshake.
+   *
+   * @return the connection duration, or -1 if a pooled connection was used
+   * @since 4.9.0
+   */
+  public long connectNanos() {
+    return connectNanos;
+  }
+
+  /**
+   * The time from sending the request until the response headers arrived.
+   *
+   * @return the time to first byte, or -1 if no response arrived
+   * @since 4.9.0
+   */
+  public long timeToFirstByteNanos() {
+    return timeToFirstByteNanos;
+  }
+
+  /**
+   * The time spent reading the response body.
+   *
+   * @return the download duration, or -1 if no body was read
+   * @since 4.9.0
+   */
+  public long downloadNanos() {
+    return downloadNanos;
+  }
+
+  /**
+   * The time spent turning the response body into the response object. When the body is parsed
+   * while it is downloaded, the time spent waiting for it isn't included, see
+   * {@link MapboxService#setBufferedParsing(boolean)}.
+   *
+   * @return the parse duration, or -1 if the body wasn't parsed
+   * @since 4.9.0
+   */
+  public long parseNanos() {
+    return parseNanos;
+  }
+
+  /**
+   * The time from starting the call until it completed, including parsing the response.
+   *
+   * @return the call duration
+   * @since 4.9.0
+   */
+  public long totalNanos() {
+    return totalNanos;
+  }
+
+  /**
+   * The size of the response body as received, before decompression.
+   *
+   * @return the number of bytes, or -1 if no body was read
+   * @since 4.9.0
+   */
+  public long responseBytes() {
+    return responseBytes;
+  }
+
+  /**
+   * The type the response body was parsed into, such as {@code DirectionsResponse}.
+   *
+   * @return the simple name of the response type, or null if the body wasn't parsed
+   * @since 4.9.0
+   */
+  @Nullable
+  public String responseType() {
+    return responseType;
+  }
+
+  /**
+   * The size of the response body as parsed, after decompression.
+   *
+   * @return the number of bytes, or -1 if the body wasn't parsed
+   * @since 4.9.0
+   */
+  public long parsedBytes() {
+    return parsedBytes;
+  }
+
+  /**
+   * An estimate of the memory allocated while parsing the response body, measured on the parsing
+   * thread. This is only available on JVMs able to count the allocations of a thread, and not on
+   * Android.
+   *
+   * @return the number of bytes, or -1 if it isn't available
+   * @since 4.9.0
+   */
+  public long allocatedBytes() {
+    return allocatedBytes;
+  }
+
+  @Override
+  public String toString() {
+    return "CallMetrics{"
+      + "serviceType=" + serviceType + ", "
+      + "profile=" + profile + ", "
+      + "code=" + code + ", "
+      + "dnsNanos=" + dnsNanos + ", "
+      + "connectNanos=" + connectNanos + ", "
+      + "timeToFirstByteNanos=" + timeToFirstByteNanos + ", "
+      + "downloadNanos=" + downloadNanos + ", "
+      + "parseNanos=" + parseNanos + ", "
+      + "totalNanos=" + totalNanos + ", "
+      + "responseBytes=" + responseBytes + ", "
+      + "responseType=" + responseType + ", "
+      + "parsedBytes=" + parsedBytes + ", "
+      + "allocatedBytes=" + allocatedBytes
+      + "}";
+  }
+}
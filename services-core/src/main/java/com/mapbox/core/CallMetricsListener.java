@@ -0,0 +1,23 @@
+package com.mapbox.core;
+
+import android.support.annotation.NonNull;
+
+/**
+ * Receives the {@link CallMetrics} of every completed service call, see
+ * {@link MapboxService#setCallMetricsListener(CallMetricsListener)}. {@link InMemoryCallMetrics}
+ * aggregates them into histograms, other implementations can forward them to any monitoring
+ * system.
+ *
+ * @since 4.9.0
+ */
+public interface CallMetricsListener {
+
+  /**
+   * Called once a call completed and its response was parsed, on the thread which completed it.
+   * Implementations must be thread safe and return quickly.
+   *
+   * @param metrics the metrics of the call
+   * @since 4.9.0
+   */
+  void onCallCompleted(@NonNull CallMetrics metrics);
+}
@@ -0,0 +1,181 @@
+package com.mapbox.core;
+
+/**
+ * Collects the timings of a single call as {@link MetricsEventListener} and
+ * {@link InstrumentedGsonConverterFactory} see them, and reports them to the
+ * {@link CallMetricsListener} once the call completed and, if the converter picked up its body,
+ * its response was parsed, in whatever order these happen. Bodies no converter picks up, such as
+ * error bodies and {@link okhttp3.ResponseBody} responses, are reported as soon as the call ends.
+ *
+ * @since 4.9.0
+ */
+final class CallRecorder {
+
+  /**
+   * The recorder of the call whose response body is being read on this thread, which the
+   * converter parsing it picks up.
+   */
+  private static final ThreadLocal<CallRecorder> CURRENT = new ThreadLocal<>();
+
+  private final CallMetricsListener listener;
+  private final String serviceType;
+  private final String profile;
+  private long callStart;
+  private long dnsStart;
+  private long dnsNanos = -1;
+  private long connectStart;
+  private long connectNanos = -1;
+  private long requestStart;
+  private long timeToFirstByteNanos = -1;
+  private long bodyStart;
+  private long bodyEnd;
+  private long downloadNanos = -1;
+  private long responseBytes = -1;
+  private long parseStart;
+  private long parseNanos = -1;
+  private String responseType;
+  private long parsedBytes = -1;
+  private long allocatedBytes = -1;
+  private long callEnd;
+  private int code = -1;
+  private boolean claimed;
+  private boolean callDone;
+  private boolean reported;
+
+  CallRecorder(CallMetricsListener listener, String serviceType, String profile) {
+    this.listener = listener;
+    this.serviceType = serviceType;
+    this.profile = profile;
+  }
+
+  /**
+   * Returns the recorder of the call whose response body was last read on this thread, and
+   * forgets it so it isn't picked up twice. The recorder then waits for the parse to be recorded
+   * before reporting.
+   *
+   * @return the recorder, or null if there's none
+   */
+  static CallRecorder takeCurrent() {
+    CallRecorder recorder = CURRENT.get();
+    if (recorder != null) {
+      CURRENT.remove();
+      recorder.claim();
+    }
+    return recorder;
+  }
+
+  private synchronized void claim() {
+    claimed = true;
+  }
+
+  synchronized void callStart() {
+    callStart = System.nanoTime();
+  }
+
+  synchronized void dnsStart() {
+    dnsStart = System.nanoTime();
+  }
+
+  synchronized void dnsEnd() {
+    dnsNanos = add(dnsNanos, System.nanoTime() - dnsStart);
+  }
+
+  synchronized void connectStart() {
+    connectStart = System.nanoTime();
+  }
+
+  synchronized void connectEnd() {
+    connectNanos = add(connectNanos, System.nanoTime() - connectStart);
+  }
+
+  synchronized void requestStart() {
+    // Redirects and retries send the request again, only the last response counts
+    requestStart = System.nanoTime();
+  }
+
+  synchronized void responseHeadersEnd(int code) {
+    this.code = code;
+    timeToFirstByteNanos = System.nanoTime() - requestStart;
+  }
+
+  synchronized void responseBodyStart() {
+    bodyStart = System.nanoTime();
+    CURRENT.set(this);
+  }
+
+  synchronized void responseBodyEnd(long byteCount) {
+    bodyEnd = System.nanoTime();
+    downloadNanos = bodyEnd - bodyStart;
+    responseBytes = byteCount;
+  }
+
+  synchronized void parseStart() {
+    parseStart = System.nanoTime();
+  }
+
+  void parseEnd(String responseType, long parsedBytes, long allocatedBytes) {
+    synchronized (this) {
+      this.responseType = responseType;
+      this.parsedBytes = parsedBytes;
+      this.allocatedBytes = allocatedBytes;
+      long parseEnd = System.nanoTime();
+      long nanos = parseEnd - parseStart;
+      if (downloadNanos >= 0 && bodyEnd - parseStart > 0) {
+        // The body was downloaded while being parsed, the time spent waiting for it doesn't count
+        nanos -= bodyEnd - Math.max(bodyStart, parseStart);
+      }
+      parseNanos = Math.max(0, nanos);
+      callEnd = Math.max(callEnd, parseEnd - callStart);
+    }
+    reportIfDone();
+  }
+
+  void callEnd() {
+    forgetCurrent();
+    synchronized (this) {
+      callDone = true;
+      callEnd = Math.max(callEnd, System.nanoTime() - callStart);
+    }
+    reportIfDone();
+  }
+
+  void callFailed() {
+    forgetCurrent();
+    synchronized (this) {
+      callDone = true;
+      callEnd = Math.max(callEnd, System.nanoTime() - callStart);
+      // A failure while reading the body comes after the headers, but there's no response anymore
+      code = -1;
+    }
+    reportIfDone();
+  }
+
+  private void reportIfDone() {
+    CallMetrics metrics;
+    synchronized (this) {
+      if (reported || !callDone || (claimed && parseNanos < 0)) {
+        return;
+      }
+      reported = true;
+      metrics = new CallMetrics(serviceType, profile, code, dnsNanos, connectNanos,
+        timeToFirstByteNanos, downloadNanos, parseNanos, callEnd, responseBytes, responseType,
+        parsedBytes, allocatedBytes);
+    }
+    listener.onCallCompleted(metrics);
+  }
+
+  /**
+   * Once the call ended, a converter which hasn't picked up its body yet never will. Thread locals
+   * can only be removed by their own thread: this is the one which read the body, unless the
+   * caller read it from another one, in which case the next body read here replaces it.
+   */
+  private void forgetCurrent() {
+    if (CURRENT.get() == this) {
+      CURRENT.remove();
+    }
+  }
+
+  private static long add(long total, long nanos) {
+    return total < 0 ? nanos : total + nanos;
+  }
+}
@@ -0,0 +1,45 @@
+package com.mapbox.core;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs the delayed parts of asynchronous calls, such as calls waiting for their rate limit or for
+ * the backoff before a retry.
+ *
+ * @since 4.9.0
+ */
+final class CallScheduler {
+
+  // Private constructor preventing instances of class
+  private CallScheduler() {
+  }
+
+  /**
+   * Runs the given task once the delay elapsed. Tasks only hand calls over to their call factory,
+   * so they must not block.
+   *
+   * @param task       the task to run
+   * @param delayNanos the delay in nanoseconds
+   * @return the scheduled task, which can be cancelled
+   */
+  static ScheduledFuture<?> schedule(Runnable task, long delayNanos) {
+    return SchedulerHolder.SCHEDULER.schedule(task, delayNanos, TimeUnit.NANOSECONDS);
+  }
+
+  // Only hands delayed calls over to their call factory, so a single thread is plenty
+  private static final class SchedulerHolder {
+    static final ScheduledExecutorService SCHEDULER =
+      Executors.newSingleThreadScheduledExecutor(new ThreadFactory() {
+        @Override
+        public Thread newThread(Runnable runnable) {
+          Thread thread = new Thread(runnable, "Mapbox CallScheduler");
+          thread.setDaemon(true);
+          return thread;
+        }
+      });
+  }
+}
@@ -0,0 +1,115 @@
+package com.mapbox.core;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import okhttp3.Request;
+import retrofit2.Call;
+import retrofit2.Callback;
+import retrofit2.Response;
+
+/**
+ * A {@link Call} sharing the request of an identical call already in flight, as tracked by its
+ * {@link CallCoalescer}, and otherwise sending its own.
+ *
+ * @param <T> Type parameter for response.
+ * @since 4.9.0
+ */
+final class CoalescingCall<T> implements Call<T> {
+
+  private final Call<T> delegate;
+  private final CallCoalescer coalescer;
+  private final Class<?> owner;
+  private final okhttp3.Call.Factory callFactory;
+  private final AtomicBoolean executed = new AtomicBoolean();
+  private volatile boolean canceled;
+  private volatile CallCoalescer.Flight<T> flight;
+  private volatile Callback<T> waiter;
+
+  CoalescingCall(Call<T> delegate, CallCoalescer coalescer, Class<?> owner,
+                 okhttp3.Call.Factory callFactory) {
+    this.delegate = delegate;
+    this.coalescer = coalescer;
+    this.owner = owner;
+    this.callFactory = callFactory;
+  }
+
+  @Override
+  public Response<T> execute() throws IOException {
+    ResponseFuture<T> future = new ResponseFuture<>(this);
+    enqueue(future.completingCallback());
+    return future.getResponse();
+  }
+
+  @Override
+  public void enqueue(final Callback<T> callback) {
+    if (!executed.compareAndSet(false, true)) {
+      throw new IllegalStateException("Already executed.");
+    }
+    Callback<T> newWaiter = new Callback<T>() {
+      @Override
+      public void onResponse(Call<T> call, Response<T> response) {
+        callback.onResponse(CoalescingCall.this, response);
+      }
+
+      @Override
+      public void onFailure(Call<T> call, Throwable throwable) {
+        callback.onFailure(CoalescingCall.this, throwable);
+      }
+    };
+    if (canceled) {
+      newWaiter.onFailure(this, new IOException("Canceled"));
+      return;
+    }
+
+    CallCoalescer.Key key;
+    try {
+      key = new CallCoalescer.Key(owner, callFactory, delegate.request());
+    } catch (IOException | RuntimeException creationFailure) {
+      // The delegate reports the failure on its own
+      delegate.enqueue(newWaiter);
+      return;
+    }
+    waiter = newWaiter;
+    flight = coalescer.join(key, delegate, newWaiter);
+    if (canceled) {
+      cancel();
+    }
+  }
+
+  @Override
+  public boolean isExecuted() {
+    return executed.get();
+  }
+
+  @Override
+  public void cancel() {
+    canceled = true;
+    CallCoalescer.Flight<T> currentFlight = flight;
+    if (currentFlight == null) {
+      // Not sent yet, enqueue checks the flag once it has joined a request
+      return;
+    }
+    // Only the request this call shares is cancelled once no other call waits for it
+    Callback<T> currentWaiter = waiter;
+    if (currentFlight.remove(currentWaiter)) {
+      currentWaiter.onFailure(this, new IOException("Canceled"));
+    }
+  }
+
+  @Override
+  public boolean isCanceled() {
+    return canceled;
+  }
+
+  @SuppressWarnings("CloneDoesntCallSuperClone")
+  @Override
+  public Call<T> clone() {
+    return new CoalescingCall<>(delegate.clone(), coalescer, owner, callFactory);
+  }
+
+  @Override
+  public Request request() {
+    return delegate.request();
+  }
+}
@@ -0,0 +1,156 @@
+package com.mapbox.core;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Limits the number of service calls in flight at once. A single limiter is meant to be shared by
+ * all the services it should apply to, see {@link MapboxService#setConcurrencyLimiter(
+ * ConcurrencyLimiter)} and {@link MapboxService#setDefaultConcurrencyLimiter(ConcurrencyLimiter)}.
+ * <p>
+ * Once the limit is reached, {@link MapboxService#executeCall()} blocks the calling thread until
+ * another call completes, while {@link MapboxService#enqueueCall(retrofit2.Callback)} queues the
+ * call and returns right away. This lets plain sequential code running on many threads issue
+ * blocking calls without overwhelming the API or the connection pool.
+ * </p><p>
+ * Blocked threads and queued calls wait in a single queue and get their permit in the order they
+ * asked for it, so neither kind of call can starve the other. Waiting relies on
+ * {@link ReentrantLock} rather than object monitors, so threads waiting for their turn never hold
+ * a monitor.
+ * </p>
+ *
+ * @since 4.9.0
+ */
+public final class ConcurrencyLimiter {
+
+  private final int maxConcurrentCalls;
+  private final ReentrantLock lock = new ReentrantLock();
+  private final Condition available = lock.newCondition();
+  // Blocked threads, as their Waiter, and queued tasks, in the order they asked for a permit
+  private final Queue<Object> pending = new ArrayDeque<>();
+  private int activeCalls;
+
+  /**
+   * Create a new instance of this class allowing the given number of calls in flight at once.
+   *
+   * @param maxConcurrentCalls the maximum number of calls in flight, at least 1
+   * @since 4.9.0
+   */
+  public ConcurrencyLimiter(int maxConcurrentCalls) {
+    if (maxConcurrentCalls < 1) {
+      throw new IllegalArgumentException("maxConcurrentCalls must be at least 1.");
+    }
+    this.maxConcurrentCalls = maxConcurrentCalls;
+  }
+
+  /**
+   * The maximum number of calls this limiter lets through at once.
+   *
+   * @return the maximum number of calls in flight
+   * @since 4.9.0
+   */
+  public int maxConcurrentCalls() {
+    return maxConcurrentCalls;
+  }
+
+  /**
+   * The number of calls currently in flight.
+   *
+   * @return the number of calls holding a permit
+   * @since 4.9.0
+   */
+  public int activeCalls() {
+    lock.lock();
+    try {
+      return activeCalls;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Blocks until a permit is available and takes it.
+   *
+   * @throws InterruptedException if the thread is interrupted while waiting
+   */
+  void acquire() throws InterruptedException {
+    lock.lockInterruptibly();
+    try {
+      if (activeCalls < maxConcurrentCalls) {
+        activeCalls++;
+        return;
+      }
+      Waiter waiter = new Waiter();
+      pending.add(waiter);
+      try {
+        while (!waiter.granted) {
+          available.await();
+        }
+      } catch (InterruptedException interrupted) {
+        if (!waiter.granted) {
+          pending.remove(waiter);
+          throw interrupted;
+        }
+        // The permit was handed over already, keep it rather than losing it
+        Thread.currentThread().interrupt();
+      }
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Runs the given task as soon as a permit is available, either right away on the calling thread
+   * or later, on the thread releasing a permit. The task holds the permit and has to release it.
+   *
+   * @param task the task to run
+   */
+  void enqueue(Runnable task) {
+    lock.lock();
+    try {
+      if (activeCalls >= maxConcurrentCalls) {
+        pending.add(task);
+        return;
+      }
+      activeCalls++;
+    } finally {
+      lock.unlock();
+    }
+    task.run();
+  }
+
+  /**
+   * Releases a permit, handing it over to the thread or task which has waited the longest for
+   * one. A task is run on the calling thread and must not throw.
+   */
+  void release() {
+    Runnable next = null;
+    lock.lock();
+    try {
+      Object waiting = pending.poll();
+      if (waiting == null) {
+        activeCalls--;
+      } else if (waiting instanceof Waiter) {
+        ((Waiter) waiting).granted = true;
+        available.signalAll();
+      } else {
+        next = (Runnable) waiting;
+      }
+    } finally {
+      lock.unlock();
+    }
+    if (next != null) {
+      next.run();
+    }
+  }
+
+  /**
+   * A thread blocked in {@link #acquire()}.
+   */
+  private static final class Waiter {
+    // Guarded by lock
+    boolean granted;
+  }
+}
@@ -0,0 +1,129 @@
+package com.mapbox.core;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A thread safe histogram of non-negative values, which keeps their distribution in a fixed
+ * amount of memory however many values are recorded. Values below 32 are counted exactly, larger
+ * ones in one of 32 buckets per power of two, so percentiles are accurate to about 3% of the
+ * value. Recording a value doesn't allocate nor lock.
+ *
+ * @since 4.9.0
+ */
+public final class Histogram {
+
+  private static final int SUB_BUCKET_BITS = 5;
+  private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+  // Exact values below SUB_BUCKETS, then SUB_BUCKETS buckets for each power of two up to 2^62
+  private static final int BUCKETS = SUB_BUCKETS + (63 - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+  private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+  private final AtomicLong count = new AtomicLong();
+  private final AtomicLong sum = new AtomicLong();
+  private final AtomicLong max = new AtomicLong();
+
+  /**
+   * Create a new, empty, instance of this class.
+   *
+   * @since 4.9.0
+   */
+  public Histogram() {
+  }
+
+  /**
+   * Records a value, negative ones being recorded as 0.
+   *
+   * @param value the value to record
+   * @since 4.9.0
+   */
+  public void record(long value) {
+    long recorded = Math.max(0, value);
+    counts.incrementAndGet(bucketOf(recorded));
+    count.incrementAndGet();
+    sum.addAndGet(recorded);
+    long currentMax = max.get();
+    while (recorded > currentMax && !max.compareAndSet(currentMax, recorded)) {
+      currentMax = max.get();
+    }
+  }
+
+  /**
+   * The number of recorded values.
+   *
+   * @return the number of values
+   * @since 4.9.0
+   */
+  public long count() {
+    return count.get();
+  }
+
+  /**
+   * The largest recorded value.
+   *
+   * @return the maximum, or 0 if no value was recorded
+   * @since 4.9.0
+   */
+  public long max() {
+    return max.get();
+  }
+
+  /**
+   * The mean of the recorded values.
+   *
+   * @return the mean, or 0 if no value was recorded
+   * @since 4.9.0
+   */
+  public double mean() {
+    long currentCount = count.get();
+    return currentCount == 0 ? 0 : (double) sum.get() / currentCount;
+  }
+
+  /**
+   * The value below which the given percentage of the recorded values fall, for instance
+   * {@code percentile(99)} for the 99th percentile. As values are counted in buckets, this
+   * returns the largest value of the bucket the percentile falls into, never more than
+   * {@link #max()}.
+   *
+   * @param percentile the percentage of values, between 0 and 100
+   * @return the value at this percentile, or 0 if no value was recorded
+   * @since 4.9.0
+   */
+  public long percentile(double percentile) {
+    if (percentile < 0 || percentile > 100) {
+      throw new IllegalArgumentException("percentile needs to be between 0 and 100.");
+    }
+    long currentCount = count.get();
+    if (currentCount == 0) {
+      return 0;
+    }
+    long rank = Math.max(1, (long) Math.ceil(percentile / 100 * currentCount));
+    long seen = 0;
+    for (int bucket = 0; bucket < BUCKETS; bucket++) {
+      seen += counts.get(bucket);
+      if (seen >= rank) {
+        return Math.min(highestValueOf(bucket), max.get());
+      }
+    }
+    // Values recorded while iterating
+    return max.get();
+  }
+
+  static int bucketOf(long value) {
+    if (value < SUB_BUCKETS) {
+      return (int) value;
+    }
+    int magnitude = 63 - Long.numberOfLeadingZeros(value);
+    int shift = magnitude - SUB_BUCKET_BITS;
+    return SUB_BUCKETS + shift * SUB_BUCKETS + (int) ((value >> shift) - SUB_BUCKETS);
+  }
+
+  static long highestValueOf(int bucket) {
+    if (bucket < SUB_BUCKETS) {
+      return bucket;
+    }
+    int shift = (bucket - SUB_BUCKETS) / SUB_BUCKETS;
+    long lowest = (long) (SUB_BUCKETS + (bucket - SUB_BUCKETS) % SUB_BUCKETS) << shift;
+    return lowest + (1L << shift) - 1;
+  }
+}
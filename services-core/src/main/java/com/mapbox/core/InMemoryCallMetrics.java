@@ -0,0 +1,341 @@
+package com.mapbox.core;
+
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A {@link CallMetricsListener} aggregating the metrics of the calls into {@link Histogram}s, one
+ * set for each service type and profile, and one for the parsing of each response type, so
+ * percentiles can be looked at without shipping every call anywhere.
+ * <pre>
+ * InMemoryCallMetrics metrics = new InMemoryCallMetrics();
+ * MapboxService.setCallMetricsListener(metrics);
+ * ...
+ * long p99 = metrics.get("DirectionsService", "mapbox/driving").total().percentile(99);
+ * </pre>
+ *
+ * @since 4.9.0
+ */
+public final class InMemoryCallMetrics implements CallMetricsListener {
+
+  private final ConcurrentMap<String, CallHistograms> histograms = new ConcurrentHashMap<>();
+  private final ConcurrentMap<String, ParseHistograms> parseHistograms =
+    new ConcurrentHashMap<>();
+
+  /**
+   * Create a new instance of this class, holding no metrics yet.
+   *
+   * @since 4.9.0
+   */
+  public InMemoryCallMetrics() {
+  }
+
+  @Override
+  public void onCallCompleted(@NonNull CallMetrics metrics) {
+    String key = key(metrics.serviceType(), metrics.profile());
+    CallHistograms callHistograms = histograms.get(key);
+    if (callHistograms == null) {
+      CallHistograms newHistograms =
+        new CallHistograms(metrics.serviceType(), metrics.profile());
+      callHistograms = histograms.putIfAbsent(key, newHistograms);
+      if (callHistograms == null) {
+        callHistograms = newHistograms;
+      }
+    }
+    callHistograms.record(metrics);
+
+    String responseType = metrics.responseType();
+    if (responseType != null) {
+      ParseHistograms typeHistograms = parseHistograms.get(responseType);
+      if (typeHistograms == null) {
+        ParseHistograms newHistograms = new ParseHistograms(responseType);
+        typeHistograms = parseHistograms.putIfAbsent(responseType, newHistograms);
+        if (typeHistograms == null) {
+          typeHistograms = newHistograms;
+        }
+      }
+      typeHistograms.record(metrics);
+    }
+  }
+
+  /**
+   * The histograms of the calls made by the given service type with the given profile.
+   *
+   * @param serviceType the service type, such as {@code DirectionsService}
+   * @param profile     the profile, or null for the APIs which have none
+   * @return the histograms, or null if no such call completed yet
+   * @since 4.9.0
+   */
+  @Nullable
+  public CallHistograms get(@NonNull String serviceType, @Nullable String profile) {
+    return histograms.get(key(serviceType, profile));
+  }
+
+  /**
+   * The histograms of all the service types and profiles which completed calls.
+   *
+   * @return the histograms, in no particular order
+   * @since 4.9.0
+   */
+  @NonNull
+  public List<CallHistograms> getAll() {
+    return new ArrayList<>(histograms.values());
+  }
+
+  /**
+   * The histograms of the parsing of the given response type, whichever service received it.
+   *
+   * @param responseType the simple name of the response type, such as
+   *                     {@code DirectionsResponse}
+   * @return the histograms, or null if no such response was parsed yet
+   * @since 4.9.0
+   */
+  @Nullable
+  public ParseHistograms getByResponseType(@NonNull String responseType) {
+    return parseHistograms.get(responseType);
+  }
+
+  /**
+   * Drops all the metrics recorded so far.
+   *
+   * @since 4.9.0
+   */
+  public void clear() {
+    histograms.clear();
+    parseHistograms.clear();
+  }
+
+  private static String key(String serviceType, String profile) {
+    return profile == null ? serviceType : serviceType + '/' + profile;
+  }
+
+  /**
+   * The histograms of the calls of a service type and profile. Durations are recorded in
+   * nanoseconds, and each histogram only holds the calls which went through its phase, see
+   * {@link CallMetrics}.
+   *
+   * @since 4.9.0
+   */
+  public static final class CallHistograms {
+
+    private final String serviceType;
+    private final String profile;
+    private final AtomicLong failures = new AtomicLong();
+    private final Histogram dns = new Histogram();
+    private final Histogram connect = new Histogram();
+    private final Histogram timeToFirstByte = new Histogram();
+    private final Histogram download = new Histogram();
+    private final Histogram parse = new Histogram();
+    private final Histogram total = new Histogram();
+    private final Histogram responseBytes = new Histogram();
+
+    CallHistograms(String serviceType, String profile) {
+      this.serviceType = serviceType;
+      this.profile = profile;
+    }
+
+    void record(CallMetrics metrics) {
+      if (metrics.isFailed()) {
+        failures.incrementAndGet();
+      }
+      recordIfSet(dns, metrics.dnsNanos());
+      recordIfSet(connect, metrics.connectNanos());
+      recordIfSet(timeToFirstByte, metrics.timeToFirstByteNanos());
+      recordIfSet(download, metrics.downloadNanos());
+      recordIfSet(parse, metrics.parseNanos());
+      total.record(metrics.totalNanos());
+      recordIfSet(responseBytes, metrics.responseBytes());
+    }
+
+    static void recordIfSet(Histogram histogram, long value) {
+      if (value >= 0) {
+        histogram.record(value);
+      }
+    }
+
+    /**
+     * The service type of these calls.
+     *
+     * @return the service type
+     * @since 4.9.0
+     */
+    @NonNull
+    public String serviceType() {
+      return serviceType;
+    }
+
+    /**
+     * The profile of these calls.
+     *
+     * @return the profile, or null for the APIs which have none
+     * @since 4.9.0
+     */
+    @Nullable
+    public String profile() {
+      return profile;
+    }
+
+    /**
+     * The number of calls which failed without a response. They're also part of the
+     * {@link #total()} histogram.
+     *
+     * @return the number of failed calls
+     * @since 4.9.0
+     */
+    public long failures() {
+      return failures.get();
+    }
+
+    /**
+     * The time spent resolving host names, for the calls which needed to.
+     *
+     * @return the DNS lookup histogram
+     * @since 4.9.0
+     */
+    @NonNull
+    public Histogram dns() {
+      return dns;
+    }
+
+    /**
+     * The time spent opening connections, for the calls which couldn't reuse one.
+     *
+     * @return the connection histogram
+     * @since 4.9.0
+     */
+    @NonNull
+    public Histogram connect() {
+      return connect;
+    }
+
+    /**
+     * The time from sending the request until the response headers arrived.
+     *
+     * @return the time to first byte histogram
+     * @since 4.9.0
+     */
+    @NonNull
+    public Histogram timeToFirstByte() {
+      return timeToFirstByte;
+    }
+
+    /**
+     * The time spent reading response bodies.
+     *
+     * @return the download histogram
+     * @since 4.9.0
+     */
+    @NonNull
+    public Histogram download() {
+      return download;
+    }
+
+    /**
+     * The time spent parsing response bodies.
+     *
+     * @return the parse histogram
+     * @since 4.9.0
+     */
+    @NonNull
+    public Histogram parse() {
+      return parse;
+    }
+
+    /**
+     * The time taken by the calls from start to finish. Every call is counted here.
+     *
+     * @return the total duration histogram
+     * @since 4.9.0
+     */
+    @NonNull
+    public Histogram total() {
+      return total;
+    }
+
+    /**
+     * The size in bytes of the response bodies as received.
+     *
+     * @return the response size histogram
+     * @since 4.9.0
+     */
+    @NonNull
+    public Histogram responseBytes() {
+      return responseBytes;
+    }
+  }
+
+  /**
+   * The histograms of the parsing of a response type. Only the calls which completed with a
+   * parsed response are counted here.
+   *
+   * @since 4.9.0
+   */
+  public static final class ParseHistograms {
+
+    private final String responseType;
+    private final Histogram parse = new Histogram();
+    private final Histogram parsedBytes = new Histogram();
+    private final Histogram allocatedBytes = new Histogram();
+
+    ParseHistograms(String responseType) {
+      this.responseType = responseType;
+    }
+
+    void record(CallMetrics metrics) {
+      CallHistograms.recordIfSet(parse, metrics.parseNanos());
+      CallHistograms.recordIfSet(parsedBytes, metrics.parsedBytes());
+      CallHistograms.recordIfSet(allocatedBytes, metrics.allocatedBytes());
+    }
+
+    /**
+     * The response type these histograms are about.
+     *
+     * @return the simple name of the response type
+     * @since 4.9.0
+     */
+    @NonNull
+    public String responseType() {
+      return responseType;
+    }
+
+    /**
+     * The time spent parsing responses, in nanoseconds.
+     *
+     * @return the parse histogram
+     * @since 4.9.0
+     */
+    @NonNull
+    public Histogram parse() {
+      return parse;
+    }
+
+    /**
+     * The size in bytes of the response bodies as parsed, after decompression.
+     *
+     * @return the parsed size histogram
+     * @since 4.9.0
+     */
+    @NonNull
+    public Histogram parsedBytes() {
+      return parsedBytes;
+    }
+
+    /**
+     * An estimate of the bytes allocated while parsing responses. It stays empty where
+     * allocations can't be counted, such as on Android.
+     *
+     * @return the allocation histogram
+     * @since 4.9.0
+     */
+    @NonNull
+    public Histogram allocatedBytes() {
+      return allocatedBytes;
+    }
+  }
+}
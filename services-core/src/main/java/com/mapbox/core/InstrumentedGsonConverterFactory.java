@@ -0,0 +1,140 @@
+package com.mapbox.core;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+
+import okhttp3.RequestBody;
+import okhttp3.ResponseBody;
+import okio.Buffer;
+import okio.ForwardingSource;
+import okio.Okio;
+import okio.Source;
+import retrofit2.Converter;
+import retrofit2.Retrofit;
+import retrofit2.converter.gson.GsonConverterFactory;
+
+/**
+ * Parses response bodies with Gson like {@link GsonConverterFactory} does, and reports to the
+ * {@link CallRecorder} of the call a body belongs to how long parsing took, how many bytes were
+ * parsed and roughly how much memory it allocated, along with the response type.
+ * <p>
+ * Bodies are parsed from their source stream as they are downloaded, unless
+ * {@link MapboxService#setBufferedParsing(boolean)} asks for the body to be fully read into memory
+ * first, which separates the parse time from the download time. Request bodies are left to the
+ * {@link GsonConverterFactory}.
+ * </p>
+ *
+ * @since 4.9.0
+ */
+final class InstrumentedGsonConverterFactory extends Converter.Factory {
+
+  private final Gson gson;
+  private final GsonConverterFactory delegate;
+
+  InstrumentedGsonConverterFactory(Gson gson) {
+    this.gson = gson;
+    this.delegate = GsonConverterFactory.create(gson);
+  }
+
+  @Override
+  public Converter<ResponseBody, ?> responseBodyConverter(Type type, Annotation[] annotations,
+                                                          Retrofit retrofit) {
+    TypeToken<?> typeToken = TypeToken.get(type);
+    return new ResponseBodyConverter<>(
+      gson, gson.getAdapter(typeToken), typeToken.getRawType().getSimpleName());
+  }
+
+  @Override
+  public Converter<?, RequestBody> requestBodyConverter(Type type,
+                                                        Annotation[] parameterAnnotations,
+                                                        Annotation[] methodAnnotations,
+                                                        Retrofit retrofit) {
+    return delegate.requestBodyConverter(type, parameterAnnotations, methodAnnotations, retrofit);
+  }
+
+  /**
+   * Parses a response body into a {@code T}, recording the parse if the call is instrumented.
+   *
+   * @param <T> Type parameter for response.
+   */
+  static final class ResponseBodyConverter<T> implements Converter<ResponseBody, T> {
+
+    private final Gson gson;
+    private final TypeAdapter<T> adapter;
+    private final String responseType;
+
+    ResponseBodyConverter(Gson gson, TypeAdapter<T> adapter, String responseType) {
+      this.gson = gson;
+      this.adapter = adapter;
+      this.responseType = responseType;
+    }
+
+    @Override
+    public T convert(ResponseBody value) throws IOException {
+      try {
+        CallRecorder recorder = CallRecorder.takeCurrent();
+        if (MapboxService.isBufferedParsing()) {
+          // Reading the whole body first ends the download before parsing starts
+          byte[] bytes = value.bytes();
+          Reader reader = ResponseBody.create(value.contentType(), bytes).charStream();
+          return parse(recorder, reader, null, bytes.length);
+        }
+        if (recorder == null) {
+          return adapter.read(gson.newJsonReader(value.charStream()));
+        }
+        // Going through a body for the reader keeps the byte order mark handling of charStream()
+        CountingSource source = new CountingSource(value.source());
+        Reader reader = ResponseBody.create(
+          value.contentType(), value.contentLength(), Okio.buffer(source)).charStream();
+        return parse(recorder, reader, source, -1);
+      } finally {
+        value.close();
+      }
+    }
+
+    private T parse(CallRecorder recorder, Reader reader, CountingSource source, long size)
+      throws IOException {
+      JsonReader jsonReader = gson.newJsonReader(reader);
+      if (recorder == null) {
+        return adapter.read(jsonReader);
+      }
+      long allocatedBefore = AllocationCounter.currentThreadAllocatedBytes();
+      recorder.parseStart();
+      try {
+        return adapter.read(jsonReader);
+      } finally {
+        long allocatedAfter = AllocationCounter.currentThreadAllocatedBytes();
+        recorder.parseEnd(responseType, source != null ? source.count : size,
+          allocatedBefore >= 0 && allocatedAfter >= 0 ? allocatedAfter - allocatedBefore : -1);
+      }
+    }
+  }
+
+  /**
+   * Counts the bytes read from the body of a response.
+   */
+  private static final class CountingSource extends ForwardingSource {
+
+    long count;
+
+    CountingSource(Source delegate) {
+      super(delegate);
+    }
+
+    @Override
+    public long read(Buffer sink, long byteCount) throws IOException {
+      long read = super.read(sink, byteCount);
+      if (read > 0) {
+        count += read;
+      }
+      return read;
+    }
+  }
+}
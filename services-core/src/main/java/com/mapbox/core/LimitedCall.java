@@ -0,0 +1,102 @@
+package com.mapbox.core;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+
+import okhttp3.Request;
+import retrofit2.Call;
+import retrofit2.Callback;
+import retrofit2.Response;
+
+/**
+ * A {@link Call} holding a permit of a {@link ConcurrencyLimiter} while it's in flight.
+ *
+ * @param <T> Type parameter for response.
+ * @since 4.9.0
+ */
+final class LimitedCall<T> implements Call<T> {
+
+  private final Call<T> delegate;
+  private final ConcurrencyLimiter limiter;
+
+  LimitedCall(Call<T> delegate, ConcurrencyLimiter limiter) {
+    this.delegate = delegate;
+    this.limiter = limiter;
+  }
+
+  @Override
+  public Response<T> execute() throws IOException {
+    try {
+      limiter.acquire();
+    } catch (InterruptedException interrupted) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException("Interrupted while waiting for a call permit.");
+    }
+    try {
+      return delegate.execute();
+    } finally {
+      limiter.release();
+    }
+  }
+
+  @Override
+  public void enqueue(final Callback<T> callback) {
+    limiter.enqueue(new Runnable() {
+      @Override
+      public void run() {
+        try {
+          delegate.enqueue(new Callback<T>() {
+            @Override
+            public void onResponse(Call<T> call, Response<T> response) {
+              try {
+                limiter.release();
+              } finally {
+                callback.onResponse(LimitedCall.this, response);
+              }
+            }
+
+            @Override
+            public void onFailure(Call<T> call, Throwable throwable) {
+              try {
+                limiter.release();
+              } finally {
+                callback.onFailure(LimitedCall.this, throwable);
+              }
+            }
+          });
+        } catch (RuntimeException exception) {
+          // Might run on the thread of another call releasing its permit, which must not see it
+          limiter.release();
+          callback.onFailure(LimitedCall.this, exception);
+        }
+      }
+    });
+  }
+
+  @Override
+  public boolean isExecuted() {
+    return delegate.isExecuted();
+  }
+
+  @Override
+  public void cancel() {
+    // A call still waiting for a permit fails right away once it gets one
+    delegate.cancel();
+  }
+
+  @Override
+  public boolean isCanceled() {
+    return delegate.isCanceled();
+  }
+
+  @SuppressWarnings("CloneDoesntCallSuperClone")
+  @Override
+  public Call<T> clone() {
+    return new LimitedCall<>(delegate.clone(), limiter);
+  }
+
+  @Override
+  public Request request() {
+    return delegate.request();
+  }
+}
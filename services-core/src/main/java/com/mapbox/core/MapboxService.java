@@ -1,13 +1,21 @@
 package com.mapbox.core;
 
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+
+import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 
 import java.io.IOException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
+import okhttp3.Dispatcher;
 import okhttp3.OkHttpClient;
 import okhttp3.logging.HttpLoggingInterceptor;
 import retrofit2.Call;
 import retrofit2.Callback;
+import retrofit2.Converter;
 import retrofit2.Response;
 import retrofit2.Retrofit;
 import retrofit2.converter.gson.GsonConverterFactory;
@@ -22,10 +30,21 @@ import retrofit2.converter.gson.GsonConverterFactory;
  */
 public abstract class MapboxService<T, S> {
   protected static final int MAX_URL_SIZE = 1024 * 8;
+  private static volatile OkHttpClient sharedOkHttpClient;
+  private static volatile ConcurrencyLimiter defaultConcurrencyLimiter;
+  private static volatile RetryPolicy defaultRetryPolicy;
+  private static volatile CallCoalescer defaultCallCoalescer;
+  private static volatile CallMetricsListener callMetricsListener;
+  private static volatile boolean bufferedParsing;
+  private static final ConcurrentMap<Class<?>, RateLimiter> RATE_LIMITERS =
+    new ConcurrentHashMap<>();
   private final Class<S> serviceType;
   private boolean enableDebug;
-  protected OkHttpClient okHttpClient;
+  protected volatile OkHttpClient okHttpClient;
   private okhttp3.Call.Factory callFactory;
+  private ConcurrencyLimiter concurrencyLimiter;
+  private RetryPolicy retryPolicy;
+  private CallCoalescer callCoalescer;
   private Retrofit retrofit;
   private Call<T> call;
   private S service;
@@ -59,7 +78,12 @@ public abstract class MapboxService<T, S> {
   protected abstract Call<T> initializeCall();
 
   /**
-   * Get call if already created, otherwise get it from subclass implementation.
+   * Get call if already created, otherwise get it from subclass implementation. If a
+   * {@link RateLimiter} or a {@link ConcurrencyLimiter} applies to this service, the call waits
+   * for them to let it through before going out. If a {@link RetryPolicy} applies, transient
+   * failures are retried, each retry waiting for the rate limiter again but holding on to the
+   * permit of the concurrency limiter. If a {@link CallCoalescer} applies, the call shares the
+   * request of an identical call already in flight instead of going through all of the above.
    *
    * @return call
    * @since 3.0.0
@@ -67,6 +91,22 @@ public abstract class MapboxService<T, S> {
   protected Call<T> getCall() {
     if (call == null) {
       call = initializeCall();
+      RateLimiter rateLimiter = getRateLimiter();
+      if (rateLimiter != null) {
+        call = new RateLimitedCall<>(call, rateLimiter);
+      }
+      RetryPolicy policy = getRetryPolicy();
+      if (policy != null) {
+        call = new RetryingCall<>(call, policy);
+      }
+      ConcurrencyLimiter limiter = getConcurrencyLimiter();
+      if (limiter != null) {
+        call = new LimitedCall<>(call, limiter);
+      }
+      CallCoalescer coalescer = getCallCoalescer();
+      if (coalescer != null) {
+        call = new CoalescingCall<>(call, coalescer, getClass(), resolveCallFactory());
+      }
     }
 
     return call;
@@ -95,6 +135,20 @@ public abstract class MapboxService<T, S> {
     getCall().enqueue(callback);
   }
 
+  /**
+   * Starts the request asynchronously, just like {@link #enqueueCall(Callback)}, and returns a
+   * {@link ResponseFuture} completed with the same response that callback would receive.
+   * Cancelling the future cancels the call.
+   *
+   * @return the pending response
+   * @since 4.9.0
+   */
+  public ResponseFuture<T> executeAsync() {
+    ResponseFuture<T> future = new ResponseFuture<>(getCall());
+    enqueueCall(future.completingCallback());
+    return future;
+  }
+
   /**
    * Wrapper method for Retrofits {@link Call#cancel()} call, important to manually cancel call if
    * the user dismisses the calling activity or no longer needs the returned results.
@@ -118,31 +172,63 @@ public abstract class MapboxService<T, S> {
   /**
    * Creates the Retrofit object and the service if they are not already created. Subclasses can
    * override getGsonBuilder to add anything to the GsonBuilder.
+   * <p>
+   * Retrofit instances and services are shared by all the instances of the same service class
+   * using the same base url and call factory, so they are only built once for all of them. This
+   * only applies to the shared client and to call factories set through
+   * {@link #setCallFactory(okhttp3.Call.Factory)}, since a client built for a single instance,
+   * for instance to log its requests, can't be used by any other.
+   * </p><p>
+   * When calls are made through an {@link OkHttpClient}, the call factory is wrapped and
+   * responses are parsed by an instrumented Gson converter, to record the {@link CallMetrics} of
+   * every call while a {@link CallMetricsListener} is set.
+   * </p>
    *
    * @return new service if not already created, otherwise the existing service
    * @since 3.0.0
    */
+  @SuppressWarnings("unchecked")
   protected S getService() {
     // No need to recreate it
     if (service != null) {
       return service;
     }
 
-    Retrofit.Builder retrofitBuilder = new Retrofit.Builder()
-      .baseUrl(baseUrl())
-      .addConverterFactory(GsonConverterFactory.create(getGsonBuilder().create()));
-
-    if (getCallFactory() != null) {
-      retrofitBuilder.callFactory(getCallFactory());
+    okhttp3.Call.Factory factory = resolveCallFactory();
+    ServiceCache.Entry entry;
+    if (getCallFactory() != null || factory == getSharedOkHttpClient()) {
+      ServiceCache.Key key = new ServiceCache.Key(getClass(), serviceType, baseUrl(), factory);
+      entry = ServiceCache.get(key);
+      if (entry == null) {
+        entry = ServiceCache.putIfAbsent(key, createServiceEntry(factory));
+      }
     } else {
-      retrofitBuilder.client(getOkHttpClient());
+      // Caching it would keep the client alive with nothing left to use it
+      entry = createServiceEntry(factory);
     }
 
-    retrofit = retrofitBuilder.build();
-    service = (S) retrofit.create(serviceType);
+    retrofit = entry.retrofit;
+    service = (S) entry.service;
     return service;
   }
 
+  private ServiceCache.Entry createServiceEntry(okhttp3.Call.Factory factory) {
+    Gson gson = getGsonBuilder().create();
+    Converter.Factory converterFactory = GsonConverterFactory.create(gson);
+    okhttp3.Call.Factory serviceCallFactory = factory;
+    if (factory instanceof OkHttpClient) {
+      converterFactory = new InstrumentedGsonConverterFactory(gson);
+      serviceCallFactory =
+        new MetricsCallFactory((OkHttpClient) factory, serviceType.getSimpleName());
+    }
+    Retrofit newRetrofit = new Retrofit.Builder()
+      .baseUrl(baseUrl())
+      .addConverterFactory(converterFactory)
+      .callFactory(serviceCallFactory)
+      .build();
+    return new ServiceCache.Entry(newRetrofit, newRetrofit.create(serviceType));
+  }
+
   /**
    * Returns the retrofit instance.
    *
@@ -155,6 +241,8 @@ public abstract class MapboxService<T, S> {
 
   /**
    * Gets the GsonConverterFactory. Subclasses can override to register TypeAdapterFactories, etc.
+   * Since the resulting converter is shared by all the instances of a service class, the builder
+   * shouldn't depend on the state of a particular instance.
    *
    * @return GsonBuilder for Retrofit
    * @since 3.0.0
@@ -204,23 +292,266 @@ public abstract class MapboxService<T, S> {
   }
 
   /**
-   * Used Internally.
+   * Gets the {@link ConcurrencyLimiter} applying to the calls of this service.
+   *
+   * @return the limiter set on this service, otherwise the default one, or null if there's none
+   * @since 4.9.0
+   */
+  @Nullable
+  public ConcurrencyLimiter getConcurrencyLimiter() {
+    return concurrencyLimiter != null ? concurrencyLimiter : defaultConcurrencyLimiter;
+  }
+
+  /**
+   * Limits the number of calls in flight at once, together with all the other services sharing
+   * the same limiter. This needs to be set before the call gets created.
+   *
+   * @param concurrencyLimiter the limiter to apply, or null to fall back to the default one
+   * @since 4.9.0
+   */
+  public void setConcurrencyLimiter(@Nullable ConcurrencyLimiter concurrencyLimiter) {
+    this.concurrencyLimiter = concurrencyLimiter;
+  }
+
+  /**
+   * Sets the {@link ConcurrencyLimiter} applying to all the services which don't have their own.
+   * Only calls created after this call are affected.
+   *
+   * @param concurrencyLimiter the default limiter, or null to not limit calls by default
+   * @since 4.9.0
+   */
+  public static void setDefaultConcurrencyLimiter(@Nullable ConcurrencyLimiter concurrencyLimiter) {
+    defaultConcurrencyLimiter = concurrencyLimiter;
+  }
+
+  /**
+   * Gets the {@link RateLimiter} of the API family this service belongs to.
+   *
+   * @return the rate limiter set for this service class or one of its superclasses, or null if
+   *   there's none
+   * @since 4.9.0
+   */
+  @Nullable
+  public RateLimiter getRateLimiter() {
+    if (RATE_LIMITERS.isEmpty()) {
+      return null;
+    }
+    for (Class<?> type = getClass(); type != MapboxService.class; type = type.getSuperclass()) {
+      RateLimiter rateLimiter = RATE_LIMITERS.get(type);
+      if (rateLimiter != null) {
+        return rateLimiter;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Sets the {@link RateLimiter} shared by all the calls of an API family, identified by its
+   * service class, for instance {@code MapboxMatrix.class}. Only calls created after this call are
+   * affected.
+   *
+   * @param serviceClass the service class of the API family
+   * @param rateLimiter  the rate limiter to apply, or null to remove the current one
+   * @since 4.9.0
+   */
+  public static void setRateLimiter(@NonNull Class<? extends MapboxService> serviceClass,
+                                    @Nullable RateLimiter rateLimiter) {
+    if (rateLimiter == null) {
+      RATE_LIMITERS.remove(serviceClass);
+    } else {
+      RATE_LIMITERS.put(serviceClass, rateLimiter);
+    }
+  }
+
+  /**
+   * Gets the {@link RetryPolicy} applying to the calls of this service.
+   *
+   * @return the policy set on this service, otherwise the default one, or null if there's none
+   * @since 4.9.0
+   */
+  @Nullable
+  public RetryPolicy getRetryPolicy() {
+    return retryPolicy != null ? retryPolicy : defaultRetryPolicy;
+  }
+
+  /**
+   * Retries the calls of this service failing with a transient error, and optionally hedges slow
+   * ones, as described by the given policy. This needs to be set before the call gets created.
+   *
+   * @param retryPolicy the policy to apply, or null to fall back to the default one
+   * @since 4.9.0
+   */
+  public void setRetryPolicy(@Nullable RetryPolicy retryPolicy) {
+    this.retryPolicy = retryPolicy;
+  }
+
+  /**
+   * Sets the {@link RetryPolicy} applying to all the services which don't have their own. Only
+   * calls created after this call are affected.
+   *
+   * @param retryPolicy the default policy, or null to not retry calls by default
+   * @since 4.9.0
+   */
+  public static void setDefaultRetryPolicy(@Nullable RetryPolicy retryPolicy) {
+    defaultRetryPolicy = retryPolicy;
+  }
+
+  /**
+   * Gets the {@link CallCoalescer} applying to the calls of this service.
+   *
+   * @return the coalescer set on this service, otherwise the default one, or null if there's none
+   * @since 4.9.0
+   */
+  @Nullable
+  public CallCoalescer getCallCoalescer() {
+    return callCoalescer != null ? callCoalescer : defaultCallCoalescer;
+  }
+
+  /**
+   * Lets the calls of this service share the request of identical calls in flight, together
+   * with all the other services sharing the same coalescer. This needs to be set before the call
+   * gets created.
+   *
+   * @param callCoalescer the coalescer to use, or null to fall back to the default one
+   * @since 4.9.0
+   */
+  public void setCallCoalescer(@Nullable CallCoalescer callCoalescer) {
+    this.callCoalescer = callCoalescer;
+  }
+
+  /**
+   * Sets the {@link CallCoalescer} applying to all the services which don't have their own. Only
+   * calls created after this call are affected.
+   *
+   * @param callCoalescer the default coalescer, or null to not coalesce calls by default
+   * @since 4.9.0
+   */
+  public static void setDefaultCallCoalescer(@Nullable CallCoalescer callCoalescer) {
+    defaultCallCoalescer = callCoalescer;
+  }
+
+  /**
+   * Gets the {@link CallMetricsListener} receiving the metrics of all the service calls.
+   *
+   * @return the listener, or null if metrics aren't recorded
+   * @since 4.9.0
+   */
+  @Nullable
+  public static CallMetricsListener getCallMetricsListener() {
+    return callMetricsListener;
+  }
+
+  /**
+   * Records the latency and payload size of every call made through an {@link OkHttpClient},
+   * broken down by phase, and reports them to the given listener along with the service type
+   * and profile of the call. Only calls created after this call are affected.
+   * <p>
+   * Response bodies are parsed while they are downloaded, so the parse time only covers what's
+   * left to parse once the last byte arrived, the rest of it being part of the download time,
+   * unless {@link #setBufferedParsing(boolean)} is enabled.
+   * </p>
+   *
+   * @param listener the listener, such as {@link InMemoryCallMetrics}, or null to stop recording
+   *                 metrics
+   * @since 4.9.0
+   */
+  public static void setCallMetricsListener(@Nullable CallMetricsListener listener) {
+    callMetricsListener = listener;
+  }
+
+  /**
+   * Whether response bodies are fully read before being parsed.
+   *
+   * @return true if parsing is buffered, false if bodies are parsed as they are downloaded
+   * @since 4.9.0
+   */
+  public static boolean isBufferedParsing() {
+    return bufferedParsing;
+  }
+
+  /**
+   * Whether the services calling through an {@link OkHttpClient} fully read response bodies into
+   * memory before parsing them, rather than parsing them from the stream as they are downloaded,
+   * which is the default. Buffering the body makes the parse time reported in
+   * {@link CallMetrics} cover the whole parse, and only that, at the cost of holding the raw body
+   * in memory until it is parsed. It applies to the responses converted after this call.
+   *
+   * @param buffered true to read bodies before parsing them, false to parse them as they are
+   *                 downloaded
+   * @since 4.9.0
+   */
+  public static void setBufferedParsing(boolean buffered) {
+    bufferedParsing = buffered;
+  }
+
+  /**
+   * Returns the {@link OkHttpClient} all the services derive their own client from, using
+   * {@link OkHttpClient#newBuilder()}. Clients derived this way share the connection pool,
+   * dispatcher and TLS session cache of this client, so requests made by different service
+   * instances reuse open connections instead of going through a new handshake each time.
+   * <p>
+   * Unless replaced through {@link #setSharedOkHttpClient(OkHttpClient)}, the default client is
+   * created on first use. As every service request goes through its dispatcher, it allows as many
+   * concurrent asynchronous requests per host as it does in total.
+   * </p>
+   *
+   * @return the process-wide shared client
+   * @since 4.9.0
+   */
+  @NonNull
+  public static OkHttpClient getSharedOkHttpClient() {
+    OkHttpClient client = sharedOkHttpClient;
+    return client != null ? client : SharedOkHttpClientHolder.CLIENT;
+  }
+
+  /**
+   * Replaces the {@link OkHttpClient} all the services derive their own client from, for
+   * instance to share the connection pool and dispatcher of the client used by the rest of the
+   * application. Only clients created after this call are affected.
+   *
+   * @param client the client to share, or null to go back to the default one
+   * @since 4.9.0
+   */
+  public static void setSharedOkHttpClient(@Nullable OkHttpClient client) {
+    sharedOkHttpClient = client;
+  }
+
+  /**
+   * Used Internally. Clients are derived from the shared one and cheap to create, so when called
+   * concurrently for the first time this might build more than one of them rather than have
+   * callers wait on a lock.
    *
    * @return OkHttpClient
    * @since 1.0.0
    */
-  protected synchronized OkHttpClient getOkHttpClient() {
+  protected OkHttpClient getOkHttpClient() {
     if (okHttpClient == null) {
       if (isEnableDebug()) {
         HttpLoggingInterceptor logging = new HttpLoggingInterceptor();
         logging.setLevel(HttpLoggingInterceptor.Level.BASIC);
-        OkHttpClient.Builder httpClient = new OkHttpClient.Builder();
+        OkHttpClient.Builder httpClient = getSharedOkHttpClient().newBuilder();
         httpClient.addInterceptor(logging);
         okHttpClient = httpClient.build();
       } else {
-        okHttpClient = new OkHttpClient();
+        okHttpClient = getSharedOkHttpClient();
       }
     }
     return okHttpClient;
   }
+
+  // The factory the calls of this service go through, which is also what they are cached and
+  // coalesced by
+  private okhttp3.Call.Factory resolveCallFactory() {
+    return getCallFactory() != null ? getCallFactory() : getOkHttpClient();
+  }
+
+  private static final class SharedOkHttpClientHolder {
+    static final OkHttpClient CLIENT;
+
+    static {
+      Dispatcher dispatcher = new Dispatcher();
+      dispatcher.setMaxRequestsPerHost(dispatcher.getMaxRequests());
+      CLIENT = new OkHttpClient.Builder().dispatcher(dispatcher).build();
+    }
+  }
 }
@@ -0,0 +1,86 @@
+package com.mapbox.core;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import okhttp3.Call;
+import okhttp3.HttpUrl;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+
+/**
+ * The call factory of the services using an {@link OkHttpClient}, which records the
+ * {@link CallMetrics} of their calls while a {@link CallMetricsListener} is set. Calls are then
+ * made through a client derived from the original one, sharing its connection pool and
+ * dispatcher, whose event listeners also feed a {@link CallRecorder} tagged onto the request.
+ *
+ * @since 4.9.0
+ */
+final class MetricsCallFactory implements Call.Factory {
+
+  /**
+   * The APIs whose path starts with {@code /{api}/v{version}/{user}/{profile}}.
+   */
+  private static final Set<String> PROFILE_APIS = new HashSet<>(Arrays.asList(
+    "directions", "directions-matrix", "directions-refresh", "isochrone", "matching",
+    "optimized-trips"));
+
+  private final OkHttpClient client;
+  private final String serviceType;
+  private volatile OkHttpClient instrumentedClient;
+
+  MetricsCallFactory(OkHttpClient client, String serviceType) {
+    this.client = client;
+    this.serviceType = serviceType;
+  }
+
+  @Override
+  public Call newCall(Request request) {
+    CallMetricsListener listener = MapboxService.getCallMetricsListener();
+    if (listener == null) {
+      return client.newCall(request);
+    }
+    CallRecorder recorder = new CallRecorder(listener, serviceType, profile(request.url()));
+    return instrumentedClient().newCall(
+      request.newBuilder().tag(CallRecorder.class, recorder).build());
+  }
+
+  /**
+   * Derived on first use, so clients are left alone as long as metrics aren't recorded. Racing
+   * threads might derive more than one, which is harmless.
+   */
+  private OkHttpClient instrumentedClient() {
+    OkHttpClient instrumented = instrumentedClient;
+    if (instrumented == null) {
+      instrumented = client.newBuilder()
+        .eventListenerFactory(new MetricsEventListener.Factory(client.eventListenerFactory()))
+        .build();
+      instrumentedClient = instrumented;
+    }
+    return instrumented;
+  }
+
+  /**
+   * Extracts the profile of a request from its path: the user and profile for the routing APIs,
+   * the endpoint for Geocoding.
+   *
+   * @param url the url of the request
+   * @return the profile, or null if the API has none
+   */
+  static String profile(HttpUrl url) {
+    List<String> segments = url.pathSegments();
+    if (segments.size() < 3) {
+      return null;
+    }
+    String api = segments.get(0);
+    if (PROFILE_APIS.contains(api) && segments.size() >= 4) {
+      return segments.get(2) + '/' + segments.get(3);
+    }
+    if ("geocoding".equals(api)) {
+      return segments.get(2);
+    }
+    return null;
+  }
+}
@@ -0,0 +1,167 @@
+package com.mapbox.core;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Proxy;
+import java.util.List;
+
+import okhttp3.Call;
+import okhttp3.Connection;
+import okhttp3.EventListener;
+import okhttp3.Handshake;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
+
+/**
+ * An {@link EventListener} feeding the {@link CallRecorder} of a call, and forwarding every event
+ * to the listener the client was configured with so it keeps working as before.
+ *
+ * @since 4.9.0
+ */
+final class MetricsEventListener extends EventListener {
+
+  private final EventListener delegate;
+  private final CallRecorder recorder;
+
+  MetricsEventListener(EventListener delegate, CallRecorder recorder) {
+    this.delegate = delegate;
+    this.recorder = recorder;
+  }
+
+  @Override
+  public void callStart(Call call) {
+    recorder.callStart();
+    delegate.callStart(call);
+  }
+
+  @Override
+  public void dnsStart(Call call, String domainName) {
+    recorder.dnsStart();
+    delegate.dnsStart(call, domainName);
+  }
+
+  @Override
+  public void dnsEnd(Call call, String domainName, List<InetAddress> inetAddressList) {
+    recorder.dnsEnd();
+    delegate.dnsEnd(call, domainName, inetAddressList);
+  }
+
+  @Override
+  public void connectStart(Call call, InetSocketAddress inetSocketAddress, Proxy proxy) {
+    recorder.connectStart();
+    delegate.connectStart(call, inetSocketAddress, proxy);
+  }
+
+  @Override
+  public void secureConnectStart(Call call) {
+    delegate.secureConnectStart(call);
+  }
+
+  @Override
+  public void secureConnectEnd(Call call, Handshake handshake) {
+    delegate.secureConnectEnd(call, handshake);
+  }
+
+  @Override
+  public void connectEnd(Call call, InetSocketAddress inetSocketAddress, Proxy proxy,
+                         Protocol protocol) {
+    recorder.connectEnd();
+    delegate.connectEnd(call, inetSocketAddress, proxy, protocol);
+  }
+
+  @Override
+  public void connectFailed(Call call, InetSocketAddress inetSocketAddress, Proxy proxy,
+                            Protocol protocol, IOException ioe) {
+    // The time spent on a failed route still delays the call
+    recorder.connectEnd();
+    delegate.connectFailed(call, inetSocketAddress, proxy, protocol, ioe);
+  }
+
+  @Override
+  public void connectionAcquired(Call call, Connection connection) {
+    delegate.connectionAcquired(call, connection);
+  }
+
+  @Override
+  public void connectionReleased(Call call, Connection connection) {
+    delegate.connectionReleased(call, connection);
+  }
+
+  @Override
+  public void requestHeadersStart(Call call) {
+    recorder.requestStart();
+    delegate.requestHeadersStart(call);
+  }
+
+  @Override
+  public void requestHeadersEnd(Call call, Request request) {
+    delegate.requestHeadersEnd(call, request);
+  }
+
+  @Override
+  public void requestBodyStart(Call call) {
+    delegate.requestBodyStart(call);
+  }
+
+  @Override
+  public void requestBodyEnd(Call call, long byteCount) {
+    delegate.requestBodyEnd(call, byteCount);
+  }
+
+  @Override
+  public void responseHeadersStart(Call call) {
+    delegate.responseHeadersStart(call);
+  }
+
+  @Override
+  public void responseHeadersEnd(Call call, Response response) {
+    recorder.responseHeadersEnd(response.code());
+    delegate.responseHeadersEnd(call, response);
+  }
+
+  @Override
+  public void responseBodyStart(Call call) {
+    recorder.responseBodyStart();
+    delegate.responseBodyStart(call);
+  }
+
+  @Override
+  public void responseBodyEnd(Call call, long byteCount) {
+    recorder.responseBodyEnd(byteCount);
+    delegate.responseBodyEnd(call, byteCount);
+  }
+
+  @Override
+  public void callEnd(Call call) {
+    recorder.callEnd();
+    delegate.callEnd(call);
+  }
+
+  @Override
+  public void callFailed(Call call, IOException ioe) {
+    recorder.callFailed();
+    delegate.callFailed(call, ioe);
+  }
+
+  /**
+   * Creates a {@link MetricsEventListener} for the calls carrying a {@link CallRecorder}, and the
+   * listener of the original factory for the others.
+   */
+  static final class Factory implements EventListener.Factory {
+
+    private final EventListener.Factory delegate;
+
+    Factory(EventListener.Factory delegate) {
+      this.delegate = delegate;
+    }
+
+    @Override
+    public EventListener create(Call call) {
+      EventListener listener = delegate.create(call);
+      CallRecorder recorder = call.request().tag(CallRecorder.class);
+      return recorder != null ? new MetricsEventListener(listener, recorder) : listener;
+    }
+  }
+}
@@ -0,0 +1,129 @@
+package com.mapbox.core;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.concurrent.TimeUnit;
+
+import okhttp3.Request;
+import retrofit2.Call;
+import retrofit2.Callback;
+import retrofit2.Response;
+
+/**
+ * A {@link Call} which only goes out once its {@link RateLimiter} lets it, and feeds the rate
+ * limit headers of its response back to the limiter.
+ *
+ * @param <T> Type parameter for response.
+ * @since 4.9.0
+ */
+final class RateLimitedCall<T> implements Call<T> {
+
+  private final Call<T> delegate;
+  private final RateLimiter limiter;
+
+  RateLimitedCall(Call<T> delegate, RateLimiter limiter) {
+    this.delegate = delegate;
+    this.limiter = limiter;
+  }
+
+  @Override
+  public Response<T> execute() throws IOException {
+    return execute(null);
+  }
+
+  /**
+   * Executes the call once the limiter lets it, running the given task right before it goes out.
+   *
+   * @param onDispatch the task to run before the call goes out, or null
+   * @return the response
+   * @throws IOException if the call failed or the thread was interrupted while waiting
+   */
+  Response<T> execute(Runnable onDispatch) throws IOException {
+    long wait = limiter.reserve();
+    if (wait > 0) {
+      try {
+        TimeUnit.NANOSECONDS.sleep(wait);
+      } catch (InterruptedException interrupted) {
+        Thread.currentThread().interrupt();
+        throw new InterruptedIOException("Interrupted while waiting for the rate limit.");
+      }
+    }
+    if (onDispatch != null) {
+      onDispatch.run();
+    }
+    Response<T> response = delegate.execute();
+    limiter.update(response.raw());
+    return response;
+  }
+
+  @Override
+  public void enqueue(final Callback<T> callback) {
+    enqueue(callback, null);
+  }
+
+  /**
+   * Enqueues the call once the limiter lets it, running the given task right before it goes out.
+   *
+   * @param callback   the callback to notify
+   * @param onDispatch the task to run before the call goes out, or null
+   */
+  void enqueue(final Callback<T> callback, final Runnable onDispatch) {
+    final Callback<T> updatingCallback = new Callback<T>() {
+      @Override
+      public void onResponse(Call<T> call, Response<T> response) {
+        limiter.update(response.raw());
+        callback.onResponse(RateLimitedCall.this, response);
+      }
+
+      @Override
+      public void onFailure(Call<T> call, Throwable throwable) {
+        callback.onFailure(RateLimitedCall.this, throwable);
+      }
+    };
+
+    long wait = limiter.reserve();
+    if (wait <= 0) {
+      dispatch(updatingCallback, onDispatch);
+      return;
+    }
+    CallScheduler.schedule(new Runnable() {
+      @Override
+      public void run() {
+        dispatch(updatingCallback, onDispatch);
+      }
+    }, wait);
+  }
+
+  private void dispatch(Callback<T> callback, Runnable onDispatch) {
+    if (onDispatch != null) {
+      onDispatch.run();
+    }
+    delegate.enqueue(callback);
+  }
+
+  @Override
+  public boolean isExecuted() {
+    return delegate.isExecuted();
+  }
+
+  @Override
+  public void cancel() {
+    delegate.cancel();
+  }
+
+  @Override
+  public boolean isCanceled() {
+    return delegate.isCanceled();
+  }
+
+  @SuppressWarnings("CloneDoesntCallSuperClone")
+  @Override
+  public Call<T> clone() {
+    return new RateLimitedCall<>(delegate.clone(), limiter);
+  }
+
+  @Override
+  public Request request() {
+    return delegate.request();
+  }
+}
@@ -0,0 +1,148 @@
+package com.mapbox.core;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+import okhttp3.Response;
+
+/**
+ * Token bucket limiting the rate at which calls of a Mapbox API family go out, see
+ * {@link MapboxService#setRateLimiter(Class, RateLimiter)}. The bucket holds up to one period worth
+ * of permits, so calls can go out in a burst after a quiet time, and is refilled at a steady rate.
+ * <p>
+ * The limiter adapts to the rate limit headers of the responses: {@code X-Rate-Limit-Limit} and
+ * {@code X-Rate-Limit-Interval} replace the configured rate, and when the API answers with HTTP
+ * 429, no call goes out until {@code Retry-After} or {@code X-Rate-Limit-Reset} says the limit is
+ * lifted.
+ * </p>
+ *
+ * @since 4.9.0
+ */
+public final class RateLimiter {
+
+  private static final int HTTP_TOO_MANY_REQUESTS = 429;
+  private static final String HEADER_LIMIT = "X-Rate-Limit-Limit";
+  private static final String HEADER_INTERVAL = "X-Rate-Limit-Interval";
+  private static final String HEADER_RESET = "X-Rate-Limit-Reset";
+  private static final String HEADER_RETRY_AFTER = "Retry-After";
+
+  private final ReentrantLock lock = new ReentrantLock();
+  private double permitsPerNano;
+  private double maxPermits;
+  private double storedPermits;
+  private long nextFreeNanos;
+
+  /**
+   * Create a new instance of this class letting the given number of calls go out per period, such
+   * as 60 calls per minute.
+   *
+   * @param permits the number of calls per period, at least 1
+   * @param period  the length of the period
+   * @param unit    the unit of the period argument
+   * @since 4.9.0
+   */
+  public RateLimiter(int permits, long period, TimeUnit unit) {
+    if (permits < 1 || period <= 0) {
+      throw new IllegalArgumentException("permits and period need to be positive.");
+    }
+    this.permitsPerNano = permits / (double) unit.toNanos(period);
+    this.maxPermits = permits;
+    this.storedPermits = permits;
+    this.nextFreeNanos = System.nanoTime();
+  }
+
+  /**
+   * The rate calls currently go out at, which might have been adapted to the rate limit headers.
+   *
+   * @return the number of calls per second
+   * @since 4.9.0
+   */
+  public double permitsPerSecond() {
+    lock.lock();
+    try {
+      return permitsPerNano * TimeUnit.SECONDS.toNanos(1);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Takes a permit, which might only become valid some time from now.
+   *
+   * @return the time in nanoseconds to wait before the permit is valid, 0 if it is right away
+   */
+  long reserve() {
+    lock.lock();
+    try {
+      long now = System.nanoTime();
+      refill(now);
+      // Whatever the bucket lacks is paid for by waiting until it refilled
+      double fromStored = Math.min(1, storedPermits);
+      storedPermits -= fromStored;
+      nextFreeNanos = Math.max(nextFreeNanos, now) + (long) ((1 - fromStored) / permitsPerNano);
+      return Math.max(0, nextFreeNanos - now);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Adapts the rate to the rate limit headers of a response.
+   *
+   * @param response the raw response of a call
+   */
+  void update(Response response) {
+    long blockedFor = -1;
+    if (response.code() == HTTP_TOO_MANY_REQUESTS) {
+      long retryAfter = parseLong(response.header(HEADER_RETRY_AFTER));
+      long reset = parseLong(response.header(HEADER_RESET));
+      if (retryAfter >= 0) {
+        blockedFor = TimeUnit.SECONDS.toNanos(retryAfter);
+      } else if (reset >= 0) {
+        blockedFor = TimeUnit.MILLISECONDS.toNanos(
+          Math.max(0, TimeUnit.SECONDS.toMillis(reset) - System.currentTimeMillis()));
+      }
+    }
+    long limit = parseLong(response.header(HEADER_LIMIT));
+    long interval = parseLong(response.header(HEADER_INTERVAL));
+    if ((limit <= 0 || interval <= 0) && blockedFor < 0) {
+      return;
+    }
+
+    lock.lock();
+    try {
+      long now = System.nanoTime();
+      refill(now);
+      if (limit > 0 && interval > 0) {
+        permitsPerNano = limit / (double) TimeUnit.SECONDS.toNanos(interval);
+        maxPermits = limit;
+        storedPermits = Math.min(storedPermits, maxPermits);
+      }
+      if (blockedFor >= 0) {
+        storedPermits = 0;
+        nextFreeNanos = Math.max(nextFreeNanos, now + blockedFor);
+      }
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private void refill(long now) {
+    if (now > nextFreeNanos) {
+      storedPermits = Math.min(maxPermits, storedPermits + (now - nextFreeNanos) * permitsPerNano);
+      nextFreeNanos = now;
+    }
+  }
+
+  private static long parseLong(String value) {
+    if (value == null) {
+      return -1;
+    }
+    try {
+      return Long.parseLong(value.trim());
+    } catch (NumberFormatException notANumber) {
+      // Retry-After might be an HTTP date, the other headers are used instead
+      return -1;
+    }
+  }
+}
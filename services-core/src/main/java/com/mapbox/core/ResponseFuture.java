@@ -0,0 +1,234 @@
+package com.mapbox.core;
+
+import android.support.annotation.NonNull;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.Queue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+
+import retrofit2.Call;
+import retrofit2.Callback;
+import retrofit2.Response;
+
+/**
+ * The pending result of a request started by {@link MapboxService#executeAsync()}. Besides
+ * blocking through {@link #get()}, callbacks can be attached with {@link #addCallback(Callback)}
+ * to chain further work without holding on to a thread, and the request can be cancelled with
+ * {@link #cancel(boolean)}.
+ * <p>
+ * The response is the same as the one {@link MapboxService#enqueueCall(Callback)} hands over, so
+ * it includes the post-processing done by the services, such as the route options Directions
+ * attaches to each route.
+ * </p>
+ *
+ * @param <T> Type parameter for response.
+ * @since 4.9.0
+ */
+public final class ResponseFuture<T> implements Future<Response<T>> {
+
+  private final Call<T> call;
+  private final CountDownLatch done = new CountDownLatch(1);
+  private final AtomicReference<Outcome<T>> outcome = new AtomicReference<>();
+  private final Queue<Callback<T>> callbacks = new ConcurrentLinkedQueue<>();
+
+  ResponseFuture(Call<T> call) {
+    this.call = call;
+  }
+
+  /**
+   * The callback to pass to {@link MapboxService#enqueueCall(Callback)} to complete this future.
+   *
+   * @return a callback completing this future
+   */
+  Callback<T> completingCallback() {
+    return new Callback<T>() {
+      @Override
+      public void onResponse(Call<T> call, Response<T> response) {
+        complete(new Outcome<>(response, null, false));
+      }
+
+      @Override
+      public void onFailure(Call<T> call, Throwable throwable) {
+        complete(new Outcome<T>(null, throwable, false));
+      }
+    };
+  }
+
+  /**
+   * Adds a callback notified once the request completes. If it already has, the callback is
+   * notified right away on the calling thread, otherwise it is notified on the thread completing
+   * the request. A cancelled request is reported to {@link Callback#onFailure(Call, Throwable)}
+   * with a {@link CancellationException}.
+   *
+   * @param callback the callback to notify
+   * @since 4.9.0
+   */
+  public void addCallback(@NonNull Callback<T> callback) {
+    callbacks.add(callback);
+    if (isDone()) {
+      notifyCallbacks();
+    }
+  }
+
+  /**
+   * Cancels the underlying call. Cancelling has no effect once the request has completed.
+   *
+   * @param mayInterruptIfRunning ignored, the call is cancelled either way
+   * @return true if this invocation cancelled the request
+   * @since 4.9.0
+   */
+  @Override
+  public boolean cancel(boolean mayInterruptIfRunning) {
+    boolean cancelled = complete(new Outcome<T>(null, null, true));
+    if (cancelled) {
+      call.cancel();
+    }
+    return cancelled;
+  }
+
+  /**
+   * Returns whether the request was cancelled before it completed.
+   *
+   * @return true if the request was cancelled
+   * @since 4.9.0
+   */
+  @Override
+  public boolean isCancelled() {
+    Outcome<T> current = outcome.get();
+    return current != null && current.cancelled;
+  }
+
+  /**
+   * Returns whether the request completed, either successfully, with a failure or by being
+   * cancelled.
+   *
+   * @return true if the request completed
+   * @since 4.9.0
+   */
+  @Override
+  public boolean isDone() {
+    return outcome.get() != null;
+  }
+
+  /**
+   * Waits for the request to complete and returns its response.
+   *
+   * @return the response
+   * @throws InterruptedException  if the current thread was interrupted while waiting
+   * @throws ExecutionException    if the request failed, with the failure as cause
+   * @throws CancellationException if the request was cancelled
+   * @since 4.9.0
+   */
+  @Override
+  public Response<T> get() throws InterruptedException, ExecutionException {
+    done.await();
+    return getOutcome();
+  }
+
+  /**
+   * Waits at most the given time for the request to complete and returns its response.
+   *
+   * @param timeout the maximum time to wait
+   * @param unit    the unit of the timeout argument
+   * @return the response
+   * @throws InterruptedException  if the current thread was interrupted while waiting
+   * @throws ExecutionException    if the request failed, with the failure as cause
+   * @throws TimeoutException      if the request didn't complete in time
+   * @throws CancellationException if the request was cancelled
+   * @since 4.9.0
+   */
+  @Override
+  public Response<T> get(long timeout, @NonNull TimeUnit unit)
+    throws InterruptedException, ExecutionException, TimeoutException {
+    if (!done.await(timeout, unit)) {
+      throw new TimeoutException();
+    }
+    return getOutcome();
+  }
+
+  /**
+   * Waits for the request to complete and returns its response the way {@link Call#execute()}
+   * does, which lets blocking calls be built on top of asynchronous ones. The request is cancelled
+   * if the waiting thread gets interrupted.
+   *
+   * @return the response
+   * @throws IOException if the request failed or the thread was interrupted
+   */
+  Response<T> getResponse() throws IOException {
+    try {
+      return get();
+    } catch (InterruptedException interrupted) {
+      cancel(true);
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException("Interrupted while waiting for the response.");
+    } catch (ExecutionException failed) {
+      Throwable cause = failed.getCause();
+      if (cause instanceof IOException) {
+        throw (IOException) cause;
+      } else if (cause instanceof RuntimeException) {
+        throw (RuntimeException) cause;
+      } else if (cause instanceof Error) {
+        throw (Error) cause;
+      }
+      throw new IOException(cause);
+    }
+  }
+
+  private Response<T> getOutcome() throws ExecutionException {
+    Outcome<T> current = outcome.get();
+    if (current.cancelled) {
+      throw new CancellationException();
+    }
+    if (current.failure != null) {
+      throw new ExecutionException(current.failure);
+    }
+    return current.response;
+  }
+
+  private boolean complete(Outcome<T> result) {
+    if (!outcome.compareAndSet(null, result)) {
+      return false;
+    }
+    done.countDown();
+    notifyCallbacks();
+    return true;
+  }
+
+  private void notifyCallbacks() {
+    Outcome<T> current = outcome.get();
+    Callback<T> callback;
+    // Polling makes sure each callback is notified once, even if called concurrently
+    while ((callback = callbacks.poll()) != null) {
+      if (current.cancelled) {
+        callback.onFailure(call, new CancellationException());
+      } else if (current.failure != null) {
+        callback.onFailure(call, current.failure);
+      } else {
+        callback.onResponse(call, current.response);
+      }
+    }
+  }
+
+  /**
+   * How the request completed.
+   */
+  private static final class Outcome<T> {
+    final Response<T> response;
+    final Throwable failure;
+    final boolean cancelled;
+
+    Outcome(Response<T> response, Throwable failure, boolean cancelled) {
+      this.response = response;
+      this.failure = failure;
+      this.cancelled = cancelled;
+    }
+  }
+}
@@ -0,0 +1,240 @@
+package com.mapbox.core;
+
+import android.support.annotation.NonNull;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Describes how the calls of a service are retried when they fail with a transient error, see
+ * {@link MapboxService#setRetryPolicy(RetryPolicy)} and
+ * {@link MapboxService#setDefaultRetryPolicy(RetryPolicy)}.
+ * <p>
+ * A call is retried when it fails with an {@link java.io.IOException}, such as a timeout or a
+ * connection reset, or when the API answers with HTTP 500, 502, 503 or 504. Retries wait for an
+ * exponentially growing backoff, randomized so that clients failing at the same time don't retry
+ * in lockstep. Only GET and HEAD requests are retried, as other requests might not be idempotent.
+ * </p><p>
+ * Optionally, GET requests can be hedged: if the response hasn't arrived once the call took
+ * longer than most calls do, the 95th percentile of the latencies recently observed by this
+ * policy, a duplicate request goes out and whichever response arrives first is used. This trims
+ * the latency tail caused by a few slow requests at the cost of a few more requests.
+ * </p>
+ *
+ * @since 4.9.0
+ */
+public final class RetryPolicy {
+
+  private static final int LATENCY_SAMPLES = 128;
+  private static final int MIN_LATENCY_SAMPLES = 20;
+  private static final double HEDGE_PERCENTILE = 0.95;
+
+  private final int maxAttempts;
+  private final long initialBackoffNanos;
+  private final long maxBackoffNanos;
+  private final long minHedgeDelayNanos;
+  private final Random random = new Random();
+
+  private final ReentrantLock lock = new ReentrantLock();
+  private final long[] latencies = new long[LATENCY_SAMPLES];
+  private int latencyCount;
+  private int nextLatency;
+
+  private RetryPolicy(Builder builder) {
+    this.maxAttempts = builder.maxAttempts;
+    this.initialBackoffNanos = builder.initialBackoffNanos;
+    this.maxBackoffNanos = builder.maxBackoffNanos;
+    this.minHedgeDelayNanos = builder.minHedgeDelayNanos;
+  }
+
+  /**
+   * Build a new {@link RetryPolicy}. By default, a call is attempted up to 3 times, with a backoff
+   * starting at 100 milliseconds and never exceeding 5 seconds, and isn't hedged.
+   *
+   * @return a new builder
+   * @since 4.9.0
+   */
+  @NonNull
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  /**
+   * The maximum number of times a call is attempted, including the first attempt. Hedged
+   * requests don't count as attempts.
+   *
+   * @return the maximum number of attempts
+   * @since 4.9.0
+   */
+  public int maxAttempts() {
+    return maxAttempts;
+  }
+
+  /**
+   * Whether GET requests are hedged.
+   *
+   * @return true if a duplicate of slow GET requests goes out
+   * @since 4.9.0
+   */
+  public boolean isHedging() {
+    return minHedgeDelayNanos > 0;
+  }
+
+  /**
+   * The time to wait before the given retry, growing exponentially with the number of attempts
+   * already made. Half of the backoff is randomized.
+   *
+   * @param attempt the number of attempts already made, at least 1
+   * @return the backoff in nanoseconds
+   */
+  long backoffNanos(int attempt) {
+    long backoff = initialBackoffNanos;
+    for (int i = 1; i < attempt && backoff < maxBackoffNanos; i++) {
+      backoff *= 2;
+    }
+    backoff = Math.min(backoff, maxBackoffNanos);
+    long half = backoff / 2;
+    return half + (long) (random.nextDouble() * (backoff - half));
+  }
+
+  /**
+   * The time to wait for a response before a hedged request goes out, the 95th percentile of the
+   * recently observed latencies but at least the configured minimum delay.
+   *
+   * @return the delay in nanoseconds
+   */
+  long hedgeDelayNanos() {
+    long[] samples;
+    lock.lock();
+    try {
+      if (latencyCount < MIN_LATENCY_SAMPLES) {
+        return minHedgeDelayNanos;
+      }
+      samples = Arrays.copyOf(latencies, latencyCount);
+    } finally {
+      lock.unlock();
+    }
+    Arrays.sort(samples);
+    int index = (int) Math.ceil(HEDGE_PERCENTILE * samples.length) - 1;
+    return Math.max(minHedgeDelayNanos, samples[index]);
+  }
+
+  /**
+   * Records the time a call took to get a response, feeding the hedging delay.
+   *
+   * @param latencyNanos the latency in nanoseconds
+   */
+  void recordLatency(long latencyNanos) {
+    lock.lock();
+    try {
+      latencies[nextLatency] = latencyNanos;
+      nextLatency = (nextLatency + 1) % LATENCY_SAMPLES;
+      latencyCount = Math.min(latencyCount + 1, LATENCY_SAMPLES);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Whether a response with the given HTTP status code is worth retrying.
+   *
+   * @param code the HTTP status code
+   * @return true for server errors which are usually transient
+   */
+  static boolean isRetryable(int code) {
+    return code == 500 || code == 502 || code == 503 || code == 504;
+  }
+
+  /**
+   * Whether a request using the given HTTP method can safely be sent more than once.
+   *
+   * @param method the HTTP method
+   * @return true for GET and HEAD
+   */
+  static boolean isIdempotent(String method) {
+    return "GET".equals(method) || "HEAD".equals(method);
+  }
+
+  /**
+   * This builder is used to create a new {@link RetryPolicy}.
+   *
+   * @since 4.9.0
+   */
+  public static final class Builder {
+
+    private int maxAttempts = 3;
+    private long initialBackoffNanos = TimeUnit.MILLISECONDS.toNanos(100);
+    private long maxBackoffNanos = TimeUnit.SECONDS.toNanos(5);
+    private long minHedgeDelayNanos;
+
+    Builder() {
+    }
+
+    /**
+     * The maximum number of times a call is attempted, including the first attempt. 1 disables
+     * retries, which can be useful to only hedge requests.
+     *
+     * @param maxAttempts the maximum number of attempts, at least 1
+     * @return this builder for chaining options together
+     * @since 4.9.0
+     */
+    public Builder maxAttempts(int maxAttempts) {
+      if (maxAttempts < 1) {
+        throw new IllegalArgumentException("maxAttempts must be at least 1.");
+      }
+      this.maxAttempts = maxAttempts;
+      return this;
+    }
+
+    /**
+     * The backoff before the first retry, which then doubles for each retry up to the maximum
+     * backoff. The actual backoff is randomized between half and all of it.
+     *
+     * @param initialBackoff the backoff before the first retry
+     * @param maxBackoff     the maximum backoff, at least the initial one
+     * @param unit           the unit of the backoff arguments
+     * @return this builder for chaining options together
+     * @since 4.9.0
+     */
+    public Builder backoff(long initialBackoff, long maxBackoff, @NonNull TimeUnit unit) {
+      if (initialBackoff < 0 || maxBackoff < initialBackoff) {
+        throw new IllegalArgumentException(
+          "The backoff must be positive and not exceed the maximum backoff.");
+      }
+      this.initialBackoffNanos = unit.toNanos(initialBackoff);
+      this.maxBackoffNanos = unit.toNanos(maxBackoff);
+      return this;
+    }
+
+    /**
+     * Enables hedging of GET requests. A duplicate request goes out once the call took longer
+     * than the 95th percentile of the latencies recently observed by the policy, and never
+     * sooner than the given delay, which is also used until enough latencies were observed.
+     *
+     * @param minDelay the minimum time to wait for a response before sending a duplicate
+     *                 request, 0 to disable hedging
+     * @param unit     the unit of the delay argument
+     * @return this builder for chaining options together
+     * @since 4.9.0
+     */
+    public Builder hedgeDelay(long minDelay, @NonNull TimeUnit unit) {
+      if (minDelay < 0) {
+        throw new IllegalArgumentException("The hedge delay can't be negative.");
+      }
+      this.minHedgeDelayNanos = unit.toNanos(minDelay);
+      return this;
+    }
+
+    /**
+     * Build a new {@link RetryPolicy} object.
+     *
+     * @return a new {@link RetryPolicy} using the provided values in this builder
+     * @since 4.9.0
+     */
+    public RetryPolicy build() {
+      return new RetryPolicy(this);
+    }
+  }
+}
@@ -0,0 +1,340 @@
+package com.mapbox.core;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import okhttp3.Request;
+import okhttp3.ResponseBody;
+import retrofit2.Call;
+import retrofit2.Callback;
+import retrofit2.Response;
+
+/**
+ * A {@link Call} retrying transient failures and hedging slow requests as its
+ * {@link RetryPolicy} describes. Every attempt is a clone of the original call, so it goes
+ * through the same rate limiting. Latencies and the hedge delay are measured from the moment an
+ * attempt actually goes out, after any wait for the rate limit.
+ *
+ * @param <T> Type parameter for response.
+ * @since 4.9.0
+ */
+final class RetryingCall<T> implements Call<T> {
+
+  private final Call<T> delegate;
+  private final RetryPolicy policy;
+  private volatile boolean canceled;
+  private volatile Call<T> current;
+  private volatile Exchange exchange;
+
+  RetryingCall(Call<T> delegate, RetryPolicy policy) {
+    this.delegate = delegate;
+    this.policy = policy;
+  }
+
+  @Override
+  public Response<T> execute() throws IOException {
+    String method = method();
+    if (policy.isHedging() && "GET".equals(method)) {
+      return executeHedged();
+    }
+
+    int maxAttempts = RetryPolicy.isIdempotent(method) ? policy.maxAttempts() : 1;
+    Call<T> attempt = delegate;
+    for (int attempts = 1; ; attempts++) {
+      current = attempt;
+      if (canceled) {
+        throw new IOException("Canceled");
+      }
+      DispatchTime dispatchTime = new DispatchTime();
+      try {
+        Response<T> response = executeAttempt(attempt, dispatchTime);
+        policy.recordLatency(System.nanoTime() - dispatchTime.nanos);
+        if (canceled || attempts >= maxAttempts || !RetryPolicy.isRetryable(response.code())) {
+          return response;
+        }
+        discard(response);
+      } catch (IOException exception) {
+        if (canceled || attempts >= maxAttempts) {
+          throw exception;
+        }
+      }
+      sleep(policy.backoffNanos(attempts));
+      attempt = delegate.clone();
+    }
+  }
+
+  @Override
+  public void enqueue(Callback<T> callback) {
+    String method = method();
+    int maxAttempts = RetryPolicy.isIdempotent(method) ? policy.maxAttempts() : 1;
+    Exchange newExchange = new Exchange(
+      callback, maxAttempts, policy.isHedging() && "GET".equals(method));
+    exchange = newExchange;
+    newExchange.launch(false);
+  }
+
+  @Override
+  public boolean isExecuted() {
+    return delegate.isExecuted();
+  }
+
+  @Override
+  public void cancel() {
+    canceled = true;
+    delegate.cancel();
+    Call<T> currentCall = current;
+    if (currentCall != null) {
+      currentCall.cancel();
+    }
+    Exchange currentExchange = exchange;
+    if (currentExchange != null) {
+      currentExchange.cancel();
+    }
+  }
+
+  @Override
+  public boolean isCanceled() {
+    return canceled;
+  }
+
+  @SuppressWarnings("CloneDoesntCallSuperClone")
+  @Override
+  public Call<T> clone() {
+    return new RetryingCall<>(delegate.clone(), policy);
+  }
+
+  @Override
+  public Request request() {
+    return delegate.request();
+  }
+
+  private Response<T> executeHedged() throws IOException {
+    ResponseFuture<T> future = new ResponseFuture<>(this);
+    enqueue(future.completingCallback());
+    return future.getResponse();
+  }
+
+  private String method() {
+    try {
+      return delegate.request().method();
+    } catch (RuntimeException creationFailure) {
+      // The delegate reports the failure once it gets executed, which is only attempted once
+      return null;
+    }
+  }
+
+  private static void sleep(long nanos) throws InterruptedIOException {
+    try {
+      TimeUnit.NANOSECONDS.sleep(nanos);
+    } catch (InterruptedException interrupted) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException("Interrupted while waiting to retry.");
+    }
+  }
+
+  private static <T> Response<T> executeAttempt(Call<T> call, DispatchTime dispatchTime)
+    throws IOException {
+    if (call instanceof RateLimitedCall) {
+      return ((RateLimitedCall<T>) call).execute(dispatchTime);
+    }
+    dispatchTime.run();
+    return call.execute();
+  }
+
+  private static <T> void enqueueAttempt(Call<T> call, Callback<T> callback,
+                                         DispatchTime dispatchTime) {
+    if (call instanceof RateLimitedCall) {
+      ((RateLimitedCall<T>) call).enqueue(callback, dispatchTime);
+      return;
+    }
+    dispatchTime.run();
+    call.enqueue(callback);
+  }
+
+  private static void discard(Response<?> response) {
+    if (response == null) {
+      return;
+    }
+    // Unconverted bodies of the losing attempts are never handed out, nobody else closes them
+    Object body = response.body();
+    if (body instanceof ResponseBody) {
+      ((ResponseBody) body).close();
+    }
+    ResponseBody errorBody = response.errorBody();
+    if (errorBody != null) {
+      errorBody.close();
+    }
+  }
+
+  /**
+   * Records when an attempt goes out, which the rate limiter might delay past its enqueueing.
+   */
+  private static class DispatchTime implements Runnable {
+    volatile long nanos;
+
+    @Override
+    public void run() {
+      nanos = System.nanoTime();
+    }
+  }
+
+  /**
+   * The attempts made to complete an asynchronous call, of which the first one with a final
+   * outcome is reported to the callback. All the state is guarded by the exchange, but calls are
+   * never enqueued nor callbacks notified while holding its lock.
+   */
+  private final class Exchange {
+
+    private final Callback<T> callback;
+    private final int maxAttempts;
+    private final boolean hedging;
+    private final List<Call<T>> calls = new ArrayList<>();
+    private ScheduledFuture<?> scheduled;
+    private int attempts;
+    private int inFlight;
+    private boolean hedged;
+    private boolean finished;
+    private Response<T> lastResponse;
+
+    Exchange(Callback<T> callback, int maxAttempts, boolean hedging) {
+      this.callback = callback;
+      this.maxAttempts = maxAttempts;
+      this.hedging = hedging;
+    }
+
+    void launch(boolean hedge) {
+      Call<T> call = null;
+      boolean first = false;
+      synchronized (this) {
+        if (finished || (hedge && (hedged || inFlight == 0))) {
+          return;
+        }
+        if (canceled) {
+          finished = true;
+        } else {
+          first = calls.isEmpty();
+          call = first ? delegate : delegate.clone();
+          calls.add(call);
+          inFlight++;
+          if (hedge) {
+            hedged = true;
+          } else {
+            attempts++;
+          }
+        }
+      }
+      if (call == null) {
+        callback.onFailure(RetryingCall.this, new IOException("Canceled"));
+        return;
+      }
+
+      final boolean scheduleHedge = hedging && first;
+      final DispatchTime dispatchTime = new DispatchTime() {
+        @Override
+        public void run() {
+          super.run();
+          if (scheduleHedge) {
+            schedule(new Runnable() {
+              @Override
+              public void run() {
+                launch(true);
+              }
+            }, policy.hedgeDelayNanos());
+          }
+        }
+      };
+      enqueueAttempt(call, new Callback<T>() {
+        @Override
+        public void onResponse(Call<T> call, Response<T> response) {
+          policy.recordLatency(System.nanoTime() - dispatchTime.nanos);
+          complete(response, null);
+        }
+
+        @Override
+        public void onFailure(Call<T> call, Throwable throwable) {
+          complete(null, throwable);
+        }
+      }, dispatchTime);
+    }
+
+    void cancel() {
+      List<Call<T>> toCancel;
+      boolean idle;
+      synchronized (this) {
+        toCancel = new ArrayList<>(calls);
+        idle = !finished && inFlight == 0;
+        if (scheduled != null) {
+          scheduled.cancel(false);
+        }
+      }
+      for (Call<T> call : toCancel) {
+        call.cancel();
+      }
+      if (idle) {
+        // Waiting for a retry, there's no call in flight to report the cancellation
+        launch(false);
+      }
+    }
+
+    private void complete(Response<T> response, Throwable failure) {
+      Response<T> discarded;
+      List<Call<T>> losers = null;
+      int retryAfter = 0;
+      synchronized (this) {
+        inFlight--;
+        if (finished) {
+          discarded = response;
+        } else if (canceled || !isRetryable(response, failure)) {
+          finished = true;
+          discarded = lastResponse;
+          losers = new ArrayList<>(calls);
+        } else {
+          discarded = lastResponse;
+          lastResponse = response;
+          // While another attempt is in flight, it might still succeed
+          if (inFlight == 0 && attempts < maxAttempts) {
+            retryAfter = attempts;
+          } else if (inFlight == 0) {
+            finished = true;
+            losers = new ArrayList<>(calls);
+          }
+        }
+      }
+      discard(discarded);
+
+      if (retryAfter > 0) {
+        schedule(new Runnable() {
+          @Override
+          public void run() {
+            launch(false);
+          }
+        }, policy.backoffNanos(retryAfter));
+      } else if (losers != null) {
+        for (Call<T> loser : losers) {
+          loser.cancel();
+        }
+        if (response != null) {
+          callback.onResponse(RetryingCall.this, response);
+        } else {
+          callback.onFailure(RetryingCall.this, failure);
+        }
+      }
+    }
+
+    private void schedule(Runnable task, long delayNanos) {
+      ScheduledFuture<?> future = CallScheduler.schedule(task, delayNanos);
+      synchronized (this) {
+        scheduled = future;
+      }
+    }
+
+    private boolean isRetryable(Response<T> response, Throwable failure) {
+      return response != null ? RetryPolicy.isRetryable(response.code())
+        : failure instanceof IOException;
+    }
+  }
+}
@@ -0,0 +1,149 @@
+package com.mapbox.core;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+import retrofit2.Retrofit;
+
+/**
+ * Process-wide cache of the {@link Retrofit} instances and service proxies created by
+ * {@link MapboxService}. Building a Retrofit instance, its Gson converter and the service proxy is
+ * far more expensive than the request itself, while all the service instances of one class going
+ * to the same base URL through the same call factory end up with identical ones.
+ * <p>
+ * Since custom call factories might be created per service instance, the cache holds at most
+ * {@link #MAX_SIZE} entries and evicts the least recently used one to make room for another.
+ * Access relies on a {@link ReentrantLock} rather than an object monitor, since every new service
+ * instance goes through it.
+ * </p>
+ *
+ * @since 4.9.0
+ */
+final class ServiceCache {
+
+  static final int MAX_SIZE = 64;
+
+  private static final ReentrantLock LOCK = new ReentrantLock();
+
+  // Guarded by LOCK, in access order
+  private static final Map<Key, Entry> ENTRIES = new LinkedHashMap<Key, Entry>(16, 0.75f, true) {
+    @Override
+    protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+      return size() > MAX_SIZE;
+    }
+  };
+
+  private ServiceCache() {
+    // Private constructor preventing instances of class
+  }
+
+  static Entry get(Key key) {
+    LOCK.lock();
+    try {
+      return ENTRIES.get(key);
+    } finally {
+      LOCK.unlock();
+    }
+  }
+
+  /**
+   * Adds an entry unless another thread did so in the meantime.
+   *
+   * @param key   the entry key
+   * @param entry the entry to add
+   * @return the entry now found in the cache for the key
+   */
+  static Entry putIfAbsent(Key key, Entry entry) {
+    LOCK.lock();
+    try {
+      Entry existing = ENTRIES.get(key);
+      if (existing != null) {
+        return existing;
+      }
+      ENTRIES.put(key, entry);
+      return entry;
+    } finally {
+      LOCK.unlock();
+    }
+  }
+
+  static void clear() {
+    LOCK.lock();
+    try {
+      ENTRIES.clear();
+    } finally {
+      LOCK.unlock();
+    }
+  }
+
+  static int size() {
+    LOCK.lock();
+    try {
+      return ENTRIES.size();
+    } finally {
+      LOCK.unlock();
+    }
+  }
+
+  /**
+   * Identifies a Retrofit instance and service proxy. The service class stands for the Gson
+   * configuration, which {@link MapboxService#getGsonBuilder()} provides per class. Call factories
+   * are compared by identity.
+   */
+  static final class Key {
+    private final Class<?> owner;
+    private final Class<?> serviceType;
+    private final String baseUrl;
+    private final okhttp3.Call.Factory callFactory;
+
+    Key(Class<?> owner, Class<?> serviceType, String baseUrl, okhttp3.Call.Factory callFactory) {
+      this.owner = owner;
+      this.serviceType = serviceType;
+      this.baseUrl = baseUrl;
+      this.callFactory = callFactory;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (obj == this) {
+        return true;
+      }
+      if (obj instanceof Key) {
+        Key that = (Key) obj;
+        return this.owner == that.owner
+          && this.serviceType == that.serviceType
+          && this.baseUrl.equals(that.baseUrl)
+          && this.callFactory == that.callFactory;
+      }
+      return false;
+    }
+
+    @Override
+    public int hashCode() {
+      int hashCode = 1;
+      hashCode *= 1000003;
+      hashCode ^= owner.hashCode();
+      hashCode *= 1000003;
+      hashCode ^= serviceType.hashCode();
+      hashCode *= 1000003;
+      hashCode ^= baseUrl.hashCode();
+      hashCode *= 1000003;
+      hashCode ^= System.identityHashCode(callFactory);
+      return hashCode;
+    }
+  }
+
+  /**
+   * A Retrofit instance along with the service proxy it created.
+   */
+  static final class Entry {
+    final Retrofit retrofit;
+    final Object service;
+
+    Entry(Retrofit retrofit, Object service) {
+      this.retrofit = retrofit;
+      this.service = service;
+    }
+  }
+}
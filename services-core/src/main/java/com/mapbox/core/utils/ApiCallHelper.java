@@ -4,7 +4,9 @@ import android.support.annotation.NonNull;
 import android.support.annotation.Nullable;
 import com.mapbox.core.constants.Constants;
 
-import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.regex.Pattern;
 
 /**
  * Static class with methods for assisting in making Mapbox API calls.
@@ -13,7 +15,9 @@ import java.util.Locale;
  */
 public final class ApiCallHelper {
 
-  private static final String ONLY_PRINTABLE_CHARS = "[^\\p{ASCII}]";
+  private static final Pattern ONLY_PRINTABLE_CHARS = Pattern.compile("[^\\p{ASCII}]");
+  private static final int MAX_CACHED_USER_AGENTS = 16;
+  private static final ConcurrentMap<String, String> USER_AGENTS = new ConcurrentHashMap<>();
 
   private ApiCallHelper() {
     // Private constructor preventing instances of class
@@ -22,21 +26,29 @@ public final class ApiCallHelper {
   /**
    * Computes a full user agent header of the form:
    * {@code MapboxJava/1.2.0 Mac OS X/10.11.5 (x86_64)}.
+   * <p>
+   * The part describing the OS is computed once, and the headers of the first 16 client app
+   * names are remembered, so this is cheap enough to call for every request.
+   * </p>
    *
    * @param clientAppName Application Name
    * @return {@link String} representing the header user agent
    * @since 1.0.0
    */
   public static String getHeaderUserAgent(@Nullable String clientAppName) {
-    String osName = System.getProperty("os.name");
-    String osVersion = System.getProperty("os.version");
-    String osArch = System.getProperty("os.arch");
-
-    if (TextUtils.isEmpty(osName) || TextUtils.isEmpty(osVersion) || TextUtils.isEmpty(osArch)) {
-      return Constants.HEADER_USER_AGENT;
-    } else {
-      return getHeaderUserAgent(clientAppName, osName, osVersion, osArch);
+    if (TextUtils.isEmpty(clientAppName) || !BaseUserAgentHolder.HAS_OS) {
+      // The app name is only added to a user agent describing the OS
+      return BaseUserAgentHolder.BASE_USER_AGENT;
+    }
+    String userAgent = USER_AGENTS.get(clientAppName);
+    if (userAgent == null) {
+      userAgent = clientAppName + ' ' + BaseUserAgentHolder.BASE_USER_AGENT;
+      // Apps use a handful of names at most, past that they aren't worth remembering
+      if (USER_AGENTS.size() < MAX_CACHED_USER_AGENTS) {
+        USER_AGENTS.putIfAbsent(clientAppName, userAgent);
+      }
     }
+    return userAgent;
   }
 
   /**
@@ -54,14 +66,34 @@ public final class ApiCallHelper {
                                            @NonNull String osName,
                                           @NonNull String osVersion,
                                           @NonNull String osArch) {
+    String baseUa = getBaseUserAgent(osName, osVersion, osArch);
+    return TextUtils.isEmpty(clientAppName) ? baseUa : clientAppName + ' ' + baseUa;
+  }
 
-    osName = osName.replaceAll(ONLY_PRINTABLE_CHARS, "");
-    osVersion = osVersion.replaceAll(ONLY_PRINTABLE_CHARS, "");
-    osArch = osArch.replaceAll(ONLY_PRINTABLE_CHARS, "");
-    String baseUa = String.format(
-      Locale.US, "%s %s/%s (%s)", Constants.HEADER_USER_AGENT, osName, osVersion, osArch);
+  private static String getBaseUserAgent(String osName, String osVersion, String osArch) {
+    return Constants.HEADER_USER_AGENT + ' '
+      + ONLY_PRINTABLE_CHARS.matcher(osName).replaceAll("") + '/'
+      + ONLY_PRINTABLE_CHARS.matcher(osVersion).replaceAll("") + " ("
+      + ONLY_PRINTABLE_CHARS.matcher(osArch).replaceAll("") + ')';
+  }
 
-    return TextUtils.isEmpty(clientAppName) ? baseUa : String.format(Locale.US, "%s %s",
-      clientAppName, baseUa);
+  /**
+   * The user agent header without client app name, computed on first use as the OS it describes
+   * doesn't change.
+   */
+  private static final class BaseUserAgentHolder {
+    static final boolean HAS_OS;
+    static final String BASE_USER_AGENT;
+
+    static {
+      String osName = System.getProperty("os.name");
+      String osVersion = System.getProperty("os.version");
+      String osArch = System.getProperty("os.arch");
+
+      HAS_OS = !TextUtils.isEmpty(osName) && !TextUtils.isEmpty(osVersion)
+        && !TextUtils.isEmpty(osArch);
+      BASE_USER_AGENT = HAS_OS
+        ? getBaseUserAgent(osName, osVersion, osArch) : Constants.HEADER_USER_AGENT;
+    }
   }
 }
@@ -15,6 +15,12 @@ import java.util.Locale;
  */
 public final class TextUtils {
 
+  private static final int COORDINATE_CAPACITY = 16;
+  private static final int MAX_FAST_DECIMALS = 6;
+  private static final double MAX_FAST_VALUE = 1e9;
+  private static final double HALF = 0.5;
+  private static final long[] POWERS_OF_TEN = {1, 10, 100, 1000, 10000, 100000, 1000000};
+
   private TextUtils() {
     // Empty private constructor preventing class from getting initialized
   }
@@ -65,10 +71,7 @@ public final class TextUtils {
    * @since 2.1.0
    */
   public static String formatCoordinate(double coordinate) {
-    DecimalFormat decimalFormat = new DecimalFormat("0.######",
-      new DecimalFormatSymbols(Locale.US));
-    return String.format(Locale.US, "%s",
-      decimalFormat.format(coordinate));
+    return appendCoordinate(new StringBuilder(COORDINATE_CAPACITY), coordinate).toString();
   }
 
   /**
@@ -80,6 +83,11 @@ public final class TextUtils {
    * @since 2.1.0
    */
   public static String formatCoordinate(double coordinate, int precision) {
+    StringBuilder builder = new StringBuilder(COORDINATE_CAPACITY);
+    if (precision > 0 && precision <= MAX_FAST_DECIMALS
+      && appendDecimal(builder, coordinate, precision, true)) {
+      return builder.toString();
+    }
     String pattern = "0." + new String(new char[precision]).replace("\0", "0");
     DecimalFormat df = (DecimalFormat) DecimalFormat.getInstance(Locale.US);
     df.applyPattern(pattern);
@@ -87,6 +95,91 @@ public final class TextUtils {
     return df.format(coordinate);
   }
 
+  /**
+   * Appends a coordinate formatted like {@link #formatCoordinate(double)} does, without going
+   * through an intermediate string. Building a request URL this way only allocates the builder,
+   * however many coordinates it holds.
+   *
+   * @param builder    the builder to append the coordinate to
+   * @param coordinate a double value representing a coordinate
+   * @return the builder
+   * @since 4.9.0
+   */
+  public static StringBuilder appendCoordinate(StringBuilder builder, double coordinate) {
+    if (!appendDecimal(builder, coordinate, MAX_FAST_DECIMALS, false)) {
+      // Rare enough for the cost of DecimalFormat not to matter
+      DecimalFormat decimalFormat = new DecimalFormat("0.######",
+        new DecimalFormatSymbols(Locale.US));
+      builder.append(decimalFormat.format(coordinate));
+    }
+    return builder;
+  }
+
+  /**
+   * Appends a value with the given number of decimals at most, the way DecimalFormat does it:
+   * either rounded half even with trailing zeros removed, or rounded toward negative infinity
+   * and padded with zeros. The value is scaled with a single multiplication, which is exact
+   * enough to round it right unless it's too close to a rounding boundary, in which case nothing
+   * gets appended.
+   *
+   * @param builder  the builder to append the value to
+   * @param value    the value to append
+   * @param decimals the number of decimals, up to {@link #MAX_FAST_DECIMALS}
+   * @param floor    true to round toward negative infinity and keep trailing zeros
+   * @return false if the value was left for DecimalFormat to format
+   */
+  private static boolean appendDecimal(StringBuilder builder, double value, int decimals,
+                                       boolean floor) {
+    double abs = Math.abs(value);
+    // Also rules out NaN and infinite values
+    if (!(abs < MAX_FAST_VALUE)) {
+      return false;
+    }
+    boolean negative = Double.doubleToRawLongBits(value) < 0;
+    long units = 0;
+    if (abs != 0) {
+      double scaled = abs * POWERS_OF_TEN[decimals];
+      double whole = Math.floor(scaled);
+      double fraction = scaled - whole;
+      double margin = 2 * Math.ulp(scaled);
+      if (!floor) {
+        if (Math.abs(fraction - HALF) <= margin) {
+          return false;
+        }
+        units = (long) whole + (fraction > HALF ? 1 : 0);
+      } else if (whole / POWERS_OF_TEN[decimals] == abs) {
+        // The value has no more decimals than asked for
+        units = (long) whole;
+      } else if (fraction <= margin || fraction >= 1 - margin || (negative && abs < 1)) {
+        return false;
+      } else {
+        units = (long) whole + (negative ? 1 : 0);
+      }
+    }
+
+    if (negative) {
+      builder.append('-');
+    }
+    long unit = POWERS_OF_TEN[decimals];
+    builder.append(units / unit);
+    long remainder = units % unit;
+    int digits = decimals;
+    if (!floor) {
+      if (remainder == 0) {
+        return true;
+      }
+      while (remainder % 10 == 0) {
+        remainder /= 10;
+        digits--;
+      }
+    }
+    builder.append('.');
+    for (int digit = digits - 1; digit >= 0; digit--) {
+      builder.append((char) ('0' + remainder / POWERS_OF_TEN[digit] % 10));
+    }
+    return true;
+  }
+
   /**
    * Used in various APIs to format the user provided radiuses to a String matching the APIs format.
    *
@@ -99,16 +192,18 @@ public final class TextUtils {
       return null;
     }
 
-    String[] radiusesFormatted = new String[radiuses.length];
+    StringBuilder builder = new StringBuilder(radiuses.length * COORDINATE_CAPACITY);
     for (int i = 0; i < radiuses.length; i++) {
+      if (i > 0) {
+        builder.append(';');
+      }
       if (radiuses[i] == Double.POSITIVE_INFINITY) {
-        radiusesFormatted[i] = "unlimited";
+        builder.append("unlimited");
       } else {
-        radiusesFormatted[i] = String.format(Locale.US, "%s",
-          TextUtils.formatCoordinate(radiuses[i]));
+        appendCoordinate(builder, radiuses[i]);
       }
     }
-    return join(";", radiusesFormatted);
+    return builder.toString();
   }
 
   /**
@@ -124,17 +219,18 @@ public final class TextUtils {
       return null;
     }
 
-    String[] bearingFormatted = new String[bearings.size()];
+    StringBuilder builder = new StringBuilder(bearings.size() * COORDINATE_CAPACITY);
     for (int i = 0; i < bearings.size(); i++) {
-      if (bearings.get(i).length == 0) {
-        bearingFormatted[i] = "";
-      } else {
-        bearingFormatted[i] = String.format(Locale.US, "%s,%s",
-          TextUtils.formatCoordinate(bearings.get(i)[0]),
-          TextUtils.formatCoordinate(bearings.get(i)[1]));
+      if (i > 0) {
+        builder.append(';');
+      }
+      Double[] bearing = bearings.get(i);
+      if (bearing.length != 0) {
+        appendCoordinate(builder, bearing[0]).append(',');
+        appendCoordinate(builder, bearing[1]);
       }
     }
-    return TextUtils.join(";", bearingFormatted);
+    return builder.toString();
   }
 
   /**
@@ -149,17 +245,18 @@ public final class TextUtils {
       return null;
     }
 
-    String[] distributionsFormatted = new String[distributions.size()];
+    StringBuilder builder = new StringBuilder(distributions.size() * COORDINATE_CAPACITY);
     for (int i = 0; i < distributions.size(); i++) {
-      if (distributions.get(i).length == 0) {
-        distributionsFormatted[i] = "";
-      } else {
-        distributionsFormatted[i] = String.format(Locale.US, "%s,%s",
-          TextUtils.formatCoordinate(distributions.get(i)[0]),
-          TextUtils.formatCoordinate(distributions.get(i)[1]));
+      if (i > 0) {
+        builder.append(';');
+      }
+      Integer[] distribution = distributions.get(i);
+      if (distribution.length != 0) {
+        appendCoordinate(builder, distribution[0]).append(',');
+        appendCoordinate(builder, distribution[1]);
       }
     }
-    return TextUtils.join(";", distributionsFormatted);
+    return builder.toString();
   }
 
   /**
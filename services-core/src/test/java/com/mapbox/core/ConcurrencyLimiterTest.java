@@ -0,0 +1,116 @@
+package com.mapbox.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class ConcurrencyLimiterTest extends TestUtils {
+
+  @Rule
+  public ExpectedException thrown = ExpectedException.none();
+
+  @Test
+  public void constructor_rejectsLimitBelowOne() throws Exception {
+    thrown.expect(IllegalArgumentException.class);
+    new ConcurrencyLimiter(0);
+  }
+
+  @Test
+  public void acquire_blocksUntilReleased() throws Exception {
+    final ConcurrencyLimiter limiter = new ConcurrencyLimiter(1);
+    limiter.acquire();
+    assertEquals(1, limiter.activeCalls());
+
+    final CountDownLatch acquired = new CountDownLatch(1);
+    Thread thread = new Thread(new Runnable() {
+      @Override
+      public void run() {
+        try {
+          limiter.acquire();
+          acquired.countDown();
+        } catch (InterruptedException interrupted) {
+          Thread.currentThread().interrupt();
+        }
+      }
+    });
+    thread.start();
+
+    assertFalse(acquired.await(100, TimeUnit.MILLISECONDS));
+    limiter.release();
+    assertTrue(acquired.await(5, TimeUnit.SECONDS));
+    assertEquals(1, limiter.activeCalls());
+  }
+
+  @Test
+  public void enqueue_runsQueuedTasksOnRelease() throws Exception {
+    ConcurrencyLimiter limiter = new ConcurrencyLimiter(2);
+    final AtomicInteger started = new AtomicInteger();
+    Runnable task = new Runnable() {
+      @Override
+      public void run() {
+        started.incrementAndGet();
+      }
+    };
+
+    for (int i = 0; i < 5; i++) {
+      limiter.enqueue(task);
+    }
+    assertEquals(2, started.get());
+    assertEquals(2, limiter.activeCalls());
+
+    limiter.release();
+    assertEquals(3, started.get());
+    assertEquals(2, limiter.activeCalls());
+
+    for (int i = 0; i < 4; i++) {
+      limiter.release();
+    }
+    assertEquals(5, started.get());
+    assertEquals(0, limiter.activeCalls());
+  }
+
+  @Test
+  public void release_servesBlockedThreadsAndQueuedTasksInOrder() throws Exception {
+    final ConcurrencyLimiter limiter = new ConcurrencyLimiter(1);
+    limiter.acquire();
+
+    final CountDownLatch acquired = new CountDownLatch(1);
+    Thread thread = new Thread(new Runnable() {
+      @Override
+      public void run() {
+        try {
+          limiter.acquire();
+          acquired.countDown();
+        } catch (InterruptedException interrupted) {
+          Thread.currentThread().interrupt();
+        }
+      }
+    });
+    thread.start();
+    assertFalse(acquired.await(100, TimeUnit.MILLISECONDS));
+
+    final AtomicInteger started = new AtomicInteger();
+    limiter.enqueue(new Runnable() {
+      @Override
+      public void run() {
+        started.incrementAndGet();
+      }
+    });
+
+    limiter.release();
+    assertTrue(acquired.await(5, TimeUnit.SECONDS));
+    assertEquals(0, started.get());
+
+    limiter.release();
+    assertEquals(1, started.get());
+    assertEquals(1, limiter.activeCalls());
+  }
+}
@@ -0,0 +1,79 @@
+package com.mapbox.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public class HistogramTest extends TestUtils {
+
+  @Rule
+  public ExpectedException thrown = ExpectedException.none();
+
+  @Test
+  public void emptyHistogram_returnsZero() throws Exception {
+    Histogram histogram = new Histogram();
+    assertEquals(0, histogram.count());
+    assertEquals(0, histogram.max());
+    assertEquals(0, histogram.mean(), DELTA);
+    assertEquals(0, histogram.percentile(99));
+  }
+
+  @Test
+  public void smallValues_countedExactly() throws Exception {
+    Histogram histogram = new Histogram();
+    for (int i = 1; i <= 10; i++) {
+      histogram.record(i);
+    }
+    assertEquals(10, histogram.count());
+    assertEquals(5, histogram.percentile(50));
+    assertEquals(10, histogram.percentile(100));
+    assertEquals(1, histogram.percentile(0));
+    assertEquals(5.5, histogram.mean(), DELTA);
+  }
+
+  @Test
+  public void largeValues_percentilesWithinBucketPrecision() throws Exception {
+    Histogram histogram = new Histogram();
+    for (int i = 1; i <= 1000; i++) {
+      histogram.record(i * 1000000L);
+    }
+    assertEquals(1000000000L, histogram.max());
+    assertWithinPrecision(500000000L, histogram.percentile(50));
+    assertWithinPrecision(990000000L, histogram.percentile(99));
+    assertEquals(1000000000L, histogram.percentile(100));
+  }
+
+  @Test
+  public void bucketOf_everyValueFallsIntoItsBucket() throws Exception {
+    long[] values = {0, 31, 32, 63, 64, 65, 1000, 123456789L, Long.MAX_VALUE};
+    for (long value : values) {
+      int bucket = Histogram.bucketOf(value);
+      assertTrue(Histogram.highestValueOf(bucket) >= value);
+      if (bucket > 0) {
+        assertTrue(Histogram.highestValueOf(bucket - 1) < value);
+      }
+    }
+  }
+
+  @Test
+  public void record_negativeValuesRecordedAsZero() throws Exception {
+    Histogram histogram = new Histogram();
+    histogram.record(-5);
+    assertEquals(1, histogram.count());
+    assertEquals(0, histogram.percentile(100));
+  }
+
+  @Test
+  public void percentile_rejectsOutOfRangePercentage() throws Exception {
+    thrown.expect(IllegalArgumentException.class);
+    new Histogram().percentile(101);
+  }
+
+  private static void assertWithinPrecision(long expected, long actual) {
+    assertTrue(actual + " isn't close to " + expected,
+      Math.abs(actual - expected) <= expected / 32);
+  }
+}
@@ -1,11 +1,716 @@
 package com.mapbox.core;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.After;
 import org.junit.Test;
 
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import okhttp3.EventListener;
+import okhttp3.HttpUrl;
+import okhttp3.OkHttpClient;
+import okhttp3.ResponseBody;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.SocketPolicy;
+import retrofit2.Call;
+import retrofit2.Callback;
+import retrofit2.Response;
+import retrofit2.http.GET;
+
 public class MapboxServiceTest extends TestUtils {
 
+  @After
+  public void tearDown() {
+    MapboxService.setSharedOkHttpClient(null);
+    ServiceCache.clear();
+    MapboxService.setDefaultConcurrencyLimiter(null);
+    MapboxService.setRateLimiter(TestService.class, null);
+    MapboxService.setDefaultRetryPolicy(null);
+    MapboxService.setDefaultCallCoalescer(null);
+    MapboxService.setCallMetricsListener(null);
+    MapboxService.setBufferedParsing(false);
+  }
+
   @Test
   public void enableDebug_doesEnableHttpDebugging() throws Exception {
 
   }
+
+  @Test
+  public void getOkHttpClient_usesSharedClient() throws Exception {
+    TestService first = new TestService();
+    TestService second = new TestService();
+    assertSame(MapboxService.getSharedOkHttpClient(), first.getOkHttpClient());
+    assertSame(first.getOkHttpClient(), second.getOkHttpClient());
+  }
+
+  @Test
+  public void getOkHttpClient_debugClientSharesConnectionPoolAndDispatcher() throws Exception {
+    OkHttpClient shared = MapboxService.getSharedOkHttpClient();
+    TestService service = new TestService();
+    service.enableDebug(true);
+
+    OkHttpClient client = service.getOkHttpClient();
+    assertNotSame(shared, client);
+    assertSame(shared.connectionPool(), client.connectionPool());
+    assertSame(shared.dispatcher(), client.dispatcher());
+  }
+
+  @Test
+  public void setSharedOkHttpClient_replacesTheSharedClient() throws Exception {
+    OkHttpClient client = new OkHttpClient();
+    MapboxService.setSharedOkHttpClient(client);
+    assertSame(client, MapboxService.getSharedOkHttpClient());
+    assertSame(client, new TestService().getOkHttpClient());
+  }
+
+  @Test
+  public void getService_sharedBetweenInstancesWithSameConfiguration() throws Exception {
+    TestService first = new TestService();
+    TestService second = new TestService();
+    assertSame(first.getService(), second.getService());
+    assertSame(first.getRetrofit(), second.getRetrofit());
+  }
+
+  @Test
+  public void getService_notSharedBetweenDifferentBaseUrls() throws Exception {
+    TestService first = new TestService();
+    TestService second = new TestService("https://example.com");
+    assertNotSame(first.getService(), second.getService());
+    assertEquals("https://example.com/", second.getRetrofit().baseUrl().toString());
+  }
+
+  @Test
+  public void getService_notSharedBetweenDifferentCallFactories() throws Exception {
+    TestService first = new TestService();
+    TestService second = new TestService();
+    second.setCallFactory(new OkHttpClient());
+    assertNotSame(first.getService(), second.getService());
+  }
+
+  @Test
+  public void getService_instanceClientNotCached() throws Exception {
+    TestService service = new TestService();
+    service.enableDebug(true);
+    service.getService();
+    assertEquals(0, ServiceCache.size());
+    assertNotSame(service.getService(), new TestService().getService());
+  }
+
+  @Test
+  public void getService_cacheIsBounded() throws Exception {
+    for (int i = 0; i <= ServiceCache.MAX_SIZE; i++) {
+      TestService service = new TestService();
+      service.setCallFactory(new OkHttpClient());
+      service.getService();
+    }
+    assertEquals(ServiceCache.MAX_SIZE, ServiceCache.size());
+  }
+
+  @Test
+  public void getService_cacheKeepsRecentlyUsedEntries() throws Exception {
+    Object shared = new TestService().getService();
+    for (int i = 0; i <= ServiceCache.MAX_SIZE; i++) {
+      TestService service = new TestService();
+      service.setCallFactory(new OkHttpClient());
+      service.getService();
+      assertSame(shared, new TestService().getService());
+    }
+  }
+
+  @Test
+  public void getCall_notLimitedByDefault() throws Exception {
+    assertFalse(new TestService().getCall() instanceof LimitedCall);
+  }
+
+  @Test
+  public void getCall_limitedByConcurrencyLimiter() throws Exception {
+    ConcurrencyLimiter limiter = new ConcurrencyLimiter(2);
+    TestService service = new TestService();
+    service.setConcurrencyLimiter(limiter);
+    assertSame(limiter, service.getConcurrencyLimiter());
+    assertTrue(service.getCall() instanceof LimitedCall);
+    assertTrue(service.cloneCall() instanceof LimitedCall);
+  }
+
+  @Test
+  public void getCall_limitedByDefaultConcurrencyLimiter() throws Exception {
+    ConcurrencyLimiter limiter = new ConcurrencyLimiter(2);
+    MapboxService.setDefaultConcurrencyLimiter(limiter);
+    TestService service = new TestService();
+    assertSame(limiter, service.getConcurrencyLimiter());
+    assertTrue(service.getCall() instanceof LimitedCall);
+  }
+
+  @Test
+  public void enqueueCall_queuedCallFailingToStartReturnsItsPermit() throws Exception {
+    MockWebServer server = new MockWebServer();
+    server.enqueue(new MockResponse().setBody("{}").setBodyDelay(200, TimeUnit.MILLISECONDS));
+    server.start();
+    try {
+      ConcurrencyLimiter limiter = new ConcurrencyLimiter(1);
+      TestService service = new TestService(server.url("/").toString());
+      service.setConcurrencyLimiter(limiter);
+      final CountDownLatch done = new CountDownLatch(2);
+      final AtomicReference<Throwable> failure = new AtomicReference<>();
+      Callback<Object> callback = new Callback<Object>() {
+        @Override
+        public void onResponse(Call<Object> call, Response<Object> response) {
+          done.countDown();
+        }
+
+        @Override
+        public void onFailure(Call<Object> call, Throwable throwable) {
+          failure.set(throwable);
+          done.countDown();
+        }
+      };
+
+      // The second call waits for the permit of the first, then can't start on the same instance
+      service.enqueueCall(callback);
+      service.enqueueCall(callback);
+
+      assertTrue(done.await(5, TimeUnit.SECONDS));
+      assertTrue(failure.get() instanceof IllegalStateException);
+      assertEquals(0, limiter.activeCalls());
+    } finally {
+      server.shutdown();
+    }
+  }
+
+  @Test
+  public void getCall_limitedByApiFamilyRateLimiter() throws Exception {
+    assertNull(new TestService().getRateLimiter());
+
+    RateLimiter rateLimiter = new RateLimiter(60, 1, TimeUnit.MINUTES);
+    MapboxService.setRateLimiter(TestService.class, rateLimiter);
+    TestService service = new TestService() {
+      // Subclasses belong to the same API family
+    };
+    assertSame(rateLimiter, service.getRateLimiter());
+    assertTrue(service.getCall() instanceof RateLimitedCall);
+  }
+
+  @Test
+  public void getCall_retriedByDefaultRetryPolicy() throws Exception {
+    assertNull(new TestService().getRetryPolicy());
+
+    RetryPolicy policy = RetryPolicy.builder().build();
+    MapboxService.setDefaultRetryPolicy(policy);
+    TestService service = new TestService();
+    assertSame(policy, service.getRetryPolicy());
+    assertTrue(service.getCall() instanceof RetryingCall);
+    assertTrue(service.cloneCall() instanceof RetryingCall);
+  }
+
+  @Test
+  public void executeCall_retriesServerErrors() throws Exception {
+    MockWebServer server = new MockWebServer();
+    server.enqueue(new MockResponse().setResponseCode(503));
+    server.enqueue(new MockResponse().setBody("{}"));
+    server.start();
+    try {
+      TestService service = new TestService(server.url("/").toString());
+      service.setRetryPolicy(fastRetries().build());
+
+      Response<Object> response = service.executeCall();
+      assertTrue(response.isSuccessful());
+      assertEquals(2, server.getRequestCount());
+    } finally {
+      server.shutdown();
+    }
+  }
+
+  @Test
+  public void executeCall_returnsLastErrorOnceAttemptsAreExhausted() throws Exception {
+    MockWebServer server = new MockWebServer();
+    for (int i = 0; i < 3; i++) {
+      server.enqueue(new MockResponse().setResponseCode(500));
+    }
+    server.start();
+    try {
+      TestService service = new TestService(server.url("/").toString());
+      service.setRetryPolicy(fastRetries().maxAttempts(2).build());
+
+      assertEquals(500, service.executeCall().code());
+      assertEquals(2, server.getRequestCount());
+    } finally {
+      server.shutdown();
+    }
+  }
+
+  @Test
+  public void executeCall_doesNotRetryClientErrors() throws Exception {
+    MockWebServer server = new MockWebServer();
+    server.enqueue(new MockResponse().setResponseCode(401));
+    server.enqueue(new MockResponse().setBody("{}"));
+    server.start();
+    try {
+      TestService service = new TestService(server.url("/").toString());
+      service.setRetryPolicy(fastRetries().build());
+
+      assertEquals(401, service.executeCall().code());
+      assertEquals(1, server.getRequestCount());
+    } finally {
+      server.shutdown();
+    }
+  }
+
+  @Test
+  public void executeAsync_retriesConnectionFailures() throws Exception {
+    MockWebServer server = new MockWebServer();
+    server.enqueue(new MockResponse().setSocketPolicy(SocketPolicy.DISCONNECT_AFTER_REQUEST));
+    server.enqueue(new MockResponse().setBody("{}"));
+    server.start();
+    try {
+      TestService service = new TestService(server.url("/").toString());
+      service.setRetryPolicy(fastRetries().build());
+
+      Response<Object> response = service.executeAsync().get(5, TimeUnit.SECONDS);
+      assertTrue(response.isSuccessful());
+      assertEquals(2, server.getRequestCount());
+    } finally {
+      server.shutdown();
+    }
+  }
+
+  @Test
+  public void executeCall_hedgesSlowRequests() throws Exception {
+    MockWebServer server = new MockWebServer();
+    server.enqueue(new MockResponse().setBody("{}").setBodyDelay(10, TimeUnit.SECONDS));
+    server.enqueue(new MockResponse().setBody("{}"));
+    server.start();
+    try {
+      TestService service = new TestService(server.url("/").toString());
+      service.setRetryPolicy(RetryPolicy.builder()
+        .maxAttempts(1)
+        .hedgeDelay(100, TimeUnit.MILLISECONDS)
+        .build());
+
+      long start = System.nanoTime();
+      Response<Object> response = service.executeCall();
+      assertTrue(response.isSuccessful());
+      assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(5));
+      assertEquals(2, server.getRequestCount());
+    } finally {
+      server.shutdown();
+    }
+  }
+
+  @Test
+  public void executeCall_hedgeDelayStartsOnceRateLimitLetsRequestOut() throws Exception {
+    MockWebServer server = new MockWebServer();
+    server.enqueue(new MockResponse().setBody("{}"));
+    server.enqueue(new MockResponse().setBody("{}").setBodyDelay(50, TimeUnit.MILLISECONDS));
+    server.start();
+    try {
+      RateLimiter rateLimiter = new RateLimiter(1, 500, TimeUnit.MILLISECONDS);
+      MapboxService.setRateLimiter(TestService.class, rateLimiter);
+      new TestService(server.url("/").toString()).executeCall();
+
+      TestService service = new TestService(server.url("/").toString());
+      service.setRetryPolicy(RetryPolicy.builder()
+        .maxAttempts(1)
+        .hedgeDelay(100, TimeUnit.MILLISECONDS)
+        .build());
+      assertTrue(service.executeCall().isSuccessful());
+
+      // A hedge launched while waiting for the rate limit would have taken the next permit
+      assertTrue(rateLimiter.reserve() < TimeUnit.MILLISECONDS.toNanos(700));
+      assertEquals(2, server.getRequestCount());
+    } finally {
+      server.shutdown();
+    }
+  }
+
+  @Test
+  public void getCall_coalescedByDefaultCallCoalescer() throws Exception {
+    assertNull(new TestService().getCallCoalescer());
+
+    CallCoalescer coalescer = new CallCoalescer();
+    MapboxService.setDefaultCallCoalescer(coalescer);
+    TestService service = new TestService();
+    assertSame(coalescer, service.getCallCoalescer());
+    assertTrue(service.getCall() instanceof CoalescingCall);
+  }
+
+  @Test
+  public void executeAsync_identicalCallsShareOneRequest() throws Exception {
+    MockWebServer server = new MockWebServer();
+    server.enqueue(new MockResponse().setBody("{}").setBodyDelay(500, TimeUnit.MILLISECONDS));
+    server.start();
+    try {
+      CallCoalescer coalescer = new CallCoalescer();
+      List<ResponseFuture<Object>> futures = new ArrayList<>();
+      for (int i = 0; i < 5; i++) {
+        TestService service = new TestService(server.url("/").toString());
+        service.setCallCoalescer(coalescer);
+        futures.add(service.executeAsync());
+      }
+
+      for (ResponseFuture<Object> future : futures) {
+        assertTrue(future.get(5, TimeUnit.SECONDS).isSuccessful());
+      }
+      assertEquals(1, server.getRequestCount());
+      assertEquals(4, coalescer.coalescedCalls());
+      assertEquals(0, coalescer.inFlightRequests());
+    } finally {
+      server.shutdown();
+    }
+  }
+
+  @Test
+  public void executeCall_sharedErrorBodyReadableByEveryCall() throws Exception {
+    MockWebServer server = new MockWebServer();
+    server.enqueue(new MockResponse().setResponseCode(404).setBody("{\"message\":\"Not Found\"}")
+      .setBodyDelay(500, TimeUnit.MILLISECONDS));
+    server.start();
+    try {
+      CallCoalescer coalescer = new CallCoalescer();
+      TestService first = new TestService(server.url("/").toString());
+      first.setCallCoalescer(coalescer);
+      TestService second = new TestService(server.url("/").toString());
+      second.setCallCoalescer(coalescer);
+
+      ResponseFuture<Object> future = first.executeAsync();
+      Response<Object> response = second.executeCall();
+      assertEquals("{\"message\":\"Not Found\"}", response.errorBody().string());
+      assertEquals("{\"message\":\"Not Found\"}",
+        future.get(5, TimeUnit.SECONDS).errorBody().string());
+      assertEquals(1, server.getRequestCount());
+    } finally {
+      server.shutdown();
+    }
+  }
+
+  @Test
+  public void executeCall_sharedResponseBodyReadableByEveryCall() throws Exception {
+    MockWebServer server = new MockWebServer();
+    server.enqueue(new MockResponse().setBody("audio").setBodyDelay(500, TimeUnit.MILLISECONDS));
+    server.start();
+    try {
+      CallCoalescer coalescer = new CallCoalescer();
+      BodyService first = new BodyService(server.url("/").toString());
+      first.setCallCoalescer(coalescer);
+      BodyService second = new BodyService(server.url("/").toString());
+      second.setCallCoalescer(coalescer);
+
+      ResponseFuture<ResponseBody> future = first.executeAsync();
+      assertEquals("audio", second.executeCall().body().string());
+      assertEquals("audio", future.get(5, TimeUnit.SECONDS).body().string());
+      assertEquals(1, server.getRequestCount());
+    } finally {
+      server.shutdown();
+    }
+  }
+
+  @Test
+  public void executeAsync_callsThroughDifferentCallFactoriesNotShared() throws Exception {
+    MockWebServer server = new MockWebServer();
+    server.enqueue(new MockResponse().setBody("{}").setBodyDelay(500, TimeUnit.MILLISECONDS));
+    server.enqueue(new MockResponse().setBody("{}").setBodyDelay(500, TimeUnit.MILLISECONDS));
+    server.start();
+    try {
+      CallCoalescer coalescer = new CallCoalescer();
+      TestService first = new TestService(server.url("/").toString());
+      first.setCallCoalescer(coalescer);
+      TestService second = new TestService(server.url("/").toString());
+      second.setCallCoalescer(coalescer);
+      second.setCallFactory(new OkHttpClient());
+
+      ResponseFuture<Object> firstFuture = first.executeAsync();
+      ResponseFuture<Object> secondFuture = second.executeAsync();
+      assertTrue(firstFuture.get(5, TimeUnit.SECONDS).isSuccessful());
+      assertTrue(secondFuture.get(5, TimeUnit.SECONDS).isSuccessful());
+      assertEquals(2, server.getRequestCount());
+      assertEquals(0, coalescer.coalescedCalls());
+    } finally {
+      server.shutdown();
+    }
+  }
+
+  @Test
+  public void cancelCall_onlyDetachesTheCancelledCall() throws Exception {
+    MockWebServer server = new MockWebServer();
+    server.enqueue(new MockResponse().setBody("{}").setBodyDelay(500, TimeUnit.MILLISECONDS));
+    server.start();
+    try {
+      CallCoalescer coalescer = new CallCoalescer();
+      TestService first = new TestService(server.url("/").toString());
+      first.setCallCoalescer(coalescer);
+      TestService second = new TestService(server.url("/").toString());
+      second.setCallCoalescer(coalescer);
+
+      ResponseFuture<Object> cancelled = first.executeAsync();
+      ResponseFuture<Object> future = second.executeAsync();
+      first.cancelCall();
+      assertTrue(future.get(5, TimeUnit.SECONDS).isSuccessful());
+      assertTrue(cancelled.isDone());
+      assertTrue(first.getCall().isCanceled());
+    } finally {
+      server.shutdown();
+    }
+  }
+
+  @Test
+  public void executeCall_reportsCallMetrics() throws Exception {
+    MockWebServer server = new MockWebServer();
+    server.enqueue(new MockResponse().setBody("{\"key\":\"value\"}"));
+    server.start();
+    try {
+      InMemoryCallMetrics metrics = new InMemoryCallMetrics();
+      MapboxService.setCallMetricsListener(metrics);
+      TestService service = new TestService(server.url("/").toString());
+
+      assertTrue(service.executeCall().isSuccessful());
+      InMemoryCallMetrics.CallHistograms histograms = metrics.get("TestApi", null);
+      assertEquals(1, histograms.total().count());
+      assertEquals(1, histograms.parse().count());
+      assertEquals(1, histograms.timeToFirstByte().count());
+      assertEquals(15, histograms.responseBytes().max());
+      assertEquals(0, histograms.failures());
+      assertTrue(histograms.total().max() >= histograms.timeToFirstByte().max());
+    } finally {
+      server.shutdown();
+    }
+  }
+
+  @Test
+  public void executeCall_reportsParseMetricsPerResponseType() throws Exception {
+    MockWebServer server = new MockWebServer();
+    server.enqueue(new MockResponse().setBody("{\"key\":\"value\"}"));
+    server.enqueue(new MockResponse().setBody("{\"key\":\"other value\"}"));
+    server.start();
+    try {
+      InMemoryCallMetrics metrics = new InMemoryCallMetrics();
+      MapboxService.setCallMetricsListener(metrics);
+
+      new TestService(server.url("/").toString()).executeCall();
+      MapboxService.setBufferedParsing(true);
+      new TestService(server.url("/").toString()).executeCall();
+
+      InMemoryCallMetrics.ParseHistograms histograms = metrics.getByResponseType("Object");
+      assertEquals(2, histograms.parse().count());
+      assertEquals(2, histograms.parsedBytes().count());
+      assertEquals(21, histograms.parsedBytes().max());
+    } finally {
+      server.shutdown();
+    }
+  }
+
+  @Test
+  public void executeCall_parsesBufferedBodies() throws Exception {
+    MockWebServer server = new MockWebServer();
+    server.enqueue(new MockResponse().setBody("{\"key\":\"value\"}"));
+    server.start();
+    try {
+      MapboxService.setBufferedParsing(true);
+      TestService service = new TestService(server.url("/").toString());
+
+      Response<Object> response = service.executeCall();
+      assertEquals("{key=value}", response.body().toString());
+    } finally {
+      server.shutdown();
+    }
+  }
+
+  @Test
+  public void executeCall_skipsByteOrderMarkOfInstrumentedBodies() throws Exception {
+    MockWebServer server = new MockWebServer();
+    server.enqueue(new MockResponse().setBody("\uFEFF{\"key\":\"value\"}"));
+    server.enqueue(new MockResponse().setBody("\uFEFF{\"key\":\"value\"}"));
+    server.start();
+    try {
+      MapboxService.setCallMetricsListener(new InMemoryCallMetrics());
+      Response<Object> response = new TestService(server.url("/").toString()).executeCall();
+      assertEquals("{key=value}", response.body().toString());
+
+      MapboxService.setBufferedParsing(true);
+      response = new TestService(server.url("/").toString()).executeCall();
+      assertEquals("{key=value}", response.body().toString());
+    } finally {
+      server.shutdown();
+    }
+  }
+
+  @Test
+  public void executeCall_reportsErrorResponsesWithoutParsingThem() throws Exception {
+    MockWebServer server = new MockWebServer();
+    server.enqueue(new MockResponse().setResponseCode(404).setBody("{}"));
+    server.start();
+    try {
+      final List<CallMetrics> reported = new ArrayList<>();
+      MapboxService.setCallMetricsListener(new CallMetricsListener() {
+        @Override
+        public void onCallCompleted(CallMetrics metrics) {
+          reported.add(metrics);
+        }
+      });
+      TestService service = new TestService(server.url("/").toString());
+
+      assertEquals(404, service.executeCall().code());
+      assertEquals(1, reported.size());
+      assertEquals(404, reported.get(0).code());
+      assertEquals(-1, reported.get(0).parseNanos());
+      assertEquals(2, reported.get(0).responseBytes());
+      assertNull(reported.get(0).responseType());
+    } finally {
+      server.shutdown();
+    }
+  }
+
+  @Test
+  public void executeCall_reportsUnconvertedBodies() throws Exception {
+    MockWebServer server = new MockWebServer();
+    server.enqueue(new MockResponse().setBody("audio"));
+    server.start();
+    try {
+      final List<CallMetrics> reported = new ArrayList<>();
+      MapboxService.setCallMetricsListener(new CallMetricsListener() {
+        @Override
+        public void onCallCompleted(CallMetrics metrics) {
+          reported.add(metrics);
+        }
+      });
+      BodyService service = new BodyService(server.url("/").toString());
+
+      assertEquals("audio", service.executeCall().body().string());
+      assertEquals(1, reported.size());
+      assertEquals(200, reported.get(0).code());
+      assertEquals(-1, reported.get(0).parseNanos());
+      assertEquals(5, reported.get(0).responseBytes());
+      // The body was read on this thread, its recorder isn't left behind for the next call
+      assertNull(CallRecorder.takeCurrent());
+    } finally {
+      server.shutdown();
+    }
+  }
+
+  @Test
+  public void executeCall_reportsFailedCalls() throws Exception {
+    MockWebServer server = new MockWebServer();
+    // OkHttp might silently retry on a new connection once
+    server.enqueue(new MockResponse().setSocketPolicy(SocketPolicy.DISCONNECT_AFTER_REQUEST));
+    server.enqueue(new MockResponse().setSocketPolicy(SocketPolicy.DISCONNECT_AFTER_REQUEST));
+    server.start();
+    try {
+      InMemoryCallMetrics metrics = new InMemoryCallMetrics();
+      MapboxService.setCallMetricsListener(metrics);
+      TestService service = new TestService(server.url("/").toString());
+
+      try {
+        service.executeCall();
+      } catch (IOException expected) {
+        // The failure is reported as well
+      }
+      assertEquals(1, metrics.get("TestApi", null).failures());
+    } finally {
+      server.shutdown();
+    }
+  }
+
+  @Test
+  public void executeCall_keepsTheEventListenerOfTheClient() throws Exception {
+    MockWebServer server = new MockWebServer();
+    server.enqueue(new MockResponse().setBody("{}"));
+    server.start();
+    try {
+      final List<String> events = new ArrayList<>();
+      MapboxService.setSharedOkHttpClient(new OkHttpClient.Builder()
+        .eventListener(new EventListener() {
+          @Override
+          public void callEnd(okhttp3.Call call) {
+            events.add("callEnd");
+          }
+        })
+        .build());
+      MapboxService.setCallMetricsListener(new InMemoryCallMetrics());
+      TestService service = new TestService(server.url("/").toString());
+
+      service.executeCall();
+      assertEquals(1, events.size());
+    } finally {
+      server.shutdown();
+    }
+  }
+
+  @Test
+  public void metricsProfile_extractedFromRoutingAndGeocodingPaths() throws Exception {
+    assertEquals("mapbox/driving", MetricsCallFactory.profile(
+      HttpUrl.parse("https://api.mapbox.com/directions/v5/mapbox/driving/1.0,2.0;3.0,4.0")));
+    assertEquals("mapbox/walking", MetricsCallFactory.profile(
+      HttpUrl.parse("https://api.mapbox.com/directions-matrix/v1/mapbox/walking/1.0,2.0")));
+    assertEquals("mapbox.places", MetricsCallFactory.profile(
+      HttpUrl.parse("https://api.mapbox.com/geocoding/v5/mapbox.places/paris.json")));
+    assertNull(MetricsCallFactory.profile(
+      HttpUrl.parse("https://api.mapbox.com/voice/v1/speak/hello")));
+  }
+
+  private static RetryPolicy.Builder fastRetries() {
+    return RetryPolicy.builder().backoff(1, 10, TimeUnit.MILLISECONDS);
+  }
+
+  private interface TestApi {
+    @GET("test")
+    Call<Object> getCall();
+
+    @GET("test")
+    Call<ResponseBody> getBody();
+  }
+
+  private static class TestService extends MapboxService<Object, TestApi> {
+
+    private final String baseUrl;
+
+    TestService() {
+      this("https://api.mapbox.com");
+    }
+
+    TestService(String baseUrl) {
+      super(TestApi.class);
+      this.baseUrl = baseUrl;
+    }
+
+    @Override
+    protected String baseUrl() {
+      return baseUrl;
+    }
+
+    @Override
+    protected Call<Object> initializeCall() {
+      return getService().getCall();
+    }
+  }
+
+  private static class BodyService extends MapboxService<ResponseBody, TestApi> {
+
+    private final String baseUrl;
+
+    BodyService(String baseUrl) {
+      super(TestApi.class);
+      this.baseUrl = baseUrl;
+    }
+
+    @Override
+    protected String baseUrl() {
+      return baseUrl;
+    }
+
+    @Override
+    protected Call<ResponseBody> initializeCall() {
+      return getService().getBody();
+    }
+  }
 }
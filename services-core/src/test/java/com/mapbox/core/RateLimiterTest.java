@@ -0,0 +1,80 @@
+package com.mapbox.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.util.concurrent.TimeUnit;
+
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
+
+public class RateLimiterTest extends TestUtils {
+
+  @Rule
+  public ExpectedException thrown = ExpectedException.none();
+
+  @Test
+  public void constructor_rejectsNoPermits() throws Exception {
+    thrown.expect(IllegalArgumentException.class);
+    new RateLimiter(0, 1, TimeUnit.MINUTES);
+  }
+
+  @Test
+  public void reserve_burstThenSteadyRate() throws Exception {
+    RateLimiter limiter = new RateLimiter(2, 1, TimeUnit.SECONDS);
+    assertEquals(2, limiter.permitsPerSecond(), DELTA);
+
+    assertEquals(0, limiter.reserve());
+    assertEquals(0, limiter.reserve());
+    long wait = limiter.reserve();
+    assertTrue(wait > TimeUnit.MILLISECONDS.toNanos(400));
+    assertTrue(wait <= TimeUnit.MILLISECONDS.toNanos(500));
+    assertTrue(limiter.reserve() > TimeUnit.MILLISECONDS.toNanos(900));
+  }
+
+  @Test
+  public void update_adaptsToRateLimitHeaders() throws Exception {
+    RateLimiter limiter = new RateLimiter(60, 1, TimeUnit.MINUTES);
+    limiter.update(response(200)
+      .header("X-Rate-Limit-Limit", "300")
+      .header("X-Rate-Limit-Interval", "60")
+      .build());
+    assertEquals(5, limiter.permitsPerSecond(), DELTA);
+  }
+
+  @Test
+  public void update_blocksOnTooManyRequests() throws Exception {
+    RateLimiter limiter = new RateLimiter(60, 1, TimeUnit.MINUTES);
+    limiter.update(response(429).header("Retry-After", "2").build());
+    assertTrue(limiter.reserve() > TimeUnit.MILLISECONDS.toNanos(1500));
+  }
+
+  @Test
+  public void update_blocksUntilReset() throws Exception {
+    RateLimiter limiter = new RateLimiter(60, 1, TimeUnit.MINUTES);
+    long reset = TimeUnit.MILLISECONDS.toSeconds(System.currentTimeMillis()) + 10;
+    limiter.update(response(429).header("X-Rate-Limit-Reset", String.valueOf(reset)).build());
+    assertTrue(limiter.reserve() > TimeUnit.SECONDS.toNanos(8));
+  }
+
+  @Test
+  public void update_ignoresResponsesWithoutHeaders() throws Exception {
+    RateLimiter limiter = new RateLimiter(60, 1, TimeUnit.MINUTES);
+    limiter.update(response(200).build());
+    assertEquals(1, limiter.permitsPerSecond(), DELTA);
+    assertEquals(0, limiter.reserve());
+  }
+
+  private static Response.Builder response(int code) {
+    return new Response.Builder()
+      .request(new Request.Builder().url("https://api.mapbox.com/").build())
+      .protocol(Protocol.HTTP_1_1)
+      .code(code)
+      .message("");
+  }
+}
@@ -0,0 +1,90 @@
+package com.mapbox.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.util.concurrent.TimeUnit;
+
+public class RetryPolicyTest extends TestUtils {
+
+  @Rule
+  public ExpectedException thrown = ExpectedException.none();
+
+  @Test
+  public void builder_defaults() throws Exception {
+    RetryPolicy policy = RetryPolicy.builder().build();
+    assertEquals(3, policy.maxAttempts());
+    assertFalse(policy.isHedging());
+  }
+
+  @Test
+  public void builder_rejectsNoAttempts() throws Exception {
+    thrown.expect(IllegalArgumentException.class);
+    RetryPolicy.builder().maxAttempts(0);
+  }
+
+  @Test
+  public void builder_rejectsInitialBackoffAboveMaximum() throws Exception {
+    thrown.expect(IllegalArgumentException.class);
+    RetryPolicy.builder().backoff(2, 1, TimeUnit.SECONDS);
+  }
+
+  @Test
+  public void backoffNanos_growsExponentiallyWithJitterUpToMaximum() throws Exception {
+    RetryPolicy policy = RetryPolicy.builder()
+      .backoff(100, 1000, TimeUnit.MILLISECONDS)
+      .build();
+    for (int i = 0; i < 100; i++) {
+      assertBetween(50, 100, policy.backoffNanos(1));
+      assertBetween(100, 200, policy.backoffNanos(2));
+      assertBetween(200, 400, policy.backoffNanos(3));
+      assertBetween(500, 1000, policy.backoffNanos(10));
+    }
+  }
+
+  @Test
+  public void hedgeDelayNanos_minimumUntilEnoughLatencies() throws Exception {
+    RetryPolicy policy = RetryPolicy.builder()
+      .hedgeDelay(10, TimeUnit.MILLISECONDS)
+      .build();
+    assertTrue(policy.isHedging());
+    policy.recordLatency(TimeUnit.SECONDS.toNanos(1));
+    assertEquals(TimeUnit.MILLISECONDS.toNanos(10), policy.hedgeDelayNanos());
+  }
+
+  @Test
+  public void hedgeDelayNanos_followsRecentLatencies() throws Exception {
+    RetryPolicy policy = RetryPolicy.builder()
+      .hedgeDelay(1, TimeUnit.MILLISECONDS)
+      .build();
+    for (int i = 1; i <= 100; i++) {
+      policy.recordLatency(TimeUnit.MILLISECONDS.toNanos(i));
+    }
+    assertEquals(TimeUnit.MILLISECONDS.toNanos(95), policy.hedgeDelayNanos());
+  }
+
+  @Test
+  public void isRetryable_onlyTransientServerErrors() throws Exception {
+    assertTrue(RetryPolicy.isRetryable(503));
+    assertFalse(RetryPolicy.isRetryable(501));
+    assertFalse(RetryPolicy.isRetryable(404));
+    assertFalse(RetryPolicy.isRetryable(429));
+  }
+
+  @Test
+  public void isIdempotent_onlyGetAndHead() throws Exception {
+    assertTrue(RetryPolicy.isIdempotent("GET"));
+    assertTrue(RetryPolicy.isIdempotent("HEAD"));
+    assertFalse(RetryPolicy.isIdempotent("POST"));
+  }
+
+  private static void assertBetween(long minMillis, long maxMillis, long nanos) {
+    assertTrue(nanos >= TimeUnit.MILLISECONDS.toNanos(minMillis));
+    assertTrue(nanos <= TimeUnit.MILLISECONDS.toNanos(maxMillis));
+  }
+}
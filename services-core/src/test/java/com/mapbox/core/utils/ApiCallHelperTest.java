@@ -1,5 +1,6 @@
 package com.mapbox.core.utils;
 
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 import com.mapbox.core.constants.Constants;
@@ -19,6 +20,16 @@ public class ApiCallHelperTest {
       "AppName").startsWith("AppName"));
   }
 
+  @Test
+  public void getHeaderUserAgent_computedOncePerClientAppName() throws Exception {
+    assertSame(ApiCallHelper.getHeaderUserAgent(null), ApiCallHelper.getHeaderUserAgent(null));
+    assertSame(ApiCallHelper.getHeaderUserAgent("AppName"),
+      ApiCallHelper.getHeaderUserAgent("AppName"));
+    Assert.assertEquals(ApiCallHelper.getHeaderUserAgent("AppName"),
+      ApiCallHelper.getHeaderUserAgent("AppName", System.getProperty("os.name"),
+        System.getProperty("os.version"), System.getProperty("os.arch")));
+  }
+
   @Test
   public void getHeaderUserAgent_nonAsciiCharsRemoved() {
 
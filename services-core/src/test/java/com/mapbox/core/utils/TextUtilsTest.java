@@ -7,6 +7,11 @@ import com.mapbox.core.TestUtils;
 import org.junit.Assert;
 import org.junit.Test;
 
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.util.Locale;
+import java.util.Random;
+
 public class TextUtilsTest extends TestUtils {
 
   @Test
@@ -25,7 +30,44 @@ public class TextUtilsTest extends TestUtils {
     }
     Assert.assertEquals("0.0-1.0-2.0-3.0", TextUtils.join("-", numbers));
   }
-}
 
+  @Test
+  public void formatCoordinate_roundsToSixDecimalsAndTrimsZeros() throws Exception {
+    Assert.assertEquals("-77.036547", TextUtils.formatCoordinate(-77.0365469999));
+    Assert.assertEquals("38.8977", TextUtils.formatCoordinate(38.8977));
+    Assert.assertEquals("180", TextUtils.formatCoordinate(180.0));
+    Assert.assertEquals("0.000002", TextUtils.formatCoordinate(0.0000015));
+    Assert.assertEquals("-0", TextUtils.formatCoordinate(-0.0000001));
+    Assert.assertEquals("unlimited;0.5", TextUtils.formatRadiuses(
+      new double[] {Double.POSITIVE_INFINITY, 0.5}));
+  }
 
+  @Test
+  public void formatCoordinate_matchesDecimalFormat() throws Exception {
+    DecimalFormat decimalFormat =
+      new DecimalFormat("0.######", new DecimalFormatSymbols(Locale.US));
+    Random random = new Random(0);
+    for (int i = 0; i < 10000; i++) {
+      // Half of the values fall right between two rounded coordinates
+      double coordinate = i % 2 == 0 ? random.nextDouble() * 360 - 180
+        : (Math.round((random.nextDouble() * 360 - 180) * 2e6) + 0.0) / 2e6;
+      Assert.assertEquals(decimalFormat.format(coordinate), TextUtils.formatCoordinate(coordinate));
+    }
+  }
 
+  @Test
+  public void formatCoordinate_withPrecisionRoundsDown() throws Exception {
+    Assert.assertEquals("12.30", TextUtils.formatCoordinate(12.3, 2));
+    Assert.assertEquals("-12.35", TextUtils.formatCoordinate(-12.341, 2));
+    Assert.assertEquals("0.99", TextUtils.formatCoordinate(0.999, 2));
+    Assert.assertEquals("0.00", TextUtils.formatCoordinate(0, 2));
+  }
+
+  @Test
+  public void appendCoordinate_appendsToBuilder() throws Exception {
+    StringBuilder builder = new StringBuilder("coordinates=");
+    TextUtils.appendCoordinate(builder, 13.4301).append(',');
+    TextUtils.appendCoordinate(builder, 52.5109);
+    Assert.assertEquals("coordinates=13.4301,52.5109", builder.toString());
+  }
+}
@@ -46,15 +46,21 @@ public abstract class MapboxDirectionsRefresh extends MapboxService<DirectionsRe
   }
 
   @Override
-  protected synchronized OkHttpClient getOkHttpClient() {
+  protected OkHttpClient getOkHttpClient() {
     if (okHttpClient == null) {
-      OkHttpClient.Builder httpClient = new OkHttpClient.Builder();
+      Interceptor interceptor = interceptor();
+      if (!isEnableDebug() && interceptor == null) {
+        // Nothing to customize, the shared client and its services can be used as is
+        okHttpClient = getSharedOkHttpClient();
+        return okHttpClient;
+      }
+
+      OkHttpClient.Builder httpClient = getSharedOkHttpClient().newBuilder();
       if (isEnableDebug()) {
         HttpLoggingInterceptor logging = new HttpLoggingInterceptor();
         logging.setLevel(HttpLoggingInterceptor.Level.BASIC);
         httpClient.addInterceptor(logging);
       }
-      Interceptor interceptor = interceptor();
       if (interceptor != null) {
         httpClient.addInterceptor(interceptor);
       }
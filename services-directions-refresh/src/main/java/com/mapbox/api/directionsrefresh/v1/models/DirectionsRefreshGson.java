@@ -0,0 +1,41 @@
+package com.mapbox.api.directionsrefresh.v1.models;
+
+import android.support.annotation.Keep;
+import android.support.annotation.NonNull;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.mapbox.api.directions.v5.DirectionsAdapterFactory;
+
+/**
+ * The shared {@link Gson} instance used by the {@code fromJson} methods of the Directions
+ * Refresh models.
+ *
+ * @since 4.9.0
+ */
+@Keep
+public final class DirectionsRefreshGson {
+
+  private DirectionsRefreshGson() {
+    // Private constructor preventing instances of class
+  }
+
+  /**
+   * Returns the shared {@link Gson} instance able to serialize and deserialize all the Directions
+   * Refresh models.
+   *
+   * @return the shared Directions Refresh Gson instance
+   * @since 4.9.0
+   */
+  @NonNull
+  public static Gson getGson() {
+    return GsonHolder.GSON;
+  }
+
+  private static final class GsonHolder {
+    static final Gson GSON = new GsonBuilder()
+      .registerTypeAdapterFactory(DirectionsRefreshAdapterFactory.create())
+      .registerTypeAdapterFactory(DirectionsAdapterFactory.create())
+      .create();
+  }
+}
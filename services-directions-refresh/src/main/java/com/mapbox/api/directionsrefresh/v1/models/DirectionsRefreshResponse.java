@@ -5,9 +5,7 @@ import android.support.annotation.Nullable;
 
 import com.google.auto.value.AutoValue;
 import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
 import com.google.gson.TypeAdapter;
-import com.mapbox.api.directions.v5.DirectionsAdapterFactory;
 import com.mapbox.api.directions.v5.models.DirectionsJsonObject;
 import com.mapbox.api.directions.v5.models.DirectionsRoute;
 
@@ -89,10 +87,7 @@ public abstract class DirectionsRefreshResponse extends DirectionsJsonObject {
    * @since 4.4.0
    */
   public static DirectionsRefreshResponse fromJson(String json) {
-    GsonBuilder gsonBuilder = new GsonBuilder();
-    gsonBuilder.registerTypeAdapterFactory(DirectionsRefreshAdapterFactory.create())
-      .registerTypeAdapterFactory(DirectionsAdapterFactory.create());
-    return gsonBuilder.create().fromJson(json, DirectionsRefreshResponse.class);
+    return DirectionsRefreshGson.getGson().fromJson(json, DirectionsRefreshResponse.class);
   }
 
   /**
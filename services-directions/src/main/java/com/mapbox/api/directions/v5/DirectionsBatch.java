@@ -0,0 +1,335 @@
+package com.mapbox.api.directions.v5;
+
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+
+import com.mapbox.api.directions.v5.models.DirectionsResponse;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+
+import retrofit2.Call;
+import retrofit2.Callback;
+import retrofit2.Response;
+
+/**
+ * Runs a large number of Directions requests, such as the routes between many origin and
+ * destination pairs, with a bounded number of them in flight at once.
+ * <pre>
+ * DirectionsBatch batch = DirectionsBatch.builder().maxConcurrentRequests(16).build();
+ * batch.execute(requests, new DirectionsBatch.ResultListener() {
+ *   public void onResult(DirectionsBatch.Result result) {
+ *     ...
+ *   }
+ * });
+ * </pre>
+ * <p>
+ * Requests are taken from an {@link Iterator} only once there's room for them, so they can be
+ * built on the fly rather than all held in memory. Results are handed to the
+ * {@link ResultListener} on the thread running the batch, one at a time, and a listener slower
+ * than the network holds back further requests instead of letting results pile up. They're
+ * delivered either in the order requests were taken, or as soon as they complete.
+ * </p><p>
+ * A failed request doesn't fail the batch: its {@link Result} carries the error response or the
+ * exception instead. Requests go through the same client, post-processing, and
+ * {@link com.mapbox.core.ConcurrencyLimiter}, {@link com.mapbox.core.RateLimiter} or
+ * {@link com.mapbox.core.RetryPolicy} as when executed on their own, and all of them share the
+ * connection pool of {@link com.mapbox.core.MapboxService#getSharedOkHttpClient()} unless they
+ * were given their own client.
+ * </p>
+ *
+ * @since 4.9.0
+ */
+public final class DirectionsBatch {
+
+  private final int maxConcurrentRequests;
+  private final int maxPendingResults;
+  private final boolean ordered;
+
+  private DirectionsBatch(Builder builder) {
+    this.maxConcurrentRequests = builder.maxConcurrentRequests;
+    this.maxPendingResults = builder.maxPendingResults < 0
+      ? 4 * builder.maxConcurrentRequests : builder.maxPendingResults;
+    this.ordered = builder.ordered;
+  }
+
+  /**
+   * Build a new {@link DirectionsBatch}. By default, up to 8 requests are in flight at once and
+   * results are delivered in the order requests were taken.
+   *
+   * @return a new builder
+   * @since 4.9.0
+   */
+  @NonNull
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  /**
+   * Runs all the given requests, blocking until every result was handed to the listener. If the
+   * listener throws or the thread is interrupted, the requests in flight are cancelled and no
+   * further request is taken.
+   *
+   * @param requests the requests to run, each of which must not have been executed yet
+   * @param listener the listener receiving the result of each request
+   * @throws InterruptedException if the thread was interrupted while waiting for results
+   * @since 4.9.0
+   */
+  public void execute(@NonNull Iterable<MapboxDirections> requests,
+                      @NonNull ResultListener listener) throws InterruptedException {
+    execute(requests.iterator(), listener);
+  }
+
+  /**
+   * Runs the requests returned by the given iterator, blocking until every result was handed to
+   * the listener. The iterator is only advanced once there's room for another request, so it can
+   * build requests lazily. If the listener throws or the thread is interrupted, the requests in
+   * flight are cancelled and no further request is taken.
+   *
+   * @param requests the requests to run, each of which must not have been executed yet
+   * @param listener the listener receiving the result of each request
+   * @throws InterruptedException if the thread was interrupted while waiting for results
+   * @since 4.9.0
+   */
+  public void execute(@NonNull Iterator<MapboxDirections> requests,
+                      @NonNull ResultListener listener) throws InterruptedException {
+    BlockingQueue<Result> completed = new LinkedBlockingQueue<>();
+    Map<Integer, MapboxDirections> inFlight = new HashMap<>();
+    // Results which completed before the ones taken earlier, in ordered mode
+    Map<Integer, Result> pending = new HashMap<>();
+    int taken = 0;
+    int delivered = 0;
+    boolean done = false;
+    try {
+      while (true) {
+        while (inFlight.size() < maxConcurrentRequests
+          && (!ordered || taken - delivered < maxPendingResults)
+          && requests.hasNext()) {
+          MapboxDirections request = requests.next();
+          inFlight.put(taken, request);
+          send(taken++, request, completed);
+        }
+        if (inFlight.isEmpty()) {
+          break;
+        }
+
+        Result result = completed.take();
+        inFlight.remove(result.index());
+        if (!ordered) {
+          delivered++;
+          listener.onResult(result);
+          continue;
+        }
+        pending.put(result.index(), result);
+        for (Result next = pending.remove(delivered); next != null;
+             next = pending.remove(delivered)) {
+          delivered++;
+          listener.onResult(next);
+        }
+      }
+      done = true;
+    } finally {
+      if (!done) {
+        for (MapboxDirections request : inFlight.values()) {
+          request.cancelCall();
+        }
+      }
+    }
+  }
+
+  private static void send(final int index, final MapboxDirections request,
+                           final BlockingQueue<Result> completed) {
+    Callback<DirectionsResponse> callback = new Callback<DirectionsResponse>() {
+      @Override
+      public void onResponse(Call<DirectionsResponse> call, Response<DirectionsResponse> response) {
+        completed.add(new Result(index, request, response, null));
+      }
+
+      @Override
+      public void onFailure(Call<DirectionsResponse> call, Throwable throwable) {
+        completed.add(new Result(index, request, null, throwable));
+      }
+    };
+    try {
+      request.enqueueCall(callback);
+    } catch (RuntimeException exception) {
+      // Such as a request which was already executed, this only fails its own result
+      completed.add(new Result(index, request, null, exception));
+    }
+  }
+
+  /**
+   * Receives the result of each request of a batch, on the thread running it.
+   *
+   * @since 4.9.0
+   */
+  public interface ResultListener {
+
+    /**
+     * Called once for each request of the batch, whether it succeeded or not.
+     *
+     * @param result the result of a request
+     * @since 4.9.0
+     */
+    void onResult(@NonNull Result result);
+  }
+
+  /**
+   * The outcome of a request of a batch: either a response, which might be an error response, or
+   * the exception it failed with.
+   *
+   * @since 4.9.0
+   */
+  public static final class Result {
+
+    private final int index;
+    private final MapboxDirections request;
+    private final Response<DirectionsResponse> response;
+    private final Throwable error;
+
+    Result(int index, MapboxDirections request, Response<DirectionsResponse> response,
+           Throwable error) {
+      this.index = index;
+      this.request = request;
+      this.response = response;
+      this.error = error;
+    }
+
+    /**
+     * The position of the request in the batch, starting at 0.
+     *
+     * @return the index of the request
+     * @since 4.9.0
+     */
+    public int index() {
+      return index;
+    }
+
+    /**
+     * The request this is the result of.
+     *
+     * @return the request
+     * @since 4.9.0
+     */
+    @NonNull
+    public MapboxDirections request() {
+      return request;
+    }
+
+    /**
+     * The response to the request, which might be an error response whose body should then be
+     * read or closed.
+     *
+     * @return the response, or null if the request failed without one
+     * @since 4.9.0
+     */
+    @Nullable
+    public Response<DirectionsResponse> response() {
+      return response;
+    }
+
+    /**
+     * The exception the request failed with, such as an {@link java.io.IOException} when the
+     * network wasn't available.
+     *
+     * @return the exception, or null if there's a response
+     * @since 4.9.0
+     */
+    @Nullable
+    public Throwable error() {
+      return error;
+    }
+
+    /**
+     * Whether the request succeeded.
+     *
+     * @return true if there's a successful response
+     * @since 4.9.0
+     */
+    public boolean isSuccessful() {
+      return response != null && response.isSuccessful();
+    }
+  }
+
+  /**
+   * This builder is used to create a new {@link DirectionsBatch}.
+   *
+   * @since 4.9.0
+   */
+  public static final class Builder {
+
+    private int maxConcurrentRequests = 8;
+    private int maxPendingResults = -1;
+    private boolean ordered = true;
+
+    Builder() {
+    }
+
+    /**
+     * The maximum number of requests in flight at once. Requests are still subject to the
+     * {@link com.mapbox.core.ConcurrencyLimiter} and dispatcher limits applying to them.
+     *
+     * @param maxConcurrentRequests the maximum number of requests in flight, at least 1
+     * @return this builder for chaining options together
+     * @since 4.9.0
+     */
+    public Builder maxConcurrentRequests(int maxConcurrentRequests) {
+      if (maxConcurrentRequests < 1) {
+        throw new IllegalArgumentException("maxConcurrentRequests must be at least 1.");
+      }
+      this.maxConcurrentRequests = maxConcurrentRequests;
+      return this;
+    }
+
+    /**
+     * When results are delivered in order, the maximum number of requests taken but whose result
+     * wasn't delivered yet, either because they're in flight or because they're waiting for an
+     * earlier one to complete. This bounds the results held in memory behind a slow request, at
+     * the cost of fewer requests in flight until it completes. Defaults to 4 times the maximum
+     * number of concurrent requests.
+     *
+     * @param maxPendingResults the maximum number of pending results, at least the maximum
+     *                          number of concurrent requests
+     * @return this builder for chaining options together
+     * @since 4.9.0
+     */
+    public Builder maxPendingResults(int maxPendingResults) {
+      if (maxPendingResults < 1) {
+        throw new IllegalArgumentException("maxPendingResults must be at least 1.");
+      }
+      this.maxPendingResults = maxPendingResults;
+      return this;
+    }
+
+    /**
+     * Whether results are delivered in the order requests were taken, which is the default, or
+     * as soon as they complete.
+     *
+     * @param ordered true to deliver results in order, false to deliver them as they complete
+     * @return this builder for chaining options together
+     * @since 4.9.0
+     */
+    public Builder ordered(boolean ordered) {
+      this.ordered = ordered;
+      return this;
+    }
+
+    /**
+     * Builds the batch executor, which can run any number of batches, one after the other or
+     * concurrently.
+     *
+     * @return a new {@link DirectionsBatch}
+     * @since 4.9.0
+     */
+    public DirectionsBatch build() {
+      if (maxPendingResults >= 0 && maxPendingResults < maxConcurrentRequests) {
+        throw new IllegalArgumentException(
+          "maxPendingResults must be at least maxConcurrentRequests.");
+      }
+      return new DirectionsBatch(this);
+    }
+  }
+}
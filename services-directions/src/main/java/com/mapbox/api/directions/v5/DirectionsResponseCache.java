@@ -0,0 +1,276 @@
+package com.mapbox.api.directions.v5;
+
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+
+import com.mapbox.api.directions.v5.models.DirectionsResponse;
+import com.mapbox.core.utils.TextUtils;
+import com.mapbox.geojson.Point;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+import retrofit2.Response;
+
+/**
+ * An in-memory cache of Directions responses, which lets requests for a route asked for shortly
+ * before be answered without going to the network. It is opt-in and meant to be shared by the
+ * requests it should apply to, see {@link MapboxDirections.Builder#responseCache(
+ * DirectionsResponseCache)}.
+ * <p>
+ * Responses are keyed on the route options of the request, which only include the parameters
+ * affecting the routes: the access token, the client app name and whether the request uses GET
+ * or POST don't matter, and coordinates are compared with the precision they are sent with.
+ * Responses are kept for a limited time, and once the cache is full, the least recently used
+ * ones are evicted first. Only successful responses containing routes are cached.
+ * </p><p>
+ * A cached response goes through the same post-processing as a fresh one, so its routes carry
+ * the route options of the request they're returned for, along with the uuid of the response.
+ * </p>
+ *
+ * @since 4.9.0
+ */
+public final class DirectionsResponseCache {
+
+  private final long ttlNanos;
+  private final ReentrantLock lock = new ReentrantLock();
+  private final LinkedHashMap<String, Entry> entries;
+  private long hitCount;
+  private long missCount;
+  private long evictionCount;
+
+  /**
+   * Create a new instance of this class holding up to the given number of responses, each for at
+   * most the given time.
+   *
+   * @param maxEntries the maximum number of responses held, at least 1
+   * @param ttl        how long a response can be used once it was received
+   * @param unit       the unit of the ttl argument
+   * @since 4.9.0
+   */
+  public DirectionsResponseCache(final int maxEntries, long ttl, @NonNull TimeUnit unit) {
+    if (maxEntries < 1 || ttl <= 0) {
+      throw new IllegalArgumentException("maxEntries and ttl need to be positive.");
+    }
+    this.ttlNanos = unit.toNanos(ttl);
+    this.entries = new LinkedHashMap<String, Entry>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+        if (size() > maxEntries) {
+          evictionCount++;
+          return true;
+        }
+        return false;
+      }
+    };
+  }
+
+  /**
+   * The number of requests answered from this cache.
+   *
+   * @return the number of cache hits
+   * @since 4.9.0
+   */
+  public long hitCount() {
+    lock.lock();
+    try {
+      return hitCount;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * The number of requests which had to go to the network, as this cache had no response for
+   * them or only an expired one.
+   *
+   * @return the number of cache misses
+   * @since 4.9.0
+   */
+  public long missCount() {
+    lock.lock();
+    try {
+      return missCount;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * The number of responses dropped from this cache before they were replaced, either because
+   * they expired or to make room for newer ones.
+   *
+   * @return the number of evicted responses
+   * @since 4.9.0
+   */
+  public long evictionCount() {
+    lock.lock();
+    try {
+      return evictionCount;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * The number of responses currently held, some of which might have expired.
+   *
+   * @return the number of cached responses
+   * @since 4.9.0
+   */
+  public int size() {
+    lock.lock();
+    try {
+      return entries.size();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Drops all the cached responses. The counters are left as they are.
+   *
+   * @since 4.9.0
+   */
+  public void clear() {
+    lock.lock();
+    try {
+      entries.clear();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Returns the response cached for the given key if it hasn't expired yet.
+   *
+   * @param key the key of the request
+   * @return the response as received, before any post-processing, or null on a cache miss
+   */
+  @Nullable
+  DirectionsResponse get(String key) {
+    lock.lock();
+    try {
+      Entry entry = entries.get(key);
+      if (entry != null && entry.expiresAt - System.nanoTime() <= 0) {
+        entries.remove(key);
+        evictionCount++;
+        entry = null;
+      }
+      if (entry == null) {
+        missCount++;
+        return null;
+      }
+      hitCount++;
+      return entry.response;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Caches the given response if it was successful and contains routes.
+   *
+   * @param key      the key of the request
+   * @param response the response as received, before any post-processing
+   */
+  void put(String key, Response<DirectionsResponse> response) {
+    DirectionsResponse body = response.body();
+    if (!response.isSuccessful() || body == null || body.routes().isEmpty()) {
+      return;
+    }
+    Entry entry = new Entry(body, System.nanoTime() + ttlNanos);
+    lock.lock();
+    try {
+      entries.put(key, entry);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Builds the key of a request out of the parameters affecting its routes.
+   *
+   * @param directions the request
+   * @return the cache key
+   */
+  static String key(MapboxDirections directions) {
+    StringBuilder key = new StringBuilder(directions.baseUrl()).append('/');
+    appendEscaped(key, directions.user()).append('/');
+    appendEscaped(key, directions.profile()).append('/');
+    for (Point point : directions.coordinates()) {
+      TextUtils.appendCoordinate(key, point.longitude()).append(',');
+      TextUtils.appendCoordinate(key, point.latitude()).append(';');
+    }
+    appendParameter(key, "alternatives", directions.alternatives());
+    appendParameter(key, "geometries", directions.geometries());
+    appendParameter(key, "overview", directions.overview());
+    appendParameter(key, "radiuses", directions.radius());
+    appendParameter(key, "steps", directions.steps());
+    appendParameter(key, "bearings", directions.bearing());
+    appendParameter(key, "continue_straight", directions.continueStraight());
+    appendParameter(key, "annotations", directions.annotation());
+    appendParameter(key, "language", directions.language());
+    appendParameter(key, "roundabout_exits", directions.roundaboutExits());
+    appendParameter(key, "voice_instructions", directions.voiceInstructions());
+    appendParameter(key, "banner_instructions", directions.bannerInstructions());
+    appendParameter(key, "voice_units", directions.voiceUnits());
+    appendParameter(key, "exclude", directions.exclude());
+    appendParameter(key, "approaches", directions.approaches());
+    appendParameter(key, "waypoints", directions.waypointIndices());
+    appendParameter(key, "waypoint_names", directions.waypointNames());
+    appendParameter(key, "waypoint_targets", directions.waypointTargets());
+    appendParameter(key, "enable_refresh", directions.enableRefresh());
+    appendParameter(key, "walking_speed", directions.walkingSpeed());
+    appendParameter(key, "walkway_bias", directions.walkwayBias());
+    appendParameter(key, "alley_bias", directions.alleyBias());
+    return key.toString();
+  }
+
+  private static void appendParameter(StringBuilder key, String name, Object value) {
+    // Unset parameters aren't sent either
+    if (value != null) {
+      appendEscaped(key.append('&').append(name).append('='), String.valueOf(value));
+    }
+  }
+
+  // Percent-encodes the characters separating the parts of a key, so that free-text values such
+  // as waypoint names can't make two different requests share a key
+  private static StringBuilder appendEscaped(StringBuilder key, String value) {
+    for (int i = 0; i < value.length(); i++) {
+      char character = value.charAt(i);
+      switch (character) {
+        case '%':
+          key.append("%25");
+          break;
+        case '&':
+          key.append("%26");
+          break;
+        case '/':
+          key.append("%2F");
+          break;
+        case '=':
+          key.append("%3D");
+          break;
+        default:
+          key.append(character);
+      }
+    }
+    return key;
+  }
+
+  /**
+   * A cached response.
+   */
+  private static final class Entry {
+    final DirectionsResponse response;
+    final long expiresAt;
+
+    Entry(DirectionsResponse response, long expiresAt) {
+      this.response = response;
+      this.expiresAt = expiresAt;
+    }
+  }
+}
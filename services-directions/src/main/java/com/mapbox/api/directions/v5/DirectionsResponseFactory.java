@@ -24,19 +24,15 @@ class DirectionsResponseFactory {
     if (isNotSuccessful(response)) {
       return response;
     } else {
+      // The raw response already went through Retrofit, which stripped its body, so it can be
+      // kept as is rather than rebuilding one
       return Response.success(
         response
           .body()
           .toBuilder()
           .routes(generateRouteOptions(response))
           .build(),
-        new okhttp3.Response.Builder()
-          .code(200)
-          .message("OK")
-          .protocol(response.raw().protocol())
-          .headers(response.headers())
-          .request(response.raw().request())
-          .build());
+        response.raw());
     }
   }
 
@@ -48,38 +44,42 @@ class DirectionsResponseFactory {
 
   private List<DirectionsRoute> generateRouteOptions(Response<DirectionsResponse> response) {
     List<DirectionsRoute> routes = response.body().routes();
-    List<DirectionsRoute> modifiedRoutes = new ArrayList<>();
+    // Every route of a response comes from the same request, so they can share its options
+    RouteOptions routeOptions = buildRouteOptions(response.body().uuid());
+    List<DirectionsRoute> modifiedRoutes = new ArrayList<>(routes.size());
     for (DirectionsRoute route : routes) {
-      modifiedRoutes.add(route.toBuilder().routeOptions(
-        RouteOptions.builder()
-          .profile(mapboxDirections.profile())
-          .coordinates(mapboxDirections.coordinates())
-          .waypointIndices(mapboxDirections.waypointIndices())
-          .waypointNames(mapboxDirections.waypointNames())
-          .waypointTargets(mapboxDirections.waypointTargets())
-          .continueStraight(mapboxDirections.continueStraight())
-          .annotations(mapboxDirections.annotation())
-          .approaches(mapboxDirections.approaches())
-          .bearings(mapboxDirections.bearing())
-          .alternatives(mapboxDirections.alternatives())
-          .language(mapboxDirections.language())
-          .radiuses(mapboxDirections.radius())
-          .user(mapboxDirections.user())
-          .voiceInstructions(mapboxDirections.voiceInstructions())
-          .bannerInstructions(mapboxDirections.bannerInstructions())
-          .roundaboutExits(mapboxDirections.roundaboutExits())
-          .geometries(mapboxDirections.geometries())
-          .overview(mapboxDirections.overview())
-          .steps(mapboxDirections.steps())
-          .exclude(mapboxDirections.exclude())
-          .voiceUnits(mapboxDirections.voiceUnits())
-          .accessToken(mapboxDirections.accessToken())
-          .requestUuid(response.body().uuid())
-          .baseUrl(mapboxDirections.baseUrl())
-          .walkingOptions(mapboxDirections.walkingOptions())
-          .build()
-      ).build());
+      modifiedRoutes.add(route.toBuilder().routeOptions(routeOptions).build());
     }
     return modifiedRoutes;
   }
+
+  private RouteOptions buildRouteOptions(String requestUuid) {
+    return RouteOptions.builder()
+      .profile(mapboxDirections.profile())
+      .coordinates(mapboxDirections.coordinates())
+      .waypointIndices(mapboxDirections.waypointIndices())
+      .waypointNames(mapboxDirections.waypointNames())
+      .waypointTargets(mapboxDirections.waypointTargets())
+      .continueStraight(mapboxDirections.continueStraight())
+      .annotations(mapboxDirections.annotation())
+      .approaches(mapboxDirections.approaches())
+      .bearings(mapboxDirections.bearing())
+      .alternatives(mapboxDirections.alternatives())
+      .language(mapboxDirections.language())
+      .radiuses(mapboxDirections.radius())
+      .user(mapboxDirections.user())
+      .voiceInstructions(mapboxDirections.voiceInstructions())
+      .bannerInstructions(mapboxDirections.bannerInstructions())
+      .roundaboutExits(mapboxDirections.roundaboutExits())
+      .geometries(mapboxDirections.geometries())
+      .overview(mapboxDirections.overview())
+      .steps(mapboxDirections.steps())
+      .exclude(mapboxDirections.exclude())
+      .voiceUnits(mapboxDirections.voiceUnits())
+      .accessToken(mapboxDirections.accessToken())
+      .requestUuid(requestUuid)
+      .baseUrl(mapboxDirections.baseUrl())
+      .walkingOptions(mapboxDirections.walkingOptions())
+      .build();
+  }
 }
@@ -31,6 +31,7 @@ import java.util.Locale;
 import okhttp3.EventListener;
 import okhttp3.Interceptor;
 import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
 import okhttp3.logging.HttpLoggingInterceptor;
 import retrofit2.Call;
 import retrofit2.Callback;
@@ -154,7 +155,8 @@ public abstract class MapboxDirections extends
 
   /**
    * Wrapper method for Retrofits {@link Call#execute()} call returning a response specific to the
-   * Directions API.
+   * Directions API. If a {@link DirectionsResponseCache} is set, a cached response is returned
+   * without going to the network when there's one.
    *
    * @return the Directions v5 response once the call completes successfully
    * @throws IOException Signals that an I/O exception of some sort has occurred
@@ -162,14 +164,27 @@ public abstract class MapboxDirections extends
    */
   @Override
   public Response<DirectionsResponse> executeCall() throws IOException {
-    Response<DirectionsResponse> response = super.executeCall();
     DirectionsResponseFactory factory = new DirectionsResponseFactory(this);
+    DirectionsResponseCache cache = responseCache();
+    if (cache == null) {
+      return factory.generate(super.executeCall());
+    }
+
+    String cacheKey = DirectionsResponseCache.key(this);
+    DirectionsResponse cached = cache.get(cacheKey);
+    if (cached != null) {
+      return factory.generate(cachedResponse(cached));
+    }
+    Response<DirectionsResponse> response = super.executeCall();
+    cache.put(cacheKey, response);
     return factory.generate(response);
   }
 
   /**
    * Wrapper method for Retrofits {@link Call#enqueue(Callback)} call returning a response specific
-   * to the Directions API. Use this method to make a directions request on the Main Thread.
+   * to the Directions API. Use this method to make a directions request on the Main Thread. If a
+   * {@link DirectionsResponseCache} is set and holds a response for this request, the callback is
+   * notified right away on the calling thread.
    *
    * @param callback a {@link Callback} which is used once the {@link DirectionsResponse} is
    *                 created.
@@ -177,9 +192,21 @@ public abstract class MapboxDirections extends
    */
   @Override
   public void enqueueCall(final Callback<DirectionsResponse> callback) {
+    final DirectionsResponseCache cache = responseCache();
+    final String cacheKey = cache != null ? DirectionsResponseCache.key(this) : null;
+    DirectionsResponse cached = cache != null ? cache.get(cacheKey) : null;
+    if (cached != null) {
+      DirectionsResponseFactory factory = new DirectionsResponseFactory(this);
+      callback.onResponse(getCall(), factory.generate(cachedResponse(cached)));
+      return;
+    }
+
     getCall().enqueue(new Callback<DirectionsResponse>() {
       @Override
       public void onResponse(Call<DirectionsResponse> call, Response<DirectionsResponse> response) {
+        if (cache != null) {
+          cache.put(cacheKey, response);
+        }
         DirectionsResponseFactory factory = new DirectionsResponseFactory(MapboxDirections.this);
         Response<DirectionsResponse> generatedResponse = factory.generate(response);
         callback.onResponse(call, generatedResponse);
@@ -193,19 +220,25 @@ public abstract class MapboxDirections extends
   }
 
   @Override
-  protected synchronized OkHttpClient getOkHttpClient() {
+  protected OkHttpClient getOkHttpClient() {
     if (okHttpClient == null) {
-      OkHttpClient.Builder httpClient = new OkHttpClient.Builder();
+      Interceptor interceptor = interceptor();
+      EventListener eventListener = eventListener();
+      if (!isEnableDebug() && interceptor == null && eventListener == null) {
+        // Nothing to customize, the shared client and its services can be used as is
+        okHttpClient = getSharedOkHttpClient();
+        return okHttpClient;
+      }
+
+      OkHttpClient.Builder httpClient = getSharedOkHttpClient().newBuilder();
       if (isEnableDebug()) {
         HttpLoggingInterceptor logging = new HttpLoggingInterceptor();
         logging.setLevel(HttpLoggingInterceptor.Level.BASIC);
         httpClient.addInterceptor(logging);
       }
-      Interceptor interceptor = interceptor();
       if (interceptor != null) {
         httpClient.addInterceptor(interceptor);
       }
-      EventListener eventListener = eventListener();
       if (eventListener != null) {
         httpClient.eventListener(eventListener);
       }
@@ -215,16 +248,25 @@ public abstract class MapboxDirections extends
     return okHttpClient;
   }
 
+  private Response<DirectionsResponse> cachedResponse(DirectionsResponse cached) {
+    return Response.success(cached, new okhttp3.Response.Builder()
+      .code(200)
+      .message("OK")
+      .protocol(Protocol.HTTP_1_1)
+      .request(getCall().request())
+      .build());
+  }
+
   private static String formatCoordinates(List<Point> coordinates) {
-    String[] coordinatesFormatted = new String[coordinates.size()];
-    int index = 0;
+    StringBuilder builder = new StringBuilder(coordinates.size() * 24);
     for (Point point : coordinates) {
-      coordinatesFormatted[index++] = String.format(Locale.US, "%s,%s",
-        TextUtils.formatCoordinate(point.longitude()),
-        TextUtils.formatCoordinate(point.latitude()));
+      if (builder.length() > 0) {
+        builder.append(';');
+      }
+      TextUtils.appendCoordinate(builder, point.longitude()).append(',');
+      TextUtils.appendCoordinate(builder, point.latitude());
     }
-
-    return TextUtils.join(";", coordinatesFormatted);
+    return builder.toString();
   }
 
   /**
@@ -236,18 +278,18 @@ public abstract class MapboxDirections extends
    * @since 4.3.0
    */
   private static String formatWaypointTargets(Point[] waypointTargets) {
-    String[] coordinatesFormatted = new String[waypointTargets.length];
-    int index = 0;
-    for (Point target : waypointTargets) {
-      if (target == null) {
-        coordinatesFormatted[index++] = "";
-      } else {
-        coordinatesFormatted[index++] = String.format(Locale.US, "%s,%s",
-          TextUtils.formatCoordinate(target.longitude()),
-          TextUtils.formatCoordinate(target.latitude()));
+    StringBuilder builder = new StringBuilder(waypointTargets.length * 24);
+    for (int i = 0; i < waypointTargets.length; i++) {
+      if (i > 0) {
+        builder.append(';');
+      }
+      Point target = waypointTargets[i];
+      if (target != null) {
+        TextUtils.appendCoordinate(builder, target.longitude()).append(',');
+        TextUtils.appendCoordinate(builder, target.latitude());
       }
     }
-    return TextUtils.join(";", coordinatesFormatted);
+    return builder.toString();
   }
 
   @NonNull
@@ -338,6 +380,9 @@ public abstract class MapboxDirections extends
   @Nullable
   abstract WalkingOptions walkingOptions();
 
+  @Nullable
+  abstract DirectionsResponseCache responseCache();
+
   @Nullable
   Double walkingSpeed() {
     if (!hasWalkingOptions()) {
@@ -883,6 +928,16 @@ public abstract class MapboxDirections extends
 
     abstract WalkingOptions walkingOptions();
 
+    /**
+     * Answers requests from the given cache when it holds a response for them, and caches the
+     * responses of the other requests. The same cache is meant to be shared by many requests.
+     *
+     * @param responseCache the cache to use, or null to always go to the network
+     * @return this builder for chaining options together
+     * @since 4.9.0
+     */
+    public abstract Builder responseCache(@Nullable DirectionsResponseCache responseCache);
+
     abstract Builder usePostMethod(@NonNull Boolean usePost);
 
     abstract Boolean usePostMethod();
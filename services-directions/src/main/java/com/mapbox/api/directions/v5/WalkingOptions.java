@@ -5,9 +5,9 @@ import android.support.annotation.Nullable;
 
 import com.google.auto.value.AutoValue;
 import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
 import com.google.gson.TypeAdapter;
 import com.google.gson.annotations.SerializedName;
+import com.mapbox.api.directions.v5.models.DirectionsGson;
 
 /**
  * Class for specifying options for use with the walking profile.
@@ -61,9 +61,7 @@ public abstract class WalkingOptions {
    * @since 4.8.0
    */
   public static WalkingOptions fromJson(String json) {
-    GsonBuilder gsonBuilder = new GsonBuilder()
-      .registerTypeAdapterFactory(WalkingOptionsAdapterFactory.create());
-    return gsonBuilder.create().fromJson(json, WalkingOptions.class);
+    return DirectionsGson.getGson().fromJson(json, WalkingOptions.class);
   }
 
   /**
@@ -74,10 +72,7 @@ public abstract class WalkingOptions {
    * @since 4.8.0
    */
   public final String toJson() {
-    Gson gson = new GsonBuilder()
-      .registerTypeAdapterFactory(WalkingOptionsAdapterFactory.create())
-      .create();
-    return gson.toJson(this, WalkingOptions.class);
+    return DirectionsGson.getGson().toJson(this, WalkingOptions.class);
   }
 
   /**
@@ -5,10 +5,8 @@ import android.support.annotation.Nullable;
 
 import com.google.auto.value.AutoValue;
 import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
 import com.google.gson.TypeAdapter;
 import com.google.gson.annotations.SerializedName;
-import com.mapbox.api.directions.v5.DirectionsAdapterFactory;
 import com.mapbox.api.directions.v5.MapboxDirections;
 
 import java.util.List;
@@ -161,9 +159,7 @@ public abstract class BannerComponents extends DirectionsJsonObject
    * @since 3.4.0
    */
   public static BannerComponents fromJson(String json) {
-    GsonBuilder gson = new GsonBuilder();
-    gson.registerTypeAdapterFactory(DirectionsAdapterFactory.create());
-    return gson.create().fromJson(json, BannerComponents.class);
+    return DirectionsGson.getGson().fromJson(json, BannerComponents.class);
   }
 
   /**
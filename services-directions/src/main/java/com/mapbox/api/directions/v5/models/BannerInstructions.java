@@ -4,9 +4,7 @@ import android.support.annotation.NonNull;
 import android.support.annotation.Nullable;
 import com.google.auto.value.AutoValue;
 import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
 import com.google.gson.TypeAdapter;
-import com.mapbox.api.directions.v5.DirectionsAdapterFactory;
 import com.mapbox.api.directions.v5.MapboxDirections;
 
 /**
@@ -102,9 +100,7 @@ public abstract class BannerInstructions extends DirectionsJsonObject {
    * @since 3.4.0
    */
   public static BannerInstructions fromJson(String json) {
-    GsonBuilder gson = new GsonBuilder();
-    gson.registerTypeAdapterFactory(DirectionsAdapterFactory.create());
-    return gson.create().fromJson(json, BannerInstructions.class);
+    return DirectionsGson.getGson().fromJson(json, BannerInstructions.class);
   }
 
   /**
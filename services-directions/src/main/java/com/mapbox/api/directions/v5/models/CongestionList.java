@@ -0,0 +1,144 @@
+package com.mapbox.api.directions.v5.models;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * An immutable list of congestion levels stored as one byte each, see
+ * {@link LegAnnotation#CONGESTION_CODE_LOW} and the other codes. Reading it through the
+ * {@link List} interface returns the same few String instances over and over, instead of a new
+ * String for each entry of the response.
+ *
+ * @since 4.9.0
+ */
+final class CongestionList extends AbstractList<String> implements RandomAccess, Serializable {
+
+  // Indexed by congestion code
+  private static final String[] LEVELS = {"unknown", "low", "moderate", "heavy", "severe"};
+
+  private final byte[] codes;
+
+  CongestionList(byte[] codes) {
+    this.codes = codes;
+  }
+
+  @Override
+  public String get(int index) {
+    return LEVELS[codes[index]];
+  }
+
+  @Override
+  public int size() {
+    return codes.length;
+  }
+
+  /**
+   * The code of the given congestion level.
+   *
+   * @param level the congestion level, as returned by the API
+   * @return the code, or {@link LegAnnotation#CONGESTION_CODE_UNRECOGNIZED} if the level isn't
+   *   known to this version of the library
+   */
+  static byte codeOf(String level) {
+    for (byte code = 0; code < LEVELS.length; code++) {
+      if (LEVELS[code].equals(level)) {
+        return code;
+      }
+    }
+    return LegAnnotation.CONGESTION_CODE_UNRECOGNIZED;
+  }
+
+  /**
+   * Converts the given congestion levels to their codes in a new array.
+   *
+   * @param list the congestion levels
+   * @return the codes, where null entries and unrecognized levels are
+   *   {@link LegAnnotation#CONGESTION_CODE_UNRECOGNIZED}
+   */
+  static byte[] toCodes(List<String> list) {
+    if (list instanceof CongestionList) {
+      return ((CongestionList) list).codes.clone();
+    }
+    byte[] codes = new byte[list.size()];
+    for (int i = 0; i < codes.length; i++) {
+      codes[i] = codeOf(list.get(i));
+    }
+    return codes;
+  }
+
+  /**
+   * Reads a JSON array of congestion levels into a {@link CongestionList}. Arrays holding nulls
+   * or levels which aren't known to this version of the library are read into a regular list
+   * instead, so that no value gets lost.
+   *
+   * @param in the reader, positioned on the array
+   * @return the congestion levels of the array
+   * @throws IOException if the array couldn't be read
+   */
+  static List<String> read(JsonReader in) throws IOException {
+    byte[] codes = new byte[16];
+    int size = 0;
+    in.beginArray();
+    while (in.hasNext()) {
+      String level = null;
+      if (in.peek() == JsonToken.NULL) {
+        in.nextNull();
+      } else {
+        level = in.nextString();
+      }
+      byte code = codeOf(level);
+      if (code == LegAnnotation.CONGESTION_CODE_UNRECOGNIZED) {
+        return readAsStrings(in, codes, size, level);
+      }
+      if (size == codes.length) {
+        codes = Arrays.copyOf(codes, size * 2);
+      }
+      codes[size++] = code;
+    }
+    in.endArray();
+    return new CongestionList(size == codes.length ? codes : Arrays.copyOf(codes, size));
+  }
+
+  private static List<String> readAsStrings(JsonReader in, byte[] codes, int size,
+                                            String unrecognized) throws IOException {
+    List<String> list = new ArrayList<>(size * 2 + 1);
+    for (int i = 0; i < size; i++) {
+      list.add(LEVELS[codes[i]]);
+    }
+    list.add(unrecognized);
+    while (in.hasNext()) {
+      if (in.peek() == JsonToken.NULL) {
+        in.nextNull();
+        list.add(null);
+      } else {
+        list.add(in.nextString());
+      }
+    }
+    in.endArray();
+    return list;
+  }
+
+  /**
+   * Writes the given congestion levels as a JSON array of strings.
+   *
+   * @param out  the writer
+   * @param list the congestion levels to write
+   * @throws IOException if the array couldn't be written
+   */
+  static void write(JsonWriter out, List<String> list) throws IOException {
+    out.beginArray();
+    for (String level : list) {
+      out.value(level);
+    }
+    out.endArray();
+  }
+}
@@ -0,0 +1,45 @@
+package com.mapbox.api.directions.v5.models;
+
+import android.support.annotation.Keep;
+import android.support.annotation.NonNull;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.mapbox.api.directions.v5.DirectionsAdapterFactory;
+import com.mapbox.api.directions.v5.WalkingOptionsAdapterFactory;
+import com.mapbox.geojson.Point;
+import com.mapbox.geojson.PointAsCoordinatesTypeAdapter;
+
+/**
+ * The shared {@link Gson} instance used by the {@code fromJson} and {@code toJson} methods of the
+ * Directions models.
+ *
+ * @since 4.9.0
+ */
+@Keep
+public final class DirectionsGson {
+
+  private DirectionsGson() {
+    // Private constructor preventing instances of class
+  }
+
+  /**
+   * Returns the shared {@link Gson} instance able to serialize and deserialize all the Directions
+   * models.
+   *
+   * @return the shared Directions Gson instance
+   * @since 4.9.0
+   */
+  @NonNull
+  public static Gson getGson() {
+    return GsonHolder.GSON;
+  }
+
+  private static final class GsonHolder {
+    static final Gson GSON = new GsonBuilder()
+      .registerTypeAdapterFactory(DirectionsAdapterFactory.create())
+      .registerTypeAdapter(Point.class, new PointAsCoordinatesTypeAdapter())
+      .registerTypeAdapterFactory(WalkingOptionsAdapterFactory.create())
+      .create();
+  }
+}
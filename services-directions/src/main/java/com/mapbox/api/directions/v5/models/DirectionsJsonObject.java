@@ -1,11 +1,5 @@
 package com.mapbox.api.directions.v5.models;
 
-import com.google.gson.GsonBuilder;
-import com.mapbox.api.directions.v5.DirectionsAdapterFactory;
-import com.mapbox.api.directions.v5.WalkingOptionsAdapterFactory;
-import com.mapbox.geojson.Point;
-import com.mapbox.geojson.PointAsCoordinatesTypeAdapter;
-
 import java.io.Serializable;
 
 /**
@@ -23,10 +17,6 @@ public class DirectionsJsonObject implements Serializable {
    * @since 3.4.0
    */
   public String toJson() {
-    GsonBuilder gson = new GsonBuilder();
-    gson.registerTypeAdapterFactory(DirectionsAdapterFactory.create());
-    gson.registerTypeAdapter(Point.class, new PointAsCoordinatesTypeAdapter());
-    gson.registerTypeAdapterFactory(WalkingOptionsAdapterFactory.create());
-    return gson.create().toJson(this);
+    return DirectionsGson.getGson().toJson(this);
   }
 }
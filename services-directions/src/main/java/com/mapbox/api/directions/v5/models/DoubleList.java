@@ -0,0 +1,126 @@
+package com.mapbox.api.directions.v5.models;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * An immutable list of doubles backed by a primitive array, so that the annotations of long
+ * routes don't hold a boxed {@link Double} for each of their values. Values only get boxed as
+ * they're read through the {@link List} interface.
+ *
+ * @since 4.9.0
+ */
+final class DoubleList extends AbstractList<Double> implements RandomAccess, Serializable {
+
+  private final double[] values;
+
+  DoubleList(double[] values) {
+    this.values = values;
+  }
+
+  @Override
+  public Double get(int index) {
+    return values[index];
+  }
+
+  @Override
+  public int size() {
+    return values.length;
+  }
+
+  /**
+   * Copies the given values into a new primitive array, without boxing them when they're held
+   * by a {@link DoubleList}.
+   *
+   * @param list the values to copy
+   * @return the values, where null entries are {@link Double#NaN}
+   */
+  static double[] toArray(List<Double> list) {
+    if (list instanceof DoubleList) {
+      return ((DoubleList) list).values.clone();
+    }
+    double[] values = new double[list.size()];
+    for (int i = 0; i < values.length; i++) {
+      Double value = list.get(i);
+      values[i] = value != null ? value : Double.NaN;
+    }
+    return values;
+  }
+
+  /**
+   * Reads a JSON array of numbers into a {@link DoubleList}. Arrays holding nulls are read into a
+   * regular list instead, since they can't be represented by primitives.
+   *
+   * @param in the reader, positioned on the array
+   * @return the values of the array
+   * @throws IOException if the array couldn't be read
+   */
+  static List<Double> read(JsonReader in) throws IOException {
+    double[] values = new double[16];
+    int size = 0;
+    in.beginArray();
+    while (in.hasNext()) {
+      if (in.peek() == JsonToken.NULL) {
+        return readBoxed(in, values, size);
+      }
+      if (size == values.length) {
+        values = Arrays.copyOf(values, size * 2);
+      }
+      values[size++] = in.nextDouble();
+    }
+    in.endArray();
+    return new DoubleList(size == values.length ? values : Arrays.copyOf(values, size));
+  }
+
+  private static List<Double> readBoxed(JsonReader in, double[] values, int size)
+    throws IOException {
+    List<Double> list = new ArrayList<>(size * 2);
+    for (int i = 0; i < size; i++) {
+      list.add(values[i]);
+    }
+    while (in.hasNext()) {
+      if (in.peek() == JsonToken.NULL) {
+        in.nextNull();
+        list.add(null);
+      } else {
+        list.add(in.nextDouble());
+      }
+    }
+    in.endArray();
+    return list;
+  }
+
+  /**
+   * Writes the given values as a JSON array of numbers.
+   *
+   * @param out  the writer
+   * @param list the values to write
+   * @throws IOException if the array couldn't be written
+   */
+  static void write(JsonWriter out, List<Double> list) throws IOException {
+    out.beginArray();
+    if (list instanceof DoubleList) {
+      for (double value : ((DoubleList) list).values) {
+        out.value(value);
+      }
+    } else {
+      for (Double value : list) {
+        if (value == null) {
+          out.nullValue();
+        } else {
+          out.value(value.doubleValue());
+        }
+      }
+    }
+    out.endArray();
+  }
+}
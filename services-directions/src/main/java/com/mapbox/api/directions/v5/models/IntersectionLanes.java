@@ -3,9 +3,7 @@ package com.mapbox.api.directions.v5.models;
 import android.support.annotation.Nullable;
 import com.google.auto.value.AutoValue;
 import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
 import com.google.gson.TypeAdapter;
-import com.mapbox.api.directions.v5.DirectionsAdapterFactory;
 
 import java.util.List;
 
@@ -81,9 +79,7 @@ public abstract class IntersectionLanes extends DirectionsJsonObject {
    * @since 3.4.0
    */
   public static IntersectionLanes fromJson(String json) {
-    GsonBuilder gson = new GsonBuilder();
-    gson.registerTypeAdapterFactory(DirectionsAdapterFactory.create());
-    return gson.create().fromJson(json, IntersectionLanes.class);
+    return DirectionsGson.getGson().fromJson(json, IntersectionLanes.class);
   }
 
   /**
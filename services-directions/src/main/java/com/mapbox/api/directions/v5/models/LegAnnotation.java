@@ -3,22 +3,73 @@ package com.mapbox.api.directions.v5.models;
 import android.support.annotation.Nullable;
 import com.google.auto.value.AutoValue;
 import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
 import com.google.gson.TypeAdapter;
-import com.mapbox.api.directions.v5.DirectionsAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
 
+import java.io.IOException;
 import java.util.List;
 
 /**
  * An annotations object that contains additional details about each line segment along the route
  * geometry. Each entry in an annotations field corresponds to a coordinate along the route
  * geometry.
+ * <p>
+ * When parsed from JSON, the distance, duration and speed annotations are held in primitive
+ * arrays and the congestion annotation in one byte per entry, which the {@link List}s returned
+ * by this class are views of. The primitive accessors such as {@link #distanceValues()} read
+ * them without boxing each value.
+ * </p>
  *
  * @since 2.1.0
  */
 @AutoValue
 public abstract class LegAnnotation extends DirectionsJsonObject {
 
+  /**
+   * The code of a congestion level which isn't known to this version of the library.
+   *
+   * @since 4.9.0
+   */
+  public static final byte CONGESTION_CODE_UNRECOGNIZED = -1;
+
+  /**
+   * The code of the {@code unknown} congestion level.
+   *
+   * @since 4.9.0
+   */
+  public static final byte CONGESTION_CODE_UNKNOWN = 0;
+
+  /**
+   * The code of the {@code low} congestion level.
+   *
+   * @since 4.9.0
+   */
+  public static final byte CONGESTION_CODE_LOW = 1;
+
+  /**
+   * The code of the {@code moderate} congestion level.
+   *
+   * @since 4.9.0
+   */
+  public static final byte CONGESTION_CODE_MODERATE = 2;
+
+  /**
+   * The code of the {@code heavy} congestion level.
+   *
+   * @since 4.9.0
+   */
+  public static final byte CONGESTION_CODE_HEAVY = 3;
+
+  /**
+   * The code of the {@code severe} congestion level.
+   *
+   * @since 4.9.0
+   */
+  public static final byte CONGESTION_CODE_SEVERE = 4;
+
   /**
    * Create a new instance of this class by using the {@link Builder} class.
    *
@@ -81,6 +132,60 @@ public abstract class LegAnnotation extends DirectionsJsonObject {
   @Nullable
   public abstract List<String> congestion();
 
+  /**
+   * The distance, in meters, between each pair of coordinates, without boxing each value.
+   *
+   * @return a new array with each entry being a distance value between two of the routeLeg
+   *   geometry coordinates
+   * @since 4.9.0
+   */
+  @Nullable
+  public double[] distanceValues() {
+    List<Double> distance = distance();
+    return distance != null ? DoubleList.toArray(distance) : null;
+  }
+
+  /**
+   * The duration, in seconds, between each pair of coordinates, without boxing each value.
+   *
+   * @return a new array with each entry being a duration value between two of the routeLeg
+   *   geometry coordinates
+   * @since 4.9.0
+   */
+  @Nullable
+  public double[] durationValues() {
+    List<Double> duration = duration();
+    return duration != null ? DoubleList.toArray(duration) : null;
+  }
+
+  /**
+   * The speed, in meters per second, between each pair of coordinates, without boxing each
+   * value.
+   *
+   * @return a new array with each entry being a speed value between two of the routeLeg geometry
+   *   coordinates
+   * @since 4.9.0
+   */
+  @Nullable
+  public double[] speedValues() {
+    List<Double> speed = speed();
+    return speed != null ? DoubleList.toArray(speed) : null;
+  }
+
+  /**
+   * The congestion between each pair of coordinates, as codes such as
+   * {@link #CONGESTION_CODE_LOW} rather than Strings.
+   *
+   * @return a new array with each entry being the congestion code between two of the routeLeg
+   *   geometry coordinates
+   * @since 4.9.0
+   */
+  @Nullable
+  public byte[] congestionCodes() {
+    List<String> congestion = congestion();
+    return congestion != null ? CongestionList.toCodes(congestion) : null;
+  }
+
   /**
    * Convert the current {@link LegAnnotation} to its builder holding the currently assigned
    * values. This allows you to modify a single property and then rebuild the object resulting in
@@ -100,7 +205,7 @@ public abstract class LegAnnotation extends DirectionsJsonObject {
    * @since 3.0.0
    */
   public static TypeAdapter<LegAnnotation> typeAdapter(Gson gson) {
-    return new AutoValue_LegAnnotation.GsonTypeAdapter(gson);
+    return new LegAnnotation.GsonTypeAdapter(gson);
   }
 
   /**
@@ -112,9 +217,108 @@ public abstract class LegAnnotation extends DirectionsJsonObject {
    * @since 3.4.0
    */
   public static LegAnnotation fromJson(String json) {
-    GsonBuilder gson = new GsonBuilder();
-    gson.registerTypeAdapterFactory(DirectionsAdapterFactory.create());
-    return gson.create().fromJson(json, LegAnnotation.class);
+    return DirectionsGson.getGson().fromJson(json, LegAnnotation.class);
+  }
+
+  /**
+   * TypeAdapter reading the numeric and congestion annotations into the compact lists backing
+   * them, rather than into lists of boxed values.
+   *
+   * @since 4.9.0
+   */
+  static final class GsonTypeAdapter extends TypeAdapter<LegAnnotation> {
+
+    private final Gson gson;
+    private volatile TypeAdapter<List<MaxSpeed>> maxSpeedAdapter;
+
+    GsonTypeAdapter(Gson gson) {
+      this.gson = gson;
+    }
+
+    @Override
+    public void write(JsonWriter jsonWriter, LegAnnotation object) throws IOException {
+      if (object == null) {
+        jsonWriter.nullValue();
+        return;
+      }
+      jsonWriter.beginObject();
+      jsonWriter.name("distance");
+      writeDoubles(jsonWriter, object.distance());
+      jsonWriter.name("duration");
+      writeDoubles(jsonWriter, object.duration());
+      jsonWriter.name("speed");
+      writeDoubles(jsonWriter, object.speed());
+      jsonWriter.name("maxspeed");
+      if (object.maxspeed() == null) {
+        jsonWriter.nullValue();
+      } else {
+        maxSpeedAdapter().write(jsonWriter, object.maxspeed());
+      }
+      jsonWriter.name("congestion");
+      if (object.congestion() == null) {
+        jsonWriter.nullValue();
+      } else {
+        CongestionList.write(jsonWriter, object.congestion());
+      }
+      jsonWriter.endObject();
+    }
+
+    @Override
+    public LegAnnotation read(JsonReader jsonReader) throws IOException {
+      if (jsonReader.peek() == JsonToken.NULL) {
+        jsonReader.nextNull();
+        return null;
+      }
+      Builder builder = builder();
+      jsonReader.beginObject();
+      while (jsonReader.hasNext()) {
+        String name = jsonReader.nextName();
+        if (jsonReader.peek() == JsonToken.NULL) {
+          jsonReader.nextNull();
+          continue;
+        }
+        switch (name) {
+          case "distance":
+            builder.distance(DoubleList.read(jsonReader));
+            break;
+          case "duration":
+            builder.duration(DoubleList.read(jsonReader));
+            break;
+          case "speed":
+            builder.speed(DoubleList.read(jsonReader));
+            break;
+          case "maxspeed":
+            builder.maxspeed(maxSpeedAdapter().read(jsonReader));
+            break;
+          case "congestion":
+            builder.congestion(CongestionList.read(jsonReader));
+            break;
+          default:
+            jsonReader.skipValue();
+        }
+      }
+      jsonReader.endObject();
+      return builder.build();
+    }
+
+    private TypeAdapter<List<MaxSpeed>> maxSpeedAdapter() {
+      TypeAdapter<List<MaxSpeed>> adapter = maxSpeedAdapter;
+      if (adapter == null) {
+        adapter = gson.getAdapter(new TypeToken<List<MaxSpeed>>() {
+        });
+        maxSpeedAdapter = adapter;
+      }
+      return adapter;
+    }
+
+    private static void writeDoubles(JsonWriter jsonWriter, List<Double> values)
+      throws IOException {
+      if (values == null) {
+        jsonWriter.nullValue();
+      } else {
+        DoubleList.write(jsonWriter, values);
+      }
+    }
   }
 
   /**
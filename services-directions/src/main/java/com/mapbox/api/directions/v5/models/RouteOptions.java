@@ -5,16 +5,12 @@ import android.support.annotation.Nullable;
 
 import com.google.auto.value.AutoValue;
 import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
 import com.google.gson.TypeAdapter;
 import com.google.gson.annotations.SerializedName;
-import com.mapbox.api.directions.v5.DirectionsAdapterFactory;
 import com.mapbox.api.directions.v5.DirectionsCriteria;
 import com.mapbox.api.directions.v5.MapboxDirections;
 import com.mapbox.api.directions.v5.WalkingOptions;
-import com.mapbox.api.directions.v5.WalkingOptionsAdapterFactory;
 import com.mapbox.geojson.Point;
-import com.mapbox.geojson.PointAsCoordinatesTypeAdapter;
 
 import java.util.List;
 
@@ -343,11 +339,7 @@ public abstract class RouteOptions extends DirectionsJsonObject {
    * @since 3.4.0
    */
   public static RouteOptions fromJson(String json) {
-    GsonBuilder gson = new GsonBuilder();
-    gson.registerTypeAdapterFactory(DirectionsAdapterFactory.create());
-    gson.registerTypeAdapter(Point.class, new PointAsCoordinatesTypeAdapter());
-    gson.registerTypeAdapterFactory(WalkingOptionsAdapterFactory.create());
-    return gson.create().fromJson(json, RouteOptions.class);
+    return DirectionsGson.getGson().fromJson(json, RouteOptions.class);
   }
 
   /**
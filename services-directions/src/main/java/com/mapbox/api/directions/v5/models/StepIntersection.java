@@ -4,10 +4,8 @@ import android.support.annotation.NonNull;
 import android.support.annotation.Nullable;
 import com.google.auto.value.AutoValue;
 import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
 import com.google.gson.TypeAdapter;
 import com.google.gson.annotations.SerializedName;
-import com.mapbox.api.directions.v5.DirectionsAdapterFactory;
 import com.mapbox.geojson.Point;
 
 import java.util.List;
@@ -157,9 +155,7 @@ public abstract class StepIntersection extends DirectionsJsonObject {
    * @since 3.4.0
    */
   public static StepIntersection fromJson(String json) {
-    GsonBuilder gson = new GsonBuilder();
-    gson.registerTypeAdapterFactory(DirectionsAdapterFactory.create());
-    return gson.create().fromJson(json, StepIntersection.class);
+    return DirectionsGson.getGson().fromJson(json, StepIntersection.class);
   }
 
   /**
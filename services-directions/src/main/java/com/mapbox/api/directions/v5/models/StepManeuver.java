@@ -7,10 +7,8 @@ import android.support.annotation.StringDef;
 
 import com.google.auto.value.AutoValue;
 import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
 import com.google.gson.TypeAdapter;
 import com.google.gson.annotations.SerializedName;
-import com.mapbox.api.directions.v5.DirectionsAdapterFactory;
 import com.mapbox.api.directions.v5.MapboxDirections;
 import com.mapbox.geojson.Point;
 
@@ -314,9 +312,7 @@ public abstract class StepManeuver extends DirectionsJsonObject {
    * @since 3.4.0
    */
   public static StepManeuver fromJson(String json) {
-    GsonBuilder gson = new GsonBuilder();
-    gson.registerTypeAdapterFactory(DirectionsAdapterFactory.create());
-    return gson.create().fromJson(json, StepManeuver.class);
+    return DirectionsGson.getGson().fromJson(json, StepManeuver.class);
   }
 
   /**
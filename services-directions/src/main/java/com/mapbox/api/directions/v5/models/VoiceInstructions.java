@@ -3,9 +3,7 @@ package com.mapbox.api.directions.v5.models;
 import android.support.annotation.Nullable;
 import com.google.auto.value.AutoValue;
 import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
 import com.google.gson.TypeAdapter;
-import com.mapbox.api.directions.v5.DirectionsAdapterFactory;
 
 /**
  * This class provides information thats useful for properly making navigation announcements at the
@@ -90,9 +88,7 @@ public abstract class VoiceInstructions extends DirectionsJsonObject {
    * @since 3.4.0
    */
   public static VoiceInstructions fromJson(String json) {
-    GsonBuilder gson = new GsonBuilder();
-    gson.registerTypeAdapterFactory(DirectionsAdapterFactory.create());
-    return gson.create().fromJson(json, VoiceInstructions.class);
+    return DirectionsGson.getGson().fromJson(json, VoiceInstructions.class);
   }
 
   /**
@@ -0,0 +1,191 @@
+package com.mapbox.api.directions.v5;
+
+import com.mapbox.core.TestUtils;
+import com.mapbox.geojson.Point;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import okhttp3.HttpUrl;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+public class DirectionsBatchTest extends TestUtils {
+
+  private static final String DIRECTIONS_V5_FIXTURE = "directions_v5.json";
+
+  private MockWebServer server;
+  private HttpUrl mockUrl;
+  private final AtomicInteger inFlight = new AtomicInteger();
+  private final AtomicInteger maxInFlight = new AtomicInteger();
+
+  @Rule
+  public ExpectedException thrown = ExpectedException.none();
+
+  @Before
+  public void setUp() throws IOException {
+    server = new MockWebServer();
+    server.setDispatcher(new Dispatcher() {
+      @Override
+      public MockResponse dispatch(RecordedRequest request) throws InterruptedException {
+        int current = inFlight.incrementAndGet();
+        int max = maxInFlight.get();
+        while (current > max && !maxInFlight.compareAndSet(max, current)) {
+          max = maxInFlight.get();
+        }
+        try {
+          // The first requests take the longest, so they complete out of order
+          if (request.getPath().contains("/1,1;")) {
+            Thread.sleep(150);
+          } else {
+            Thread.sleep(20);
+          }
+          if (request.getPath().contains("/3,1;")) {
+            return new MockResponse().setResponseCode(500);
+          }
+          return new MockResponse().setBody(loadJsonFixture(DIRECTIONS_V5_FIXTURE));
+        } catch (IOException ioException) {
+          throw new RuntimeException(ioException);
+        } finally {
+          inFlight.decrementAndGet();
+        }
+      }
+    });
+    server.start();
+    mockUrl = server.url("");
+  }
+
+  @After
+  public void tearDown() throws IOException {
+    server.shutdown();
+  }
+
+  @Test
+  public void execute_deliversResultsInOrder() throws Exception {
+    List<DirectionsBatch.Result> results = execute(
+      DirectionsBatch.builder().maxConcurrentRequests(3).build(), 8);
+
+    assertEquals(8, results.size());
+    for (int i = 0; i < results.size(); i++) {
+      assertEquals(i, results.get(i).index());
+    }
+  }
+
+  @Test
+  public void execute_completionOrderDeliversEveryResult() throws Exception {
+    List<DirectionsBatch.Result> results = execute(
+      DirectionsBatch.builder().maxConcurrentRequests(3).ordered(false).build(), 8);
+
+    assertEquals(8, results.size());
+    // The slow first request is overtaken by the others
+    assertTrue(results.get(0).index() != 0);
+    boolean[] seen = new boolean[8];
+    for (DirectionsBatch.Result result : results) {
+      assertFalse(seen[result.index()]);
+      seen[result.index()] = true;
+    }
+  }
+
+  @Test
+  public void execute_failedRequestDoesNotFailBatch() throws Exception {
+    List<DirectionsBatch.Result> results = execute(DirectionsBatch.builder().build(), 5);
+
+    assertEquals(5, results.size());
+    DirectionsBatch.Result failed = results.get(2);
+    assertFalse(failed.isSuccessful());
+    assertEquals(500, failed.response().code());
+    for (int i = 0; i < results.size(); i++) {
+      if (i != 2) {
+        assertTrue(results.get(i).isSuccessful());
+        assertNotNull(results.get(i).response().body().routes());
+      }
+    }
+  }
+
+  @Test
+  public void execute_alreadyExecutedRequestFailsOnlyItsResult() throws Exception {
+    List<MapboxDirections> requests = requests(3);
+    requests.get(1).executeCall();
+
+    final List<DirectionsBatch.Result> results = new ArrayList<>();
+    DirectionsBatch.builder().build().execute(requests, new DirectionsBatch.ResultListener() {
+      @Override
+      public void onResult(DirectionsBatch.Result result) {
+        results.add(result);
+      }
+    });
+
+    assertEquals(3, results.size());
+    assertTrue(results.get(0).isSuccessful());
+    assertNotNull(results.get(1).error());
+    assertTrue(results.get(2).isSuccessful());
+  }
+
+  @Test
+  public void execute_boundsConcurrentRequests() throws Exception {
+    execute(DirectionsBatch.builder().maxConcurrentRequests(2).build(), 10);
+    assertTrue(maxInFlight.get() <= 2);
+  }
+
+  @Test
+  public void builder_invalidMaxConcurrentRequestsExceptionThrown() throws Exception {
+    thrown.expect(IllegalArgumentException.class);
+    thrown.expectMessage("maxConcurrentRequests must be at least 1.");
+    DirectionsBatch.builder().maxConcurrentRequests(0);
+  }
+
+  @Test
+  public void builder_maxPendingResultsBelowConcurrencyExceptionThrown() throws Exception {
+    thrown.expect(IllegalArgumentException.class);
+    thrown.expectMessage("maxPendingResults must be at least maxConcurrentRequests.");
+    DirectionsBatch.builder().maxConcurrentRequests(4).maxPendingResults(2).build();
+  }
+
+  @Test
+  public void builder_reuseDerivesMaxPendingResultsAgain() throws Exception {
+    DirectionsBatch.Builder builder = DirectionsBatch.builder().maxConcurrentRequests(2);
+    builder.build();
+    List<DirectionsBatch.Result> results = execute(builder.maxConcurrentRequests(10).build(), 4);
+    assertEquals(4, results.size());
+  }
+
+  private List<DirectionsBatch.Result> execute(DirectionsBatch batch, int count)
+    throws InterruptedException {
+    final List<DirectionsBatch.Result> results = new ArrayList<>();
+    batch.execute(requests(count), new DirectionsBatch.ResultListener() {
+      @Override
+      public void onResult(DirectionsBatch.Result result) {
+        results.add(result);
+      }
+    });
+    return results;
+  }
+
+  private List<MapboxDirections> requests(int count) {
+    List<MapboxDirections> requests = new ArrayList<>();
+    for (int i = 1; i <= count; i++) {
+      requests.add(MapboxDirections.builder()
+        .accessToken(ACCESS_TOKEN)
+        .origin(Point.fromLngLat(i, 1.0))
+        .destination(Point.fromLngLat(i, 2.0))
+        .baseUrl(mockUrl.toString())
+        .build());
+    }
+    return requests;
+  }
+}
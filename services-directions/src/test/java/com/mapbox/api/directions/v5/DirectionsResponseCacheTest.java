@@ -0,0 +1,128 @@
+package com.mapbox.api.directions.v5;
+
+import com.mapbox.api.directions.v5.models.DirectionsResponse;
+import com.mapbox.core.TestUtils;
+import com.mapbox.geojson.Point;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.util.concurrent.TimeUnit;
+
+import okhttp3.MediaType;
+import okhttp3.ResponseBody;
+import retrofit2.Response;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+public class DirectionsResponseCacheTest extends TestUtils {
+
+  private static final String DIRECTIONS_V5_FIXTURE = "directions_v5.json";
+
+  @Rule
+  public ExpectedException thrown = ExpectedException.none();
+
+  private DirectionsResponse response;
+
+  @Before
+  public void setUp() throws Exception {
+    response = DirectionsResponse.fromJson(loadJsonFixture(DIRECTIONS_V5_FIXTURE));
+  }
+
+  @Test
+  public void constructor_rejectsNoEntries() throws Exception {
+    thrown.expect(IllegalArgumentException.class);
+    new DirectionsResponseCache(0, 1, TimeUnit.MINUTES);
+  }
+
+  @Test
+  public void key_ignoresAccessTokenAndMethod() throws Exception {
+    MapboxDirections directions = directions(13.4301, 52.5109).build();
+    MapboxDirections other = directions(13.4301, 52.5109)
+      .accessToken("pk.YYY")
+      .clientAppName("app")
+      .post()
+      .build();
+    assertEquals(DirectionsResponseCache.key(directions), DirectionsResponseCache.key(other));
+  }
+
+  @Test
+  public void key_normalizesCoordinatePrecision() throws Exception {
+    assertEquals(
+      DirectionsResponseCache.key(directions(13.4301, 52.5109).build()),
+      DirectionsResponseCache.key(directions(13.43010000001, 52.51089999999).build()));
+    assertNotEquals(
+      DirectionsResponseCache.key(directions(13.4301, 52.5109).build()),
+      DirectionsResponseCache.key(directions(13.4302, 52.5109).build()));
+  }
+
+  @Test
+  public void key_includesParametersAffectingRoutes() throws Exception {
+    String key = DirectionsResponseCache.key(directions(13.4301, 52.5109).build());
+    assertNotEquals(key, DirectionsResponseCache.key(
+      directions(13.4301, 52.5109).alternatives(true).build()));
+    assertNotEquals(key, DirectionsResponseCache.key(
+      directions(13.4301, 52.5109).profile(DirectionsCriteria.PROFILE_WALKING).build()));
+  }
+
+  @Test
+  public void key_escapesParameterValues() throws Exception {
+    assertNotEquals(
+      DirectionsResponseCache.key(directions(13.4301, 52.5109)
+        .addWaypointNames("Home", "Work&enable_refresh=true").build()),
+      DirectionsResponseCache.key(directions(13.4301, 52.5109)
+        .addWaypointNames("Home", "Work").enableRefresh(true).build()));
+  }
+
+  @Test
+  public void get_countsHitsAndMisses() throws Exception {
+    DirectionsResponseCache cache = new DirectionsResponseCache(10, 1, TimeUnit.MINUTES);
+    assertNull(cache.get("key"));
+    cache.put("key", Response.success(response));
+    assertSame(response, cache.get("key"));
+    assertEquals(1, cache.hitCount());
+    assertEquals(1, cache.missCount());
+  }
+
+  @Test
+  public void get_expiredResponseIsEvicted() throws Exception {
+    DirectionsResponseCache cache = new DirectionsResponseCache(10, 1, TimeUnit.MILLISECONDS);
+    cache.put("key", Response.success(response));
+    Thread.sleep(10);
+    assertNull(cache.get("key"));
+    assertEquals(1, cache.evictionCount());
+    assertEquals(0, cache.size());
+  }
+
+  @Test
+  public void put_evictsLeastRecentlyUsed() throws Exception {
+    DirectionsResponseCache cache = new DirectionsResponseCache(2, 1, TimeUnit.MINUTES);
+    cache.put("first", Response.success(response));
+    cache.put("second", Response.success(response));
+    cache.get("first");
+    cache.put("third", Response.success(response));
+    assertEquals(1, cache.evictionCount());
+    assertSame(response, cache.get("first"));
+    assertNull(cache.get("second"));
+  }
+
+  @Test
+  public void put_ignoresErrors() throws Exception {
+    DirectionsResponseCache cache = new DirectionsResponseCache(10, 1, TimeUnit.MINUTES);
+    cache.put("key", Response.<DirectionsResponse>error(500,
+      ResponseBody.create(MediaType.parse("application/json"), "{}")));
+    assertEquals(0, cache.size());
+  }
+
+  private static MapboxDirections.Builder directions(double longitude, double latitude) {
+    return MapboxDirections.builder()
+      .origin(Point.fromLngLat(longitude, latitude))
+      .destination(Point.fromLngLat(13.432508, 52.501725))
+      .accessToken(ACCESS_TOKEN);
+  }
+}
@@ -8,6 +8,7 @@ import com.mapbox.api.directions.v5.models.DirectionsResponse;
 import com.mapbox.api.directions.v5.models.DirectionsRoute;
 import com.mapbox.api.directions.v5.models.LegAnnotation;
 import com.mapbox.api.directions.v5.models.RouteOptions;
+import com.mapbox.core.ResponseFuture;
 import com.mapbox.core.TestUtils;
 import com.mapbox.core.exceptions.ServicesException;
 import com.mapbox.geojson.Point;
@@ -25,6 +26,9 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
 import java.util.Random;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 
 import okhttp3.Call;
 import okhttp3.EventListener;
@@ -33,6 +37,7 @@ import okhttp3.Interceptor;
 import okhttp3.mockwebserver.MockResponse;
 import okhttp3.mockwebserver.MockWebServer;
 import okhttp3.mockwebserver.RecordedRequest;
+import retrofit2.Callback;
 import retrofit2.Response;
 
 import static com.mapbox.api.directions.v5.DirectionsCriteria.APPROACH_CURB;
@@ -46,6 +51,7 @@ import static org.hamcrest.Matchers.startsWith;
 import static org.hamcrest.junit.MatcherAssert.assertThat;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 public class MapboxDirectionsTest extends TestUtils {
@@ -708,6 +714,92 @@ public class MapboxDirectionsTest extends TestUtils {
     assertEquals("unrestricted;curb", approaches);
   }
 
+  @Test
+  public void executeAsync_responseIncludesRouteOptions() throws Exception {
+    MapboxDirections mapboxDirections = MapboxDirections.builder()
+      .profile(PROFILE_DRIVING)
+      .origin(Point.fromLngLat(13.4301,52.5109))
+      .destination(Point.fromLngLat(13.432508,52.501725))
+      .addApproaches(APPROACH_UNRESTRICTED, APPROACH_CURB)
+      .accessToken(ACCESS_TOKEN)
+      .baseUrl(mockUrl.toString())
+      .build();
+
+    ResponseFuture<DirectionsResponse> future = mapboxDirections.executeAsync();
+    final AtomicReference<Response<DirectionsResponse>> callbackResponse =
+      new AtomicReference<>();
+    future.addCallback(new Callback<DirectionsResponse>() {
+      @Override
+      public void onResponse(retrofit2.Call<DirectionsResponse> call,
+                             Response<DirectionsResponse> response) {
+        callbackResponse.set(response);
+      }
+
+      @Override
+      public void onFailure(retrofit2.Call<DirectionsResponse> call, Throwable throwable) {
+      }
+    });
+
+    Response<DirectionsResponse> response = future.get(10, TimeUnit.SECONDS);
+    assertTrue(future.isDone());
+    assertEquals("unrestricted;curb", response.body().routes().get(0).routeOptions().approaches());
+    // The callback might be notified right after get() returns
+    for (int i = 0; i < 100 && callbackResponse.get() == null; i++) {
+      Thread.sleep(10);
+    }
+    assertEquals(response, callbackResponse.get());
+  }
+
+  @Test
+  public void generate_routesShareRouteOptions() throws Exception {
+    MapboxDirections mapboxDirections = MapboxDirections.builder()
+      .profile(PROFILE_DRIVING)
+      .origin(Point.fromLngLat(13.4301,52.5109))
+      .destination(Point.fromLngLat(13.432508,52.501725))
+      .accessToken(ACCESS_TOKEN)
+      .baseUrl(mockUrl.toString())
+      .build();
+    DirectionsResponse body = DirectionsResponse.fromJson(loadJsonFixture(DIRECTIONS_V5_FIXTURE));
+    List<DirectionsRoute> routes = new ArrayList<>(body.routes());
+    routes.add(body.routes().get(0));
+    Response<DirectionsResponse> response =
+      Response.success(body.toBuilder().routes(routes).build());
+
+    Response<DirectionsResponse> generated =
+      new DirectionsResponseFactory(mapboxDirections).generate(response);
+
+    List<DirectionsRoute> generatedRoutes = generated.body().routes();
+    assertEquals(2, generatedRoutes.size());
+    assertNotNull(generatedRoutes.get(0).routeOptions());
+    assertSame(generatedRoutes.get(0).routeOptions(), generatedRoutes.get(1).routeOptions());
+    assertEquals(body.uuid(), generatedRoutes.get(0).routeOptions().requestUuid());
+    assertSame(response.raw(), generated.raw());
+  }
+
+  @Test
+  public void executeAsync_cancel() throws Exception {
+    server.setDispatcher(new okhttp3.mockwebserver.Dispatcher() {
+      @Override
+      public MockResponse dispatch(RecordedRequest request) {
+        return new MockResponse().setBody("{}").setBodyDelay(10, TimeUnit.SECONDS);
+      }
+    });
+    MapboxDirections mapboxDirections = MapboxDirections.builder()
+      .profile(PROFILE_DRIVING)
+      .origin(Point.fromLngLat(13.4301,52.5109))
+      .destination(Point.fromLngLat(13.432508,52.501725))
+      .accessToken(ACCESS_TOKEN)
+      .baseUrl(mockUrl.toString())
+      .build();
+
+    ResponseFuture<DirectionsResponse> future = mapboxDirections.executeAsync();
+    assertTrue(future.cancel(true));
+    assertTrue(future.isCancelled());
+
+    thrown.expect(CancellationException.class);
+    future.get();
+  }
+
   @Test(expected = ServicesException.class)
   public void build_exceptionThrownWhenLessThanTwoWaypointsProvided() {
     MapboxDirections.builder()
@@ -959,6 +1051,58 @@ public class MapboxDirectionsTest extends TestUtils {
     assertEquals("GET", call.request().method());
   }
 
+  @Test
+  public void responseCache_answersSameRouteFromCache() throws Exception {
+    DirectionsResponseCache cache = new DirectionsResponseCache(10, 1, TimeUnit.MINUTES);
+    MapboxDirections first = cachedDirections(cache).build();
+    MapboxDirections second = cachedDirections(cache)
+      .accessToken("pk.YYY")
+      .post()
+      .build();
+
+    Response<DirectionsResponse> fresh = first.executeCall();
+    Response<DirectionsResponse> cached = second.executeCall();
+    assertEquals(1, server.getRequestCount());
+    assertEquals(1, cache.hitCount());
+    assertEquals(1, cache.missCount());
+
+    RouteOptions routeOptions = cached.body().routes().get(0).routeOptions();
+    assertEquals("pk.YYY", routeOptions.accessToken());
+    assertEquals(fresh.body().uuid(), routeOptions.requestUuid());
+    assertEquals(fresh.body().routes().get(0).distance(),
+      cached.body().routes().get(0).distance());
+  }
+
+  @Test
+  public void responseCache_enqueueCallAnswersFromCache() throws Exception {
+    DirectionsResponseCache cache = new DirectionsResponseCache(10, 1, TimeUnit.MINUTES);
+    cachedDirections(cache).build().executeAsync().get(10, TimeUnit.SECONDS);
+    Response<DirectionsResponse> cached =
+      cachedDirections(cache).build().executeAsync().get(10, TimeUnit.SECONDS);
+    assertEquals(1, server.getRequestCount());
+    assertEquals(1, cache.hitCount());
+    assertNotNull(cached.body().routes().get(0).routeOptions());
+  }
+
+  @Test
+  public void responseCache_differentParametersAreNotShared() throws Exception {
+    DirectionsResponseCache cache = new DirectionsResponseCache(10, 1, TimeUnit.MINUTES);
+    cachedDirections(cache).build().executeCall();
+    cachedDirections(cache).steps(true).build().executeCall();
+    assertEquals(2, server.getRequestCount());
+    assertEquals(0, cache.hitCount());
+    assertEquals(2, cache.size());
+  }
+
+  private MapboxDirections.Builder cachedDirections(DirectionsResponseCache cache) {
+    return MapboxDirections.builder()
+      .origin(Point.fromLngLat(13.4301, 52.5109))
+      .destination(Point.fromLngLat(13.432508, 52.501725))
+      .accessToken(ACCESS_TOKEN)
+      .baseUrl(mockUrl.toString())
+      .responseCache(cache);
+  }
+
   private void addWaypoints(MapboxDirections.Builder builder, int number) {
     for (int i = 0; i < number; i++) {
       builder.addWaypoint(Point.fromLngLat(getRandomLng(), getRandomLat()));
@@ -1,7 +1,9 @@
 package com.mapbox.api.directions.v5.models;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 
 import com.mapbox.core.TestUtils;
 import org.junit.Test;
@@ -98,4 +100,46 @@ public class LegAnnotationTest extends TestUtils {
 
     assertEquals(annotation, annotationFromJson);
   }
+
+  @Test
+  public void fromJson_primitiveAccessorsMatchLists() {
+    LegAnnotation annotation = LegAnnotation.fromJson(
+      "{\"distance\":[4.2,5.05,7.4],\"duration\":[1.0,1.2,2.0],"
+        + "\"congestion\":[\"low\",\"severe\",\"unknown\"]}");
+
+    assertEquals(Arrays.asList(4.2, 5.05, 7.4), annotation.distance());
+    assertArrayEquals(new double[] {4.2, 5.05, 7.4}, annotation.distanceValues(), DELTA);
+    assertArrayEquals(new double[] {1.0, 1.2, 2.0}, annotation.durationValues(), DELTA);
+    assertNull(annotation.speed());
+    assertNull(annotation.speedValues());
+    assertEquals(Arrays.asList("low", "severe", "unknown"), annotation.congestion());
+    assertArrayEquals(new byte[] {LegAnnotation.CONGESTION_CODE_LOW,
+      LegAnnotation.CONGESTION_CODE_SEVERE, LegAnnotation.CONGESTION_CODE_UNKNOWN},
+      annotation.congestionCodes());
+  }
+
+  @Test
+  public void fromJson_unrecognizedCongestionIsKept() {
+    LegAnnotation annotation = LegAnnotation.fromJson(
+      "{\"congestion\":[\"heavy\",\"gridlock\"],\"distance\":[1.0,null]}");
+
+    assertEquals(Arrays.asList("heavy", "gridlock"), annotation.congestion());
+    assertArrayEquals(new byte[] {LegAnnotation.CONGESTION_CODE_HEAVY,
+      LegAnnotation.CONGESTION_CODE_UNRECOGNIZED}, annotation.congestionCodes());
+    assertEquals(Arrays.asList(1.0, null), annotation.distance());
+    assertArrayEquals(new double[] {1.0, Double.NaN}, annotation.distanceValues(), DELTA);
+  }
+
+  @Test
+  public void builder_primitiveAccessorsUnboxLists() {
+    LegAnnotation annotation = LegAnnotation.builder()
+      .speed(Arrays.asList(4.3, 4.2))
+      .congestion(Arrays.asList("moderate", "low"))
+      .build();
+
+    assertArrayEquals(new double[] {4.3, 4.2}, annotation.speedValues(), DELTA);
+    assertArrayEquals(new byte[] {LegAnnotation.CONGESTION_CODE_MODERATE,
+      LegAnnotation.CONGESTION_CODE_LOW}, annotation.congestionCodes());
+    assertEquals(annotation, LegAnnotation.fromJson(annotation.toJson()));
+  }
 }
@@ -258,9 +258,9 @@ public abstract class MapboxGeocoding extends MapboxService<GeocodingResponse, G
      * @since 3.0.0
      */
     public Builder query(@NonNull Point point) {
-      query(String.format(Locale.US, "%s,%s",
-        TextUtils.formatCoordinate(point.longitude()),
-        TextUtils.formatCoordinate(point.latitude())));
+      StringBuilder builder = new StringBuilder();
+      TextUtils.appendCoordinate(builder, point.longitude()).append(',');
+      query(TextUtils.appendCoordinate(builder, point.latitude()).toString());
       return this;
     }
 
@@ -302,8 +302,9 @@ public abstract class MapboxGeocoding extends MapboxService<GeocodingResponse, G
      * @since 1.0.0
      */
     public Builder proximity(@NonNull Point proximity) {
-      proximity(String.format(Locale.US, "%s,%s",
-        TextUtils.formatCoordinate(proximity.longitude()), proximity.latitude()));
+      StringBuilder builder = new StringBuilder();
+      TextUtils.appendCoordinate(builder, proximity.longitude()).append(',');
+      proximity(TextUtils.appendCoordinate(builder, proximity.latitude()).toString());
       return this;
     }
 
@@ -429,12 +430,11 @@ public abstract class MapboxGeocoding extends MapboxService<GeocodingResponse, G
                         @FloatRange(from = -90, to = 90) double minY,
                         @FloatRange(from = -180, to = 180) double maxX,
                         @FloatRange(from = -90, to = 90) double maxY) {
-      bbox(String.format(Locale.US, "%s,%s,%s,%s",
-        TextUtils.formatCoordinate(minX),
-        TextUtils.formatCoordinate(minY),
-        TextUtils.formatCoordinate(maxX),
-        TextUtils.formatCoordinate(maxY))
-      );
+      StringBuilder builder = new StringBuilder();
+      TextUtils.appendCoordinate(builder, minX).append(',');
+      TextUtils.appendCoordinate(builder, minY).append(',');
+      TextUtils.appendCoordinate(builder, maxX).append(',');
+      bbox(TextUtils.appendCoordinate(builder, maxY).toString());
       return this;
     }
 
@@ -4,7 +4,6 @@ import android.support.annotation.NonNull;
 import android.support.annotation.Nullable;
 import com.google.auto.value.AutoValue;
 import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
 import com.google.gson.TypeAdapter;
 import com.google.gson.annotations.SerializedName;
 
@@ -40,10 +39,7 @@ public abstract class CarmenContext implements Serializable {
    */
   @SuppressWarnings("unused")
   public static CarmenContext fromJson(@NonNull String json) {
-    Gson gson = new GsonBuilder()
-      .registerTypeAdapterFactory(GeocodingAdapterFactory.create())
-      .create();
-    return gson.fromJson(json, CarmenContext.class);
+    return GeocodingGson.getGson().fromJson(json, CarmenContext.class);
   }
 
   /**
@@ -125,10 +121,7 @@ public abstract class CarmenContext implements Serializable {
    */
   @SuppressWarnings("unused")
   public String toJson() {
-    Gson gson = new GsonBuilder()
-      .registerTypeAdapterFactory(GeocodingAdapterFactory.create())
-      .create();
-    return gson.toJson(this);
+    return GeocodingGson.getGson().toJson(this);
   }
 
   /**
@@ -0,0 +1,44 @@
+package com.mapbox.api.geocoding.v5.models;
+
+import android.support.annotation.Keep;
+import android.support.annotation.NonNull;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.mapbox.geojson.BoundingBox;
+import com.mapbox.geojson.GeometryAdapterFactory;
+import com.mapbox.geojson.gson.BoundingBoxTypeAdapter;
+
+/**
+ * The shared {@link Gson} instance used by the {@code fromJson} and {@code toJson} methods of the
+ * Geocoding models.
+ *
+ * @since 4.9.0
+ */
+@Keep
+public final class GeocodingGson {
+
+  private GeocodingGson() {
+    // Private constructor preventing instances of class
+  }
+
+  /**
+   * Returns the shared {@link Gson} instance able to serialize and deserialize all the Geocoding
+   * models.
+   *
+   * @return the shared Geocoding Gson instance
+   * @since 4.9.0
+   */
+  @NonNull
+  public static Gson getGson() {
+    return GsonHolder.GSON;
+  }
+
+  private static final class GsonHolder {
+    static final Gson GSON = new GsonBuilder()
+      .registerTypeAdapterFactory(GeometryAdapterFactory.create())
+      .registerTypeAdapter(BoundingBox.class, new BoundingBoxTypeAdapter())
+      .registerTypeAdapterFactory(GeocodingAdapterFactory.create())
+      .create();
+  }
+}
@@ -3,12 +3,8 @@ package com.mapbox.api.geocoding.v5.models;
 import android.support.annotation.NonNull;
 import com.google.auto.value.AutoValue;
 import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
 import com.google.gson.TypeAdapter;
-import com.mapbox.geojson.BoundingBox;
 import com.mapbox.geojson.FeatureCollection;
-import com.mapbox.geojson.GeometryAdapterFactory;
-import com.mapbox.geojson.gson.BoundingBoxTypeAdapter;
 
 import java.io.Serializable;
 import java.util.List;
@@ -35,12 +31,7 @@ public abstract class GeocodingResponse implements Serializable {
    */
   @NonNull
   public static GeocodingResponse fromJson(@NonNull String json) {
-    Gson gson = new GsonBuilder()
-      .registerTypeAdapterFactory(GeometryAdapterFactory.create())
-      .registerTypeAdapter(BoundingBox.class, new BoundingBoxTypeAdapter())
-      .registerTypeAdapterFactory(GeocodingAdapterFactory.create())
-      .create();
-    return gson.fromJson(json, GeocodingResponse.class);
+    return GeocodingGson.getGson().fromJson(json, GeocodingResponse.class);
   }
 
   /**
@@ -116,12 +107,7 @@ public abstract class GeocodingResponse implements Serializable {
    */
   @NonNull
   public String toJson() {
-    Gson gson = new GsonBuilder()
-      .registerTypeAdapterFactory(GeometryAdapterFactory.create())
-      .registerTypeAdapter(BoundingBox.class, new BoundingBoxTypeAdapter())
-      .registerTypeAdapterFactory(GeocodingAdapterFactory.create())
-      .create();
-    return gson.toJson(this, GeocodingResponse.class);
+    return GeocodingGson.getGson().toJson(this, GeocodingResponse.class);
   }
 
   /**
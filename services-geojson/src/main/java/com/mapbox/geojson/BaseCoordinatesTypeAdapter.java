@@ -26,14 +26,56 @@ abstract class BaseCoordinatesTypeAdapter<T> extends TypeAdapter<T> {
 
 
   protected void writePoint(JsonWriter out, Point value) throws  IOException {
-    writePointList(out, value.coordinates());
+    if (value == null) {
+      return;
+    }
+
+    if (!CoordinateShifterManager.isUsingDefaultShifter()) {
+      writePointList(out, value.coordinates());
+      return;
+    }
+
+    // Nothing to unshift, write the primitive values directly
+    out.beginArray();
+    out.value(GeoJsonUtils.trim(value.longitude()));
+    out.value(GeoJsonUtils.trim(value.latitude()));
+
+    // Includes altitude
+    if (value.hasAltitude()) {
+      out.value(value.altitude());
+    }
+    out.endArray();
   }
 
   protected Point readPoint(JsonReader in) throws IOException {
 
-    List<Double> coordinates = readPointList(in);
-    if (coordinates != null && coordinates.size() > 1) {
-      return new Point("Point",null, coordinates);
+    if (in.peek() == JsonToken.NULL) {
+      throw new NullPointerException();
+    }
+
+    double longitude = 0;
+    double latitude = 0;
+    double altitude = Double.NaN;
+    int count = 0;
+
+    in.beginArray();
+    while (in.hasNext()) {
+      double value = in.nextDouble();
+      if (count == 0) {
+        longitude = value;
+      } else if (count == 1) {
+        latitude = value;
+      } else if (count == 2) {
+        altitude = value;
+      }
+      count++;
+    }
+    in.endArray();
+
+    if (count > 2) {
+      return Point.fromLngLat(longitude, latitude, altitude);
+    } else if (count == 2) {
+      return Point.fromLngLat(longitude, latitude);
     }
 
     throw new GeoJsonException(" Point coordinates should be non-null double array");
@@ -84,8 +84,21 @@ abstract class BaseGeometryTypeAdapter<G, T> extends TypeAdapter<G> {
     }
 
     jsonReader.beginObject();
-    String type = null;
-    BoundingBox bbox = null;
+    return readCoordinateContainerMembers(jsonReader, null, null);
+  }
+
+  /**
+   * Reads the remaining members of a geometry object whose opening brace, and possibly type and
+   * bounding box, have already been consumed, up to and including its closing brace.
+   *
+   * @param jsonReader the reader positioned inside the geometry object
+   * @param type       the geometry type if already read, otherwise null
+   * @param bbox       the bounding box if already read, otherwise null
+   * @return the geometry
+   * @throws IOException if reading fails
+   */
+  CoordinateContainer<T> readCoordinateContainerMembers(JsonReader jsonReader, String type,
+                                                        BoundingBox bbox) throws IOException {
     T coordinates = null;
 
     while (jsonReader.hasNext()) {
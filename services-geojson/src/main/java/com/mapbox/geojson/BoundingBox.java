@@ -7,7 +7,6 @@ import android.support.annotation.FloatRange;
 import android.support.annotation.Keep;
 import android.support.annotation.NonNull;
 import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
 import com.google.gson.TypeAdapter;
 import com.mapbox.geojson.constants.GeoJsonConstants;
 import com.mapbox.geojson.gson.BoundingBoxTypeAdapter;
@@ -45,10 +44,7 @@ public class BoundingBox implements Serializable {
    * @since 3.0.0
    */
   public static BoundingBox fromJson(String json) {
-    Gson gson = new GsonBuilder()
-      .registerTypeAdapter(BoundingBox.class, new BoundingBoxTypeAdapter())
-      .create();
-    return gson.fromJson(json, BoundingBox.class);
+    return GeoJsonGson.getGson().fromJson(json, BoundingBox.class);
   }
 
   /**
@@ -263,10 +259,7 @@ public class BoundingBox implements Serializable {
    * @since 3.0.0
    */
   public final String toJson() {
-    Gson gson = new GsonBuilder()
-      .registerTypeAdapter(BoundingBox.class, new BoundingBoxTypeAdapter())
-      .create();
-    return gson.toJson(this, BoundingBox.class);
+    return GeoJsonGson.getGson().toJson(this, BoundingBox.class);
   }
 
   @Override
@@ -0,0 +1,329 @@
+package com.mapbox.geojson;
+
+import android.support.annotation.IntRange;
+import android.support.annotation.Keep;
+import android.support.annotation.NonNull;
+
+import com.mapbox.geojson.exception.GeoJsonException;
+import com.mapbox.geojson.shifter.CoordinateShifter;
+import com.mapbox.geojson.shifter.CoordinateShifterManager;
+
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * A packed sequence of positions stored in a single {@code double} array, with the longitude,
+ * latitude and, optionally, the altitude of each position interleaved in that respective order.
+ * <p>
+ * Geometries such as {@link LineString}, {@link MultiPoint}, {@link MultiLineString} and
+ * {@link Polygon} can be built from, and backed by, coordinate sequences. Compared to a list of
+ * {@link Point}s this avoids one object per position along with its boxed values, which
+ * considerably reduces the memory used by long geometries such as decoded route lines, and keeps
+ * sequential iteration over the values cache friendly.
+ * </p><p>
+ * Just like {@link Point}, the values stored inside a sequence are already shifted by the
+ * currently set {@link CoordinateShifter}.
+ * </p>
+ *
+ * @since 4.9.0
+ */
+@Keep
+public final class CoordinateSequence implements Serializable {
+
+  private static final String POINT_TYPE = "Point";
+
+  private final double[] coordinates;
+
+  private final int dimension;
+
+  /**
+   * Create a new instance of this class from an array of interleaved longitude, latitude and,
+   * when the dimension is 3, altitude values. The values are copied, so the array can be reused by
+   * the caller afterwards.
+   *
+   * @param coordinates the interleaved coordinate values
+   * @param dimension   the number of values making up a single position, either 2 or 3
+   * @return a new instance of this class defined by the values passed inside this static factory
+   *   method
+   * @since 4.9.0
+   */
+  public static CoordinateSequence fromLngLats(@NonNull double[] coordinates,
+                                               @IntRange(from = 2, to = 3) int dimension) {
+    checkDimension(dimension);
+    if (coordinates.length % dimension != 0) {
+      throw new GeoJsonException("The number of coordinate values needs to be a multiple of the"
+        + " sequence dimension.");
+    }
+    double[] packed = coordinates.clone();
+    if (!CoordinateShifterManager.isUsingDefaultShifter()) {
+      shift(packed, dimension);
+    }
+    return new CoordinateSequence(packed, dimension);
+  }
+
+  /**
+   * Create a new instance of this class from a range of positions inside an array of interleaved
+   * longitude, latitude and, when the dimension is 3, altitude values. The values are copied, so
+   * the array can be reused by the caller afterwards.
+   *
+   * @param coordinates the interleaved coordinate values
+   * @param offset      the index of the first position to include
+   * @param size        the number of positions to include
+   * @param dimension   the number of values making up a single position, either 2 or 3
+   * @return a new instance of this class defined by the values passed inside this static factory
+   *   method
+   * @since 4.9.0
+   */
+  public static CoordinateSequence fromLngLats(@NonNull double[] coordinates, int offset,
+                                               int size,
+                                               @IntRange(from = 2, to = 3) int dimension) {
+    checkDimension(dimension);
+    if (offset < 0 || size < 0 || (offset + size) * dimension > coordinates.length) {
+      throw new GeoJsonException("The requested positions are out of the coordinate values range.");
+    }
+
+    double[] packed =
+      Arrays.copyOfRange(coordinates, offset * dimension, (offset + size) * dimension);
+    if (!CoordinateShifterManager.isUsingDefaultShifter()) {
+      shift(packed, dimension);
+    }
+    return new CoordinateSequence(packed, dimension);
+  }
+
+  /**
+   * Create a new instance of this class by packing the values of a list of {@link Point}s. If any
+   * of the points has an altitude, the sequence will be three dimensional and points without one
+   * will have a {@link Double#NaN} altitude.
+   *
+   * @param points a list of {@link Point}s to pack
+   * @return a new instance of this class defined by the values passed inside this static factory
+   *   method
+   * @since 4.9.0
+   */
+  public static CoordinateSequence fromPoints(@NonNull List<Point> points) {
+    if (points instanceof PointsView) {
+      return ((PointsView) points).sequence;
+    }
+
+    int dimension = 2;
+    for (Point point : points) {
+      if (point.hasAltitude()) {
+        dimension = 3;
+        break;
+      }
+    }
+
+    double[] packed = new double[points.size() * dimension];
+    int index = 0;
+    for (Point point : points) {
+      packed[index++] = point.longitude();
+      packed[index++] = point.latitude();
+      if (dimension == 3) {
+        packed[index++] = point.altitude();
+      }
+    }
+    return new CoordinateSequence(packed, dimension);
+  }
+
+  static List<List<Point>> toPointLists(List<CoordinateSequence> sequences) {
+    List<List<Point>> pointLists = new ArrayList<>(sequences.size());
+    for (CoordinateSequence sequence : sequences) {
+      pointLists.add(sequence.points());
+    }
+    return Collections.unmodifiableList(pointLists);
+  }
+
+  static List<CoordinateSequence> fromPointLists(List<List<Point>> pointLists) {
+    List<CoordinateSequence> sequences = new ArrayList<>(pointLists.size());
+    for (List<Point> points : pointLists) {
+      sequences.add(fromPoints(points));
+    }
+    return sequences;
+  }
+
+  CoordinateSequence(double[] coordinates, int dimension) {
+    this.coordinates = coordinates;
+    this.dimension = dimension;
+  }
+
+  private static void checkDimension(int dimension) {
+    if (dimension != 2 && dimension != 3) {
+      throw new GeoJsonException("A coordinate sequence dimension needs to be either 2 or 3.");
+    }
+  }
+
+  private static void shift(double[] coordinates, int dimension) {
+    CoordinateShifter shifter = CoordinateShifterManager.getCoordinateShifter();
+    for (int i = 0; i < coordinates.length; i += dimension) {
+      List<Double> values = dimension == 3
+        ? shifter.shiftLonLatAlt(coordinates[i], coordinates[i + 1], coordinates[i + 2])
+        : shifter.shiftLonLat(coordinates[i], coordinates[i + 1]);
+      coordinates[i] = values.get(0);
+      coordinates[i + 1] = values.get(1);
+      if (dimension == 3) {
+        coordinates[i + 2] = values.size() > 2 ? values.get(2) : Double.NaN;
+      }
+    }
+  }
+
+  /**
+   * The number of positions inside this sequence.
+   *
+   * @return the number of positions
+   * @since 4.9.0
+   */
+  public int size() {
+    return coordinates.length / dimension;
+  }
+
+  /**
+   * The number of values making up a single position, 2 for longitude and latitude, or 3 when
+   * an altitude is included.
+   *
+   * @return either 2 or 3
+   * @since 4.9.0
+   */
+  public int dimension() {
+    return dimension;
+  }
+
+  /**
+   * Whether the positions inside this sequence carry an altitude value.
+   *
+   * @return true if this is a three dimensional sequence
+   * @since 4.9.0
+   */
+  public boolean hasAltitude() {
+    return dimension == 3;
+  }
+
+  /**
+   * The longitude of the position found at the given index.
+   *
+   * @param index the position index
+   * @return the longitude of the position
+   * @since 4.9.0
+   */
+  public double longitude(int index) {
+    return coordinates[index * dimension];
+  }
+
+  /**
+   * The latitude of the position found at the given index.
+   *
+   * @param index the position index
+   * @return the latitude of the position
+   * @since 4.9.0
+   */
+  public double latitude(int index) {
+    return coordinates[index * dimension + 1];
+  }
+
+  /**
+   * The altitude of the position found at the given index, or {@link Double#NaN} if this sequence
+   * doesn't carry altitudes.
+   *
+   * @param index the position index
+   * @return the altitude of the position
+   * @since 4.9.0
+   */
+  public double altitude(int index) {
+    return dimension == 3 ? coordinates[index * dimension + 2] : Double.NaN;
+  }
+
+  /**
+   * Creates a {@link Point} out of the position found at the given index.
+   *
+   * @param index the position index
+   * @return a new point
+   * @since 4.9.0
+   */
+  public Point point(int index) {
+    int offset = index * dimension;
+    return new Point(POINT_TYPE, null, coordinates[offset], coordinates[offset + 1],
+      dimension == 3 ? coordinates[offset + 2] : Double.NaN);
+  }
+
+  /**
+   * Provides a read-only list view of this sequence. Points are created on demand while the view
+   * is accessed, they aren't retained.
+   *
+   * @return a list of points backed by this sequence
+   * @since 4.9.0
+   */
+  public List<Point> points() {
+    return new PointsView(this);
+  }
+
+  /**
+   * Returns a copy of the interleaved coordinate values.
+   *
+   * @return a double array with {@link #size()} times {@link #dimension()} values
+   * @since 4.9.0
+   */
+  public double[] toArray() {
+    return coordinates.clone();
+  }
+
+  @Override
+  public String toString() {
+    return "CoordinateSequence{"
+            + "dimension=" + dimension + ", "
+            + "coordinates=" + Arrays.toString(coordinates)
+            + "}";
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (obj == this) {
+      return true;
+    }
+    if (obj instanceof CoordinateSequence) {
+      CoordinateSequence that = (CoordinateSequence) obj;
+      return this.dimension == that.dimension
+              && Arrays.equals(this.coordinates, that.coordinates);
+    }
+    return false;
+  }
+
+  @Override
+  public int hashCode() {
+    int hashCode = 1;
+    hashCode *= 1000003;
+    hashCode ^= dimension;
+    hashCode *= 1000003;
+    hashCode ^= Arrays.hashCode(coordinates);
+    return hashCode;
+  }
+
+  /**
+   * Read-only list of {@link Point}s backed by a {@link CoordinateSequence}.
+   */
+  static final class PointsView extends AbstractList<Point>
+    implements RandomAccess, Serializable {
+
+    final CoordinateSequence sequence;
+
+    PointsView(CoordinateSequence sequence) {
+      this.sequence = sequence;
+    }
+
+    @Override
+    public Point get(int index) {
+      if (index < 0 || index >= size()) {
+        throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+      }
+      return sequence.point(index);
+    }
+
+    @Override
+    public int size() {
+      return sequence.size();
+    }
+  }
+}
@@ -4,7 +4,6 @@ import android.support.annotation.Keep;
 import android.support.annotation.NonNull;
 import android.support.annotation.Nullable;
 import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import com.google.gson.TypeAdapter;
@@ -13,9 +12,9 @@ import com.google.gson.stream.JsonReader;
 import com.google.gson.stream.JsonToken;
 import com.google.gson.stream.JsonWriter;
 import com.mapbox.geojson.gson.BoundingBoxTypeAdapter;
-import com.mapbox.geojson.gson.GeoJsonAdapterFactory;
 
 import java.io.IOException;
+import java.io.StringWriter;
 
 /**
  * This defines a GeoJson Feature object which represents a spatially bound thing. Every Feature
@@ -61,7 +60,13 @@ public final class Feature implements GeoJson {
 
   private final Geometry geometry;
 
-  private final JsonObject properties;
+  private volatile JsonObject properties;
+
+  /**
+   * Properties JSON kept as is until first accessed, null once parsed or if they weren't read
+   * lazily.
+   */
+  private volatile String rawProperties;
 
   /**
    * Create a new instance of this class by passing in a formatted valid JSON String. If you are
@@ -75,11 +80,7 @@ public final class Feature implements GeoJson {
    */
   public static Feature fromJson(@NonNull String json) {
 
-    GsonBuilder gson = new GsonBuilder();
-    gson.registerTypeAdapterFactory(GeoJsonAdapterFactory.create());
-    gson.registerTypeAdapterFactory(GeometryAdapterFactory.create());
-
-    Feature feature = gson.create().fromJson(json, Feature.class);
+    Feature feature = GeoJsonGson.getGson().fromJson(json, Feature.class);
 
     // Even thought properties are Nullable,
     // Feature object will be created with properties set to an empty object,
@@ -184,6 +185,12 @@ public final class Feature implements GeoJson {
 
   Feature(String type, @Nullable BoundingBox bbox, @Nullable String id,
           @Nullable Geometry geometry, @Nullable JsonObject properties) {
+    this(type, bbox, id, geometry, properties, null);
+  }
+
+  Feature(String type, @Nullable BoundingBox bbox, @Nullable String id,
+          @Nullable Geometry geometry, @Nullable JsonObject properties,
+          @Nullable String rawProperties) {
     if (type == null) {
       throw new NullPointerException("Null type");
     }
@@ -192,6 +199,7 @@ public final class Feature implements GeoJson {
     this.id = id;
     this.geometry = geometry;
     this.properties = properties;
+    this.rawProperties = rawProperties;
   }
 
   /**
@@ -252,15 +260,29 @@ public final class Feature implements GeoJson {
   /**
    * This contains the JSON object which holds the feature properties. The value of the properties
    * member is a {@link JsonObject} and might be empty if no properties are provided.
+   * <p>
+   * When this feature was read by a type adapter created with lazy properties, the properties are
+   * only parsed the first time this method, or any other property accessor, is called.
+   * </p>
    *
    * @return a {@link JsonObject} which holds this features current properties
    * @since 1.0.0
    */
   @Nullable
   public JsonObject properties() {
+    if (rawProperties != null) {
+      parseProperties();
+    }
     return properties;
   }
 
+  private synchronized void parseProperties() {
+    if (rawProperties != null) {
+      properties = GeoJsonGson.getGson().fromJson(rawProperties, JsonObject.class);
+      rawProperties = null;
+    }
+  }
+
   /**
    * This takes the currently defined values found inside this instance and converts it to a GeoJson
    * string.
@@ -271,19 +293,13 @@ public final class Feature implements GeoJson {
   @Override
   public String toJson() {
 
-    Gson gson = new GsonBuilder()
-            .registerTypeAdapterFactory(GeoJsonAdapterFactory.create())
-            .registerTypeAdapterFactory(GeometryAdapterFactory.create())
-            .create();
-
-
     // Empty properties -> should not appear in json string
     Feature feature = this;
     if (properties().size() == 0) {
       feature = new Feature(TYPE, bbox(), id(), geometry(), null);
     }
 
-    return gson.toJson(feature);
+    return GeoJsonGson.getGson().toJson(feature);
   }
 
   /**
@@ -294,7 +310,22 @@ public final class Feature implements GeoJson {
    * @since 3.0.0
    */
   public static TypeAdapter<Feature> typeAdapter(Gson gson) {
-    return new Feature.GsonTypeAdapter(gson);
+    return new Feature.GsonTypeAdapter(gson, false);
+  }
+
+  /**
+   * Gson TYPE adapter for parsing Gson to this class, optionally deferring the parsing of the
+   * feature properties. With lazy properties, the properties JSON is kept as a string when read
+   * and only parsed into a {@link JsonObject} the first time a property is accessed, which saves
+   * building a JSON tree for every feature whose properties are never looked at.
+   *
+   * @param gson           the built {@link Gson} object
+   * @param lazyProperties true to defer parsing the properties until first accessed
+   * @return the TYPE adapter for this class
+   * @since 4.9.0
+   */
+  public static TypeAdapter<Feature> typeAdapter(Gson gson, boolean lazyProperties) {
+    return new Feature.GsonTypeAdapter(gson, lazyProperties);
   }
 
   /**
@@ -376,6 +407,34 @@ public final class Feature implements GeoJson {
     return propertyKey == null ? null : propertyKey.getAsNumber();
   }
 
+  /**
+   * Convenience method to get a double member without boxing its value.
+   *
+   * @param key          name of the member
+   * @param defaultValue the value returned if the member doesn't exist or is null
+   * @return the value of the member, or {@code defaultValue} if it doesn't exist or is null
+   * @since 4.9.0
+   */
+  public double getDoubleProperty(String key, double defaultValue) {
+    JsonElement propertyKey = properties().get(key);
+    return propertyKey == null || propertyKey.isJsonNull()
+      ? defaultValue : propertyKey.getAsDouble();
+  }
+
+  /**
+   * Convenience method to get a long member without boxing its value.
+   *
+   * @param key          name of the member
+   * @param defaultValue the value returned if the member doesn't exist or is null
+   * @return the value of the member, or {@code defaultValue} if it doesn't exist or is null
+   * @since 4.9.0
+   */
+  public long getLongProperty(String key, long defaultValue) {
+    JsonElement propertyKey = properties().get(key);
+    return propertyKey == null || propertyKey.isJsonNull()
+      ? defaultValue : propertyKey.getAsLong();
+  }
+
   /**
    * Convenience method to get a Boolean member.
    *
@@ -451,7 +510,7 @@ public final class Feature implements GeoJson {
             + "bbox=" + bbox + ", "
             + "id=" + id + ", "
             + "geometry=" + geometry + ", "
-            + "properties=" + properties
+            + "properties=" + properties()
             + "}";
   }
 
@@ -467,8 +526,8 @@ public final class Feature implements GeoJson {
               && ((this.id == null) ? (that.id() == null) : this.id.equals(that.id()))
               && ((this.geometry == null)
                    ? (that.geometry() == null) : this.geometry.equals(that.geometry()))
-              && ((this.properties == null)
-                   ? (that.properties() == null) : this.properties.equals(that.properties()));
+              && ((this.properties() == null)
+                   ? (that.properties() == null) : this.properties().equals(that.properties()));
     }
     return false;
   }
@@ -485,7 +544,7 @@ public final class Feature implements GeoJson {
     hashCode *= 1000003;
     hashCode ^= (geometry == null) ? 0 : geometry.hashCode();
     hashCode *= 1000003;
-    hashCode ^= (properties == null) ? 0 : properties.hashCode();
+    hashCode ^= (properties() == null) ? 0 : properties().hashCode();
     return hashCode;
   }
 
@@ -500,9 +559,11 @@ public final class Feature implements GeoJson {
     private volatile TypeAdapter<Geometry> geometryTypeAdapter;
     private volatile TypeAdapter<JsonObject> jsonObjectTypeAdapter;
     private final Gson gson;
+    private final boolean lazyProperties;
 
-    GsonTypeAdapter(Gson gson) {
+    GsonTypeAdapter(Gson gson, boolean lazyProperties) {
       this.gson = gson;
+      this.lazyProperties = lazyProperties;
     }
 
     @Override
@@ -582,6 +643,7 @@ public final class Feature implements GeoJson {
       String id = null;
       Geometry geometry = null;
       JsonObject properties = null;
+      String rawProperties = null;
       while (jsonReader.hasNext()) {
         String name = jsonReader.nextName();
         if (jsonReader.peek() == JsonToken.NULL) {
@@ -626,6 +688,10 @@ public final class Feature implements GeoJson {
             break;
 
           case "properties":
+            if (lazyProperties && jsonReader.peek() == JsonToken.BEGIN_OBJECT) {
+              rawProperties = readRawValue(jsonReader);
+              break;
+            }
             TypeAdapter<JsonObject> jsonObjectTypeAdapter = this.jsonObjectTypeAdapter;
             if (jsonObjectTypeAdapter == null) {
               jsonObjectTypeAdapter = gson.getAdapter(JsonObject.class);
@@ -640,7 +706,70 @@ public final class Feature implements GeoJson {
         }
       }
       jsonReader.endObject();
-      return new Feature(type, bbox, id, geometry, properties);
+      return new Feature(type, bbox, id, geometry, properties, rawProperties);
+    }
+
+    /**
+     * Copies the next value as compact JSON without building a {@link JsonElement} tree.
+     */
+    private static String readRawValue(JsonReader jsonReader) throws IOException {
+      StringWriter stringWriter = new StringWriter();
+      JsonWriter jsonWriter = new JsonWriter(stringWriter);
+      int depth = 0;
+      do {
+        switch (jsonReader.peek()) {
+          case BEGIN_OBJECT:
+            jsonReader.beginObject();
+            jsonWriter.beginObject();
+            depth++;
+            break;
+
+          case END_OBJECT:
+            jsonReader.endObject();
+            jsonWriter.endObject();
+            depth--;
+            break;
+
+          case BEGIN_ARRAY:
+            jsonReader.beginArray();
+            jsonWriter.beginArray();
+            depth++;
+            break;
+
+          case END_ARRAY:
+            jsonReader.endArray();
+            jsonWriter.endArray();
+            depth--;
+            break;
+
+          case NAME:
+            jsonWriter.name(jsonReader.nextName());
+            break;
+
+          case STRING:
+            jsonWriter.value(jsonReader.nextString());
+            break;
+
+          case NUMBER:
+            // Keeps the number literal as is
+            jsonWriter.jsonValue(jsonReader.nextString());
+            break;
+
+          case BOOLEAN:
+            jsonWriter.value(jsonReader.nextBoolean());
+            break;
+
+          case NULL:
+            jsonReader.nextNull();
+            jsonWriter.nullValue();
+            break;
+
+          default:
+            throw new IllegalStateException("Unexpected token " + jsonReader.peek());
+        }
+      } while (depth > 0);
+      jsonWriter.close();
+      return stringWriter.toString();
     }
   }
 }
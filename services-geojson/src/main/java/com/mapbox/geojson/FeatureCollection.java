@@ -4,7 +4,6 @@ import android.support.annotation.Keep;
 import android.support.annotation.NonNull;
 import android.support.annotation.Nullable;
 import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
 import com.google.gson.TypeAdapter;
 import com.google.gson.annotations.JsonAdapter;
 import com.google.gson.reflect.TypeToken;
@@ -12,7 +11,6 @@ import com.google.gson.stream.JsonReader;
 import com.google.gson.stream.JsonToken;
 import com.google.gson.stream.JsonWriter;
 import com.mapbox.geojson.gson.BoundingBoxTypeAdapter;
-import com.mapbox.geojson.gson.GeoJsonAdapterFactory;
 
 import java.io.IOException;
 import java.util.Arrays;
@@ -62,10 +60,7 @@ public final class FeatureCollection implements GeoJson {
    */
   public static FeatureCollection fromJson(@NonNull String json) {
 
-    GsonBuilder gson = new GsonBuilder();
-    gson.registerTypeAdapterFactory(GeoJsonAdapterFactory.create());
-    gson.registerTypeAdapterFactory(GeometryAdapterFactory.create());
-    return gson.create().fromJson(json, FeatureCollection.class);
+    return GeoJsonGson.getGson().fromJson(json, FeatureCollection.class);
   }
 
   /**
@@ -217,10 +212,7 @@ public final class FeatureCollection implements GeoJson {
   @Override
   public String toJson() {
 
-    GsonBuilder gson = new GsonBuilder();
-    gson.registerTypeAdapterFactory(GeoJsonAdapterFactory.create());
-    gson.registerTypeAdapterFactory(GeometryAdapterFactory.create());
-    return gson.create().toJson(this);
+    return GeoJsonGson.getGson().toJson(this);
   }
 
   /**
@@ -0,0 +1,41 @@
+package com.mapbox.geojson;
+
+import android.support.annotation.Keep;
+import android.support.annotation.NonNull;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.mapbox.geojson.gson.GeoJsonAdapterFactory;
+
+/**
+ * The shared {@link Gson} instance used by the {@code fromJson} and {@code toJson} methods of the
+ * GeoJson types.
+ *
+ * @since 4.9.0
+ */
+@Keep
+public final class GeoJsonGson {
+
+  private GeoJsonGson() {
+    // Private constructor preventing instances of class
+  }
+
+  /**
+   * Returns the shared {@link Gson} instance able to serialize and deserialize all the GeoJson
+   * types, including {@link Geometry} fields.
+   *
+   * @return the shared GeoJson Gson instance
+   * @since 4.9.0
+   */
+  @NonNull
+  public static Gson getGson() {
+    return GsonHolder.GSON;
+  }
+
+  private static final class GsonHolder {
+    static final Gson GSON = new GsonBuilder()
+      .registerTypeAdapterFactory(GeoJsonAdapterFactory.create())
+      .registerTypeAdapterFactory(GeometryAdapterFactory.create())
+      .create();
+  }
+}
@@ -0,0 +1,225 @@
+package com.mapbox.geojson;
+
+import android.support.annotation.Keep;
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonIOException;
+import com.google.gson.JsonObject;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.Charset;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Pull-style reader which streams the {@link Feature}s of a GeoJson FeatureCollection one at a
+ * time, as soon as each of them is parsed.
+ * <p>
+ * Unlike {@link FeatureCollection#fromJson(String)}, the whole {@code features} array is never held
+ * in memory, which allows processing very large documents in constant memory.
+ * </p><p>
+ * Since {@link Iterator} can't throw checked exceptions, I/O failures while reading are reported
+ * as {@link JsonIOException}s. The reader should be closed once done with, which also closes the
+ * underlying source.
+ * </p>
+ * <pre>
+ * GeoJsonReader reader = GeoJsonReader.fromInputStream(inputStream);
+ * try {
+ *   while (reader.hasNext()) {
+ *     Feature feature = reader.next();
+ *   }
+ * } finally {
+ *   reader.close();
+ * }
+ * </pre>
+ *
+ * @since 4.9.0
+ */
+@Keep
+public final class GeoJsonReader implements Iterator<Feature>, Closeable {
+
+  private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+  private final JsonReader jsonReader;
+  private final TypeAdapter<Feature> featureAdapter;
+  private final TypeAdapter<BoundingBox> boundingBoxAdapter;
+
+  private BoundingBox bbox;
+  private boolean started;
+  private boolean finished;
+
+  /**
+   * Create a new instance of this class which reads a GeoJson FeatureCollection from the given
+   * {@link Reader}.
+   *
+   * @param reader the source of the FeatureCollection JSON
+   * @return a new instance of this class
+   * @since 4.9.0
+   */
+  public static GeoJsonReader fromReader(@NonNull Reader reader) {
+    return new GeoJsonReader(new JsonReader(reader));
+  }
+
+  /**
+   * Create a new instance of this class which reads a UTF-8 encoded GeoJson FeatureCollection
+   * from the given {@link InputStream}.
+   *
+   * @param inputStream the source of the FeatureCollection JSON
+   * @return a new instance of this class
+   * @since 4.9.0
+   */
+  public static GeoJsonReader fromInputStream(@NonNull InputStream inputStream) {
+    return fromReader(new InputStreamReader(inputStream, UTF_8));
+  }
+
+  private GeoJsonReader(JsonReader jsonReader) {
+    Gson gson = GeoJsonGson.getGson();
+    this.jsonReader = jsonReader;
+    this.featureAdapter = gson.getAdapter(Feature.class);
+    this.boundingBoxAdapter = gson.getAdapter(BoundingBox.class);
+  }
+
+  /**
+   * The bounding box of the FeatureCollection. Since the document is streamed, this is only
+   * available once the {@code bbox} member has been read, which is right away when it precedes
+   * the {@code features} member and once all features were read otherwise.
+   *
+   * @return the FeatureCollection bounding box, or null if it hasn't been read (yet)
+   * @since 4.9.0
+   */
+  @Nullable
+  public BoundingBox bbox() {
+    return bbox;
+  }
+
+  /**
+   * Checks whether another {@link Feature} is available.
+   *
+   * @return true if {@link #next()} will return another feature
+   * @throws JsonIOException if reading from the source fails
+   * @since 4.9.0
+   */
+  @Override
+  public boolean hasNext() {
+    try {
+      if (!started) {
+        started = true;
+        finished = !moveToFeatures();
+      }
+      if (finished) {
+        return false;
+      }
+      if (jsonReader.hasNext()) {
+        return true;
+      }
+      finished = true;
+      jsonReader.endArray();
+      readMembers();
+      return false;
+    } catch (IOException exception) {
+      throw new JsonIOException(exception);
+    }
+  }
+
+  /**
+   * Parses and returns the next {@link Feature} of the FeatureCollection.
+   *
+   * @return the next feature
+   * @throws NoSuchElementException if there are no more features
+   * @throws JsonIOException        if reading from the source fails
+   * @since 4.9.0
+   */
+  @Override
+  public Feature next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+    try {
+      Feature feature = featureAdapter.read(jsonReader);
+      if (feature == null || feature.properties() != null) {
+        return feature;
+      }
+      // Same as Feature.fromJson, properties are set to an empty object
+      return new Feature(feature.type(), feature.bbox(), feature.id(), feature.geometry(),
+        new JsonObject());
+    } catch (IOException exception) {
+      throw new JsonIOException(exception);
+    }
+  }
+
+  /**
+   * Not supported, features can't be removed from the source.
+   *
+   * @throws UnsupportedOperationException always
+   * @since 4.9.0
+   */
+  @Override
+  public void remove() {
+    throw new UnsupportedOperationException("remove");
+  }
+
+  /**
+   * Closes this reader along with the underlying source.
+   *
+   * @throws IOException if closing the source fails
+   * @since 4.9.0
+   */
+  @Override
+  public void close() throws IOException {
+    jsonReader.close();
+  }
+
+  /**
+   * Reads the FeatureCollection members up to the start of the features array.
+   *
+   * @return true if positioned inside the features array, false if there are none
+   */
+  private boolean moveToFeatures() throws IOException {
+    jsonReader.beginObject();
+    while (jsonReader.hasNext()) {
+      String name = jsonReader.nextName();
+      if (jsonReader.peek() == JsonToken.NULL) {
+        jsonReader.nextNull();
+        continue;
+      }
+      switch (name) {
+        case "features":
+          jsonReader.beginArray();
+          return true;
+
+        case "bbox":
+          bbox = boundingBoxAdapter.read(jsonReader);
+          break;
+
+        default:
+          jsonReader.skipValue();
+      }
+    }
+    jsonReader.endObject();
+    return false;
+  }
+
+  /**
+   * Reads the FeatureCollection members following the features array.
+   */
+  private void readMembers() throws IOException {
+    while (jsonReader.hasNext()) {
+      String name = jsonReader.nextName();
+      if (jsonReader.peek() != JsonToken.NULL && name.equals("bbox")) {
+        bbox = boundingBoxAdapter.read(jsonReader);
+      } else {
+        jsonReader.skipValue();
+      }
+    }
+    jsonReader.endObject();
+  }
+}
@@ -0,0 +1,182 @@
+package com.mapbox.geojson;
+
+import android.support.annotation.Keep;
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.Charset;
+
+/**
+ * Streaming writer which serializes a GeoJson FeatureCollection one {@link Feature} at a time.
+ * <p>
+ * Unlike {@link FeatureCollection#toJson()}, neither the whole collection nor the resulting JSON
+ * string needs to be held in memory: each feature is written to the underlying {@link Writer} or
+ * {@link OutputStream} as soon as it's passed in. The output is the same as the one produced by
+ * {@link FeatureCollection#toJson()}.
+ * </p><p>
+ * The FeatureCollection is completed by {@link #close()}, which also closes the underlying
+ * destination.
+ * </p>
+ * <pre>
+ * GeoJsonWriter writer = GeoJsonWriter.fromOutputStream(outputStream);
+ * try {
+ *   for (Feature feature : features) {
+ *     writer.write(feature);
+ *   }
+ * } finally {
+ *   writer.close();
+ * }
+ * </pre>
+ *
+ * @since 4.9.0
+ */
+@Keep
+public final class GeoJsonWriter implements Closeable, Flushable {
+
+  private static final String TYPE = "FeatureCollection";
+  private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+  private final JsonWriter jsonWriter;
+  private final TypeAdapter<Feature> featureAdapter;
+  private final TypeAdapter<BoundingBox> boundingBoxAdapter;
+  private final BoundingBox bbox;
+
+  private boolean started;
+  private boolean closed;
+
+  /**
+   * Create a new instance of this class which writes a GeoJson FeatureCollection to the given
+   * {@link Writer}.
+   *
+   * @param writer the destination of the FeatureCollection JSON
+   * @return a new instance of this class
+   * @since 4.9.0
+   */
+  public static GeoJsonWriter fromWriter(@NonNull Writer writer) {
+    return new GeoJsonWriter(writer, null);
+  }
+
+  /**
+   * Create a new instance of this class which writes a GeoJson FeatureCollection, including the
+   * given bounding box, to the given {@link Writer}.
+   *
+   * @param writer the destination of the FeatureCollection JSON
+   * @param bbox   optionally include a bbox definition for the FeatureCollection
+   * @return a new instance of this class
+   * @since 4.9.0
+   */
+  public static GeoJsonWriter fromWriter(@NonNull Writer writer, @Nullable BoundingBox bbox) {
+    return new GeoJsonWriter(writer, bbox);
+  }
+
+  /**
+   * Create a new instance of this class which writes a UTF-8 encoded GeoJson FeatureCollection to
+   * the given {@link OutputStream}. Output is buffered and flushed to the stream as the buffer
+   * fills up.
+   *
+   * @param outputStream the destination of the FeatureCollection JSON
+   * @return a new instance of this class
+   * @since 4.9.0
+   */
+  public static GeoJsonWriter fromOutputStream(@NonNull OutputStream outputStream) {
+    return fromOutputStream(outputStream, null);
+  }
+
+  /**
+   * Create a new instance of this class which writes a UTF-8 encoded GeoJson FeatureCollection,
+   * including the given bounding box, to the given {@link OutputStream}. Output is buffered and
+   * flushed to the stream as the buffer fills up.
+   *
+   * @param outputStream the destination of the FeatureCollection JSON
+   * @param bbox         optionally include a bbox definition for the FeatureCollection
+   * @return a new instance of this class
+   * @since 4.9.0
+   */
+  public static GeoJsonWriter fromOutputStream(@NonNull OutputStream outputStream,
+                                               @Nullable BoundingBox bbox) {
+    return new GeoJsonWriter(
+      new BufferedWriter(new OutputStreamWriter(outputStream, UTF_8)), bbox);
+  }
+
+  private GeoJsonWriter(Writer writer, BoundingBox bbox) {
+    Gson gson = GeoJsonGson.getGson();
+    // Same settings Gson uses when serializing through toJson()
+    this.jsonWriter = new JsonWriter(writer);
+    this.jsonWriter.setHtmlSafe(true);
+    this.jsonWriter.setSerializeNulls(false);
+    this.featureAdapter = gson.getAdapter(Feature.class);
+    this.boundingBoxAdapter = gson.getAdapter(BoundingBox.class);
+    this.bbox = bbox;
+  }
+
+  /**
+   * Writes a single {@link Feature} of the FeatureCollection.
+   *
+   * @param feature the feature to write
+   * @throws IOException if writing to the destination fails
+   * @since 4.9.0
+   */
+  public void write(@NonNull Feature feature) throws IOException {
+    if (closed) {
+      throw new IllegalStateException("GeoJsonWriter is closed.");
+    }
+    begin();
+    featureAdapter.write(jsonWriter, feature);
+  }
+
+  /**
+   * Flushes everything written so far to the underlying destination.
+   *
+   * @throws IOException if flushing the destination fails
+   * @since 4.9.0
+   */
+  @Override
+  public void flush() throws IOException {
+    jsonWriter.flush();
+  }
+
+  /**
+   * Completes the FeatureCollection and closes the underlying destination. Calling this method
+   * more than once has no effect.
+   *
+   * @throws IOException if writing to or closing the destination fails
+   * @since 4.9.0
+   */
+  @Override
+  public void close() throws IOException {
+    if (closed) {
+      return;
+    }
+    begin();
+    closed = true;
+    jsonWriter.endArray();
+    jsonWriter.endObject();
+    jsonWriter.close();
+  }
+
+  private void begin() throws IOException {
+    if (started) {
+      return;
+    }
+    started = true;
+    jsonWriter.beginObject();
+    jsonWriter.name("type").value(TYPE);
+    if (bbox != null) {
+      jsonWriter.name("bbox");
+      boundingBoxAdapter.write(jsonWriter, bbox);
+    }
+    jsonWriter.name("features");
+    jsonWriter.beginArray();
+  }
+}
@@ -2,12 +2,31 @@ package com.mapbox.geojson;
 
 import android.support.annotation.Keep;
 
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.TypeAdapter;
 import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import com.mapbox.geojson.gson.BoundingBoxTypeAdapter;
 
-import com.google.gson.typeadapters.RuntimeTypeAdapterFactory;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
 
 /**
  * A Geometry type adapter factory for convenience for serialization/deserialization.
+ * <p>
+ * Geometries are read in a single pass: the {@code type} member is looked up first and the rest
+ * of the object is handed over to the matching geometry type adapter. Only when {@code type}
+ * follows the {@code coordinates} or {@code geometries} member are those kept as a
+ * {@link JsonElement} until the type is known.
+ * </p>
+ *
  * @since 4.6.0
  */
 @Keep
@@ -26,15 +45,139 @@ public abstract class GeometryAdapterFactory implements TypeAdapterFactory  {
   public static TypeAdapterFactory create() {
 
     if (geometryTypeFactory == null) {
-      geometryTypeFactory = RuntimeTypeAdapterFactory.of(Geometry.class, "type", true)
-        .registerSubtype(GeometryCollection.class, "GeometryCollection")
-        .registerSubtype(Point.class, "Point")
-        .registerSubtype(MultiPoint.class, "MultiPoint")
-        .registerSubtype(LineString.class, "LineString")
-        .registerSubtype(MultiLineString.class, "MultiLineString")
-        .registerSubtype(Polygon.class, "Polygon")
-         .registerSubtype(MultiPolygon.class, "MultiPolygon");
+      geometryTypeFactory = new GeometryAdapterFactoryImpl();
     }
     return geometryTypeFactory;
   }
+
+  /**
+   * GeometryAdapterFactory implementation.
+   */
+  private static final class GeometryAdapterFactoryImpl extends GeometryAdapterFactory {
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+      if (type.getRawType() != Geometry.class) {
+        return null;
+      }
+      return (TypeAdapter<T>) new GeometryTypeAdapter(gson).nullSafe();
+    }
+  }
+
+  /**
+   * Streaming type adapter dispatching to the type adapter of the actual geometry type.
+   */
+  private static final class GeometryTypeAdapter extends TypeAdapter<Geometry> {
+
+    private static final String GEOMETRY_COLLECTION = "GeometryCollection";
+
+    private final Map<String, BaseGeometryTypeAdapter<?, ?>> labelToAdapter =
+      new HashMap<String, BaseGeometryTypeAdapter<?, ?>>();
+    private final Map<Class<?>, TypeAdapter<?>> subtypeToAdapter =
+      new HashMap<Class<?>, TypeAdapter<?>>();
+    private final GeometryCollection.GsonTypeAdapter geometryCollectionAdapter;
+    private final TypeAdapter<BoundingBox> boundingBoxAdapter = new BoundingBoxTypeAdapter();
+    private final TypeAdapter<JsonElement> jsonElementAdapter;
+
+    GeometryTypeAdapter(Gson gson) {
+      register(Point.class, "Point", new Point.GsonTypeAdapter(gson));
+      register(MultiPoint.class, "MultiPoint", new MultiPoint.GsonTypeAdapter(gson));
+      register(LineString.class, "LineString", new LineString.GsonTypeAdapter(gson));
+      register(MultiLineString.class, "MultiLineString", new MultiLineString.GsonTypeAdapter(gson));
+      register(Polygon.class, "Polygon", new Polygon.GsonTypeAdapter(gson));
+      register(MultiPolygon.class, "MultiPolygon", new MultiPolygon.GsonTypeAdapter(gson));
+      geometryCollectionAdapter = new GeometryCollection.GsonTypeAdapter(gson);
+      subtypeToAdapter.put(GeometryCollection.class, geometryCollectionAdapter);
+      jsonElementAdapter = gson.getAdapter(JsonElement.class);
+    }
+
+    private void register(Class<?> subtype, String label, BaseGeometryTypeAdapter<?, ?> adapter) {
+      labelToAdapter.put(label, adapter);
+      subtypeToAdapter.put(subtype, adapter);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void write(JsonWriter jsonWriter, Geometry geometry) throws IOException {
+      TypeAdapter<Geometry> adapter =
+        (TypeAdapter<Geometry>) subtypeToAdapter.get(geometry.getClass());
+      if (adapter == null) {
+        throw new JsonParseException("cannot serialize " + geometry.getClass().getName()
+          + "; did you forget to register a subtype?");
+      }
+      adapter.write(jsonWriter, geometry);
+    }
+
+    @Override
+    public Geometry read(JsonReader jsonReader) throws IOException {
+      jsonReader.beginObject();
+      String type = null;
+      BoundingBox bbox = null;
+      JsonObject buffered = null;
+
+      while (jsonReader.hasNext()) {
+        String name = jsonReader.nextName();
+        if (jsonReader.peek() == JsonToken.NULL) {
+          jsonReader.nextNull();
+          continue;
+        }
+        switch (name) {
+          case "type":
+            type = jsonReader.nextString();
+            if (buffered == null) {
+              // Common case, the type adapter takes over the rest of the object
+              return readMembers(jsonReader, type, bbox);
+            }
+            break;
+
+          case "bbox":
+            bbox = boundingBoxAdapter.read(jsonReader);
+            break;
+
+          case "coordinates":
+          case "geometries":
+            // The type isn't known yet, keep the value around until it is
+            if (buffered == null) {
+              buffered = new JsonObject();
+            }
+            buffered.add(name, jsonElementAdapter.read(jsonReader));
+            break;
+
+          default:
+            jsonReader.skipValue();
+        }
+      }
+      jsonReader.endObject();
+
+      if (type == null) {
+        throw new JsonParseException("cannot deserialize " + Geometry.class
+          + " because it does not define a field named type");
+      }
+      buffered.addProperty("type", type);
+      if (bbox != null) {
+        buffered.add("bbox", boundingBoxAdapter.toJsonTree(bbox));
+      }
+      if (GEOMETRY_COLLECTION.equals(type)) {
+        return geometryCollectionAdapter.fromJsonTree(buffered);
+      }
+      return (Geometry) getAdapter(type).fromJsonTree(buffered);
+    }
+
+    private Geometry readMembers(JsonReader jsonReader, String type, BoundingBox bbox)
+      throws IOException {
+      if (GEOMETRY_COLLECTION.equals(type)) {
+        return geometryCollectionAdapter.readGeometryCollectionMembers(jsonReader, type, bbox);
+      }
+      return getAdapter(type).readCoordinateContainerMembers(jsonReader, type, bbox);
+    }
+
+    private BaseGeometryTypeAdapter<?, ?> getAdapter(String type) {
+      BaseGeometryTypeAdapter<?, ?> adapter = labelToAdapter.get(type);
+      if (adapter == null) {
+        throw new JsonParseException("cannot deserialize " + Geometry.class + " subtype named "
+          + type + "; did you forget to register a subtype?");
+      }
+      return adapter;
+    }
+  }
 }
@@ -5,13 +5,11 @@ import android.support.annotation.NonNull;
 import android.support.annotation.Nullable;
 
 import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
 import com.google.gson.TypeAdapter;
 import com.google.gson.reflect.TypeToken;
 import com.google.gson.stream.JsonReader;
 import com.google.gson.stream.JsonToken;
 import com.google.gson.stream.JsonWriter;
-import com.mapbox.geojson.gson.GeoJsonAdapterFactory;
 
 import java.io.IOException;
 import java.util.Arrays;
@@ -82,10 +80,7 @@ public final class GeometryCollection implements Geometry {
    */
   public static GeometryCollection fromJson(String json) {
 
-    GsonBuilder gson = new GsonBuilder();
-    gson.registerTypeAdapterFactory(GeoJsonAdapterFactory.create());
-    gson.registerTypeAdapterFactory(GeometryAdapterFactory.create());
-    return gson.create().fromJson(json, GeometryCollection.class);
+    return GeoJsonGson.getGson().fromJson(json, GeometryCollection.class);
   }
 
   /**
@@ -216,10 +211,7 @@ public final class GeometryCollection implements Geometry {
    */
   @Override
   public String toJson() {
-    GsonBuilder gson = new GsonBuilder();
-    gson.registerTypeAdapterFactory(GeoJsonAdapterFactory.create());
-    gson.registerTypeAdapterFactory(GeometryAdapterFactory.create());
-    return gson.create().toJson(this);
+    return GeoJsonGson.getGson().toJson(this);
   }
 
   /**
@@ -335,8 +327,16 @@ public final class GeometryCollection implements Geometry {
         return null;
       }
       jsonReader.beginObject();
-      String type = null;
-      BoundingBox bbox = null;
+      return readGeometryCollectionMembers(jsonReader, null, null);
+    }
+
+    /**
+     * Reads the remaining members of a GeometryCollection object whose opening brace, and
+     * possibly type and bounding box, have already been consumed, up to and including its
+     * closing brace.
+     */
+    GeometryCollection readGeometryCollectionMembers(JsonReader jsonReader, String type,
+                                                     BoundingBox bbox) throws IOException {
       List<Geometry> geometries = null;
       while (jsonReader.hasNext()) {
         String name = jsonReader.nextName();
@@ -4,11 +4,9 @@ import android.support.annotation.Keep;
 import android.support.annotation.NonNull;
 import android.support.annotation.Nullable;
 import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
 import com.google.gson.TypeAdapter;
 import com.google.gson.stream.JsonReader;
 import com.google.gson.stream.JsonWriter;
-import com.mapbox.geojson.gson.GeoJsonAdapterFactory;
 import com.mapbox.geojson.utils.PolylineUtils;
 
 import java.io.IOException;
@@ -72,9 +70,7 @@ public final class LineString implements CoordinateContainer<List<Point>> {
    * @since 1.0.0
    */
   public static LineString fromJson(String json) {
-    GsonBuilder gson = new GsonBuilder();
-    gson.registerTypeAdapterFactory(GeoJsonAdapterFactory.create());
-    return gson.create().fromJson(json, LineString.class);
+    return GeoJsonGson.getGson().fromJson(json, LineString.class);
   }
 
   /**
@@ -141,6 +137,44 @@ public final class LineString implements CoordinateContainer<List<Point>> {
     return new LineString(TYPE, bbox, multiPoint.coordinates());
   }
 
+  static LineString fromLngLats(double[][] coordinates) {
+    ArrayList<Point> converted = new ArrayList<>(coordinates.length);
+    for (int i = 0; i < coordinates.length; i++) {
+      converted.add(Point.fromLngLat(coordinates[i]));
+    }
+    return LineString.fromLngLats(converted);
+  }
+
+  /**
+   * Create a new instance of this class backed by a packed {@link CoordinateSequence}. Unlike the
+   * factory methods taking a list of {@link Point}s, no point object is retained per position;
+   * {@link #coordinates()} returns a read-only view over the sequence instead.
+   *
+   * @param coordinates a sequence of positions which make up the LineString geometry
+   * @return a new instance of this class defined by the values passed inside this static factory
+   *   method
+   * @since 4.9.0
+   */
+  public static LineString fromCoordinateSequence(@NonNull CoordinateSequence coordinates) {
+    return new LineString(TYPE, null, coordinates.points());
+  }
+
+  /**
+   * Create a new instance of this class backed by a packed {@link CoordinateSequence}. Unlike the
+   * factory methods taking a list of {@link Point}s, no point object is retained per position;
+   * {@link #coordinates()} returns a read-only view over the sequence instead.
+   *
+   * @param coordinates a sequence of positions which make up the LineString geometry
+   * @param bbox        optionally include a bbox definition as a double array
+   * @return a new instance of this class defined by the values passed inside this static factory
+   *   method
+   * @since 4.9.0
+   */
+  public static LineString fromCoordinateSequence(@NonNull CoordinateSequence coordinates,
+                                                  @Nullable BoundingBox bbox) {
+    return new LineString(TYPE, bbox, coordinates.points());
+  }
+
   LineString(String type, @Nullable BoundingBox bbox, List<Point> coordinates) {
     if (type == null) {
       throw new NullPointerException("Null type");
@@ -153,14 +187,6 @@ public final class LineString implements CoordinateContainer<List<Point>> {
     this.coordinates = coordinates;
   }
 
-  static LineString fromLngLats(double[][] coordinates) {
-    ArrayList<Point> converted = new ArrayList<>(coordinates.length);
-    for (int i = 0; i < coordinates.length; i++) {
-      converted.add(Point.fromLngLat(coordinates[i]));
-    }
-    return LineString.fromLngLats(converted);
-  }
-
   /**
    * Create a new instance of this class by convert a polyline string into a lineString. This is
    * handy when an API provides you with an encoded string representing the line geometry and you'd
@@ -221,6 +247,19 @@ public final class LineString implements CoordinateContainer<List<Point>> {
     return coordinates;
   }
 
+  /**
+   * Provides the positions that make up the LineString geometry as a packed
+   * {@link CoordinateSequence}. If this LineString was built from a sequence, that same sequence is
+   * returned, otherwise the points get packed into a new one.
+   *
+   * @return a packed sequence of the positions
+   * @since 4.9.0
+   */
+  @NonNull
+  public CoordinateSequence coordinateSequence() {
+    return CoordinateSequence.fromPoints(coordinates);
+  }
+
   /**
    * This takes the currently defined values found inside this instance and converts it to a GeoJson
    * string.
@@ -230,9 +269,7 @@ public final class LineString implements CoordinateContainer<List<Point>> {
    */
   @Override
   public String toJson() {
-    GsonBuilder gson = new GsonBuilder();
-    gson.registerTypeAdapterFactory(GeoJsonAdapterFactory.create());
-    return gson.create().toJson(this);
+    return GeoJsonGson.getGson().toJson(this);
   }
 
   /**
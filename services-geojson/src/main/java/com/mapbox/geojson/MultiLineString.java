@@ -4,11 +4,9 @@ import android.support.annotation.Keep;
 import android.support.annotation.NonNull;
 import android.support.annotation.Nullable;
 import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
 import com.google.gson.TypeAdapter;
 import com.google.gson.stream.JsonReader;
 import com.google.gson.stream.JsonWriter;
-import com.mapbox.geojson.gson.GeoJsonAdapterFactory;
 
 import java.io.IOException;
 import java.util.ArrayList;
@@ -72,9 +70,7 @@ public final class MultiLineString
    * @since 1.0.0
    */
   public static MultiLineString fromJson(@NonNull String json) {
-    GsonBuilder gson = new GsonBuilder();
-    gson.registerTypeAdapterFactory(GeoJsonAdapterFactory.create());
-    return gson.create().fromJson(json, MultiLineString.class);
+    return GeoJsonGson.getGson().fromJson(json, MultiLineString.class);
   }
 
   /**
@@ -191,6 +187,39 @@ public final class MultiLineString
     return new MultiLineString(TYPE, null, multiLine);
   }
 
+  /**
+   * Create a new instance of this class backed by a list of packed {@link CoordinateSequence}s,
+   * one per line. Unlike the factory methods taking lists of {@link Point}s, no point object is
+   * retained per position; {@link #coordinates()} returns read-only views over the sequences
+   * instead.
+   *
+   * @param coordinates a list of sequences, each one making up a line of the MultiLineString
+   * @return a new instance of this class defined by the values passed inside this static factory
+   *   method
+   * @since 4.9.0
+   */
+  public static MultiLineString fromCoordinateSequences(
+    @NonNull List<CoordinateSequence> coordinates) {
+    return new MultiLineString(TYPE, null, CoordinateSequence.toPointLists(coordinates));
+  }
+
+  /**
+   * Create a new instance of this class backed by a list of packed {@link CoordinateSequence}s,
+   * one per line. Unlike the factory methods taking lists of {@link Point}s, no point object is
+   * retained per position; {@link #coordinates()} returns read-only views over the sequences
+   * instead.
+   *
+   * @param coordinates a list of sequences, each one making up a line of the MultiLineString
+   * @param bbox        optionally include a bbox definition
+   * @return a new instance of this class defined by the values passed inside this static factory
+   *   method
+   * @since 4.9.0
+   */
+  public static MultiLineString fromCoordinateSequences(
+    @NonNull List<CoordinateSequence> coordinates, @Nullable BoundingBox bbox) {
+    return new MultiLineString(TYPE, bbox, CoordinateSequence.toPointLists(coordinates));
+  }
+
   MultiLineString(String type, @Nullable BoundingBox bbox, List<List<Point>> coordinates) {
     if (type == null) {
       throw new NullPointerException("Null type");
@@ -245,6 +274,19 @@ public final class MultiLineString
     return coordinates;
   }
 
+  /**
+   * Provides the lines that make up the MultiLineString geometry as packed
+   * {@link CoordinateSequence}s. Lines which were built from a sequence return that same sequence,
+   * the others get packed into a new one.
+   *
+   * @return a list of packed sequences, one per line
+   * @since 4.9.0
+   */
+  @NonNull
+  public List<CoordinateSequence> coordinateSequences() {
+    return CoordinateSequence.fromPointLists(coordinates);
+  }
+
   /**
    * Returns a list of LineStrings which are currently making up this MultiLineString.
    *
@@ -269,9 +311,7 @@ public final class MultiLineString
    */
   @Override
   public String toJson() {
-    GsonBuilder gson = new GsonBuilder();
-    gson.registerTypeAdapterFactory(GeoJsonAdapterFactory.create());
-    return gson.create().toJson(this);
+    return GeoJsonGson.getGson().toJson(this);
   }
 
   /**
@@ -4,11 +4,9 @@ import android.support.annotation.Keep;
 import android.support.annotation.NonNull;
 import android.support.annotation.Nullable;
 import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
 import com.google.gson.TypeAdapter;
 import com.google.gson.stream.JsonReader;
 import com.google.gson.stream.JsonWriter;
-import com.mapbox.geojson.gson.GeoJsonAdapterFactory;
 
 import java.io.IOException;
 import java.util.ArrayList;
@@ -57,9 +55,7 @@ public final class MultiPoint implements CoordinateContainer<List<Point>> {
    * @since 1.0.0
    */
   public static MultiPoint fromJson(@NonNull String json) {
-    GsonBuilder gson = new GsonBuilder();
-    gson.registerTypeAdapterFactory(GeoJsonAdapterFactory.create());
-    return gson.create().fromJson(json, MultiPoint.class);
+    return GeoJsonGson.getGson().fromJson(json, MultiPoint.class);
   }
 
   /**
@@ -102,6 +98,36 @@ public final class MultiPoint implements CoordinateContainer<List<Point>> {
     return new MultiPoint(TYPE, null, converted);
   }
 
+  /**
+   * Create a new instance of this class backed by a packed {@link CoordinateSequence}. Unlike the
+   * factory methods taking a list of {@link Point}s, no point object is retained per position;
+   * {@link #coordinates()} returns a read-only view over the sequence instead.
+   *
+   * @param coordinates a sequence of positions which make up the MultiPoint geometry
+   * @return a new instance of this class defined by the values passed inside this static factory
+   *   method
+   * @since 4.9.0
+   */
+  public static MultiPoint fromCoordinateSequence(@NonNull CoordinateSequence coordinates) {
+    return new MultiPoint(TYPE, null, coordinates.points());
+  }
+
+  /**
+   * Create a new instance of this class backed by a packed {@link CoordinateSequence}. Unlike the
+   * factory methods taking a list of {@link Point}s, no point object is retained per position;
+   * {@link #coordinates()} returns a read-only view over the sequence instead.
+   *
+   * @param coordinates a sequence of positions which make up the MultiPoint geometry
+   * @param bbox        optionally include a bbox definition as a double array
+   * @return a new instance of this class defined by the values passed inside this static factory
+   *   method
+   * @since 4.9.0
+   */
+  public static MultiPoint fromCoordinateSequence(@NonNull CoordinateSequence coordinates,
+                                                  @Nullable BoundingBox bbox) {
+    return new MultiPoint(TYPE, bbox, coordinates.points());
+  }
+
   MultiPoint(String type, @Nullable BoundingBox bbox, List<Point> coordinates) {
     if (type == null) {
       throw new NullPointerException("Null type");
@@ -156,6 +182,19 @@ public final class MultiPoint implements CoordinateContainer<List<Point>> {
     return coordinates;
   }
 
+  /**
+   * Provides the positions that make up the MultiPoint geometry as a packed
+   * {@link CoordinateSequence}. If this MultiPoint was built from a sequence, that same sequence is
+   * returned, otherwise the points get packed into a new one.
+   *
+   * @return a packed sequence of the positions
+   * @since 4.9.0
+   */
+  @NonNull
+  public CoordinateSequence coordinateSequence() {
+    return CoordinateSequence.fromPoints(coordinates);
+  }
+
   /**
    * This takes the currently defined values found inside this instance and converts it to a GeoJson
    * string.
@@ -165,9 +204,7 @@ public final class MultiPoint implements CoordinateContainer<List<Point>> {
    */
   @Override
   public String toJson() {
-    GsonBuilder gson = new GsonBuilder();
-    gson.registerTypeAdapterFactory(GeoJsonAdapterFactory.create());
-    return gson.create().toJson(this);
+    return GeoJsonGson.getGson().toJson(this);
   }
 
   /**
@@ -4,11 +4,9 @@ import android.support.annotation.Keep;
 import android.support.annotation.NonNull;
 import android.support.annotation.Nullable;
 import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
 import com.google.gson.TypeAdapter;
 import com.google.gson.stream.JsonReader;
 import com.google.gson.stream.JsonWriter;
-import com.mapbox.geojson.gson.GeoJsonAdapterFactory;
 
 import java.io.IOException;
 import java.util.ArrayList;
@@ -90,9 +88,7 @@ public final class MultiPolygon
    * @since 1.0.0
    */
   public static MultiPolygon fromJson(String json) {
-    GsonBuilder gson = new GsonBuilder();
-    gson.registerTypeAdapterFactory(GeoJsonAdapterFactory.create());
-    return gson.create().fromJson(json, MultiPolygon.class);
+    return GeoJsonGson.getGson().fromJson(json, MultiPolygon.class);
   }
 
   /**
@@ -288,9 +284,7 @@ public final class MultiPolygon
    */
   @Override
   public String toJson() {
-    GsonBuilder gson = new GsonBuilder();
-    gson.registerTypeAdapterFactory(GeoJsonAdapterFactory.create());
-    return gson.create().toJson(this);
+    return GeoJsonGson.getGson().toJson(this);
   }
 
   /**
@@ -10,15 +10,18 @@ import android.support.annotation.Keep;
 import android.support.annotation.NonNull;
 import android.support.annotation.Nullable;
 import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
 import com.google.gson.TypeAdapter;
+import com.google.gson.annotations.JsonAdapter;
 import com.google.gson.stream.JsonReader;
 import com.google.gson.stream.JsonWriter;
+import com.mapbox.geojson.exception.GeoJsonException;
 import com.mapbox.geojson.gson.GeoJsonAdapterFactory;
 import com.mapbox.geojson.shifter.CoordinateShifterManager;
 
 import java.io.IOException;
+import java.util.AbstractList;
 import java.util.List;
+import java.util.RandomAccess;
 
 /**
  * A point represents a single geographic position and is one of the seven Geometries found in the
@@ -41,6 +44,10 @@ import java.util.List;
  * geoid, with the height varying by up to 5 m (but generally between 2 and 3 meters) higher or
  * lower relative to a surface parallel to Earth's mean sea level.
  * <p>
+ * The position is kept as primitive double values rather than a list of boxed doubles, which keeps
+ * the memory footprint of large point collections small. {@link #coordinates()} is still available
+ * and is materialised lazily as a read-only list view over those values.
+ * <p>
  * A sample GeoJson Point's provided below (in its serialized state).
  * <pre>
  * {
@@ -52,6 +59,7 @@ import java.util.List;
  * @since 1.0.0
  */
 @Keep
+@JsonAdapter(GeoJsonAdapterFactory.GeoJsonAdapterFactoryIml.class)
 public final class Point implements CoordinateContainer<List<Double>> {
 
   private static final String TYPE = "Point";
@@ -62,8 +70,15 @@ public final class Point implements CoordinateContainer<List<Double>> {
   @Nullable
   private final BoundingBox bbox;
 
-  @NonNull
-  private final List<Double> coordinates;
+  private final double longitude;
+
+  private final double latitude;
+
+  private final double altitude;
+
+  // Only set for the rare coordinates holding more values than an altitude, to return them as is
+  @Nullable
+  private final List<Double> extendedCoordinates;
 
   /**
    * Create a new instance of this class by passing in a formatted valid JSON String. If you are
@@ -79,9 +94,7 @@ public final class Point implements CoordinateContainer<List<Double>> {
    * @since 1.0.0
    */
   public static Point fromJson(@NonNull String json) {
-    GsonBuilder gson = new GsonBuilder();
-    gson.registerTypeAdapterFactory(GeoJsonAdapterFactory.create());
-    return gson.create().fromJson(json, Point.class);
+    return GeoJsonGson.getGson().fromJson(json, Point.class);
   }
 
   /**
@@ -101,6 +114,9 @@ public final class Point implements CoordinateContainer<List<Double>> {
     @FloatRange(from = MIN_LONGITUDE, to = MAX_LONGITUDE) double longitude,
     @FloatRange(from = MIN_LATITUDE, to = MAX_LATITUDE) double latitude) {
 
+    if (CoordinateShifterManager.isUsingDefaultShifter()) {
+      return new Point(TYPE, null, longitude, latitude, Double.NaN);
+    }
     List<Double> coordinates =
       CoordinateShifterManager.getCoordinateShifter().shiftLonLat(longitude, latitude);
     return new Point(TYPE, null, coordinates);
@@ -126,6 +142,9 @@ public final class Point implements CoordinateContainer<List<Double>> {
     @FloatRange(from = MIN_LATITUDE, to = MAX_LATITUDE) double latitude,
     @Nullable BoundingBox bbox) {
 
+    if (CoordinateShifterManager.isUsingDefaultShifter()) {
+      return new Point(TYPE, bbox, longitude, latitude, Double.NaN);
+    }
     List<Double> coordinates =
       CoordinateShifterManager.getCoordinateShifter().shiftLonLat(longitude, latitude);
     return new Point(TYPE, bbox, coordinates);
@@ -152,9 +171,11 @@ public final class Point implements CoordinateContainer<List<Double>> {
     @FloatRange(from = MIN_LATITUDE, to = MAX_LATITUDE) double latitude,
     double altitude) {
 
+    if (CoordinateShifterManager.isUsingDefaultShifter()) {
+      return new Point(TYPE, null, longitude, latitude, altitude);
+    }
     List<Double> coordinates =
       CoordinateShifterManager.getCoordinateShifter().shiftLonLatAlt(longitude, latitude, altitude);
-
     return new Point(TYPE, null, coordinates);
   }
 
@@ -180,6 +201,9 @@ public final class Point implements CoordinateContainer<List<Double>> {
     @FloatRange(from = MIN_LATITUDE, to = MAX_LATITUDE) double latitude,
     double altitude, @Nullable BoundingBox bbox) {
 
+    if (CoordinateShifterManager.isUsingDefaultShifter()) {
+      return new Point(TYPE, bbox, longitude, latitude, altitude);
+    }
     List<Double> coordinates =
       CoordinateShifterManager.getCoordinateShifter().shiftLonLatAlt(longitude, latitude, altitude);
     return new Point(TYPE, bbox, coordinates);
@@ -204,7 +228,30 @@ public final class Point implements CoordinateContainer<List<Double>> {
     if (coordinates == null || coordinates.size() == 0) {
       throw new NullPointerException("Null coordinates");
     }
-    this.coordinates = coordinates;
+    if (coordinates.size() < 2) {
+      throw new GeoJsonException("Point coordinates need at least a longitude and a latitude.");
+    }
+    this.longitude = coordinates.get(0);
+    this.latitude = coordinates.get(1);
+    this.altitude = coordinates.size() > 2 ? coordinates.get(2) : Double.NaN;
+    this.extendedCoordinates = coordinates.size() > 3 ? coordinates : null;
+  }
+
+  /**
+   * Creates a point directly from its already shifted primitive values, skipping the intermediate
+   * list. Pass {@link Double#NaN} as the altitude when there isn't one.
+   */
+  Point(String type, @Nullable BoundingBox bbox, double longitude, double latitude,
+        double altitude) {
+    if (type == null) {
+      throw new NullPointerException("Null type");
+    }
+    this.type = type;
+    this.bbox = bbox;
+    this.longitude = longitude;
+    this.latitude = latitude;
+    this.altitude = altitude;
+    this.extendedCoordinates = null;
   }
 
   /**
@@ -217,7 +264,7 @@ public final class Point implements CoordinateContainer<List<Double>> {
    * @since 3.0.0
    */
   public double longitude() {
-    return coordinates().get(0);
+    return longitude;
   }
 
   /**
@@ -230,7 +277,7 @@ public final class Point implements CoordinateContainer<List<Double>> {
    * @since 3.0.0
    */
   public double latitude() {
-    return coordinates().get(1);
+    return latitude;
   }
 
   /**
@@ -243,10 +290,7 @@ public final class Point implements CoordinateContainer<List<Double>> {
    * @since 3.0.0
    */
   public double altitude() {
-    if (coordinates().size() < 3) {
-      return Double.NaN;
-    }
-    return coordinates().get(2);
+    return altitude;
   }
 
   /**
@@ -294,7 +338,10 @@ public final class Point implements CoordinateContainer<List<Double>> {
   /**
    * Provide a single double array containing the longitude, latitude, and optionally an
    * altitude/elevation. {@link #longitude()}, {@link #latitude()}, and {@link #altitude()} are all
-   * avaliable which make getting specific coordinates more direct.
+   * avaliable which make getting specific coordinates more direct and don't box the values.
+   * <p>
+   * The returned list is a read-only view backed by this point.
+   * </p>
    *
    * @return a double array which holds this points coordinates
    * @since 3.0.0
@@ -302,7 +349,10 @@ public final class Point implements CoordinateContainer<List<Double>> {
   @NonNull
   @Override
   public List<Double> coordinates()  {
-    return coordinates;
+    if (extendedCoordinates != null) {
+      return extendedCoordinates;
+    }
+    return new CoordinatesView(this);
   }
 
   /**
@@ -314,9 +364,7 @@ public final class Point implements CoordinateContainer<List<Double>> {
    */
   @Override
   public String toJson() {
-    GsonBuilder gson = new GsonBuilder();
-    gson.registerTypeAdapterFactory(GeoJsonAdapterFactory.create());
-    return gson.create().toJson(this);
+    return GeoJsonGson.getGson().toJson(this);
   }
 
   /**
@@ -335,7 +383,7 @@ public final class Point implements CoordinateContainer<List<Double>> {
     return "Point{"
             + "type=" + type + ", "
             + "bbox=" + bbox + ", "
-            + "coordinates=" + coordinates
+            + "coordinates=" + coordinates()
             + "}";
   }
 
@@ -348,7 +396,14 @@ public final class Point implements CoordinateContainer<List<Double>> {
       Point that = (Point) obj;
       return (this.type.equals(that.type()))
               && ((this.bbox == null) ? (that.bbox() == null) : this.bbox.equals(that.bbox()))
-              && (this.coordinates.equals(that.coordinates()));
+              && (Double.doubleToLongBits(this.longitude)
+                    == Double.doubleToLongBits(that.longitude))
+              && (Double.doubleToLongBits(this.latitude)
+                    == Double.doubleToLongBits(that.latitude))
+              && (Double.doubleToLongBits(this.altitude)
+                    == Double.doubleToLongBits(that.altitude))
+              && ((this.extendedCoordinates == null) ? (that.extendedCoordinates == null)
+                    : this.extendedCoordinates.equals(that.extendedCoordinates));
     }
     return false;
   }
@@ -361,10 +416,66 @@ public final class Point implements CoordinateContainer<List<Double>> {
     hashCode *= 1000003;
     hashCode ^= (bbox == null) ? 0 : bbox.hashCode();
     hashCode *= 1000003;
-    hashCode ^= coordinates.hashCode();
+    hashCode ^= coordinatesHashCode();
     return hashCode;
   }
 
+  /**
+   * The hash code {@link #coordinates()} would return, computed without boxing the values.
+   */
+  private int coordinatesHashCode() {
+    if (extendedCoordinates != null) {
+      return extendedCoordinates.hashCode();
+    }
+    int hashCode = 31 + doubleHashCode(longitude);
+    hashCode = 31 * hashCode + doubleHashCode(latitude);
+    if (hasAltitude()) {
+      hashCode = 31 * hashCode + doubleHashCode(altitude);
+    }
+    return hashCode;
+  }
+
+  // Same as Double.hashCode(double), which isn't available on Java 7
+  private static int doubleHashCode(double value) {
+    long bits = Double.doubleToLongBits(value);
+    return (int) (bits ^ (bits >>> 32));
+  }
+
+  /**
+   * Read-only list view over the primitive coordinate values of a {@link Point}.
+   */
+  private static final class CoordinatesView extends AbstractList<Double>
+    implements RandomAccess {
+
+    private final Point point;
+
+    CoordinatesView(Point point) {
+      this.point = point;
+    }
+
+    @Override
+    public Double get(int index) {
+      switch (index) {
+        case 0:
+          return point.longitude;
+        case 1:
+          return point.latitude;
+        case 2:
+          if (point.hasAltitude()) {
+            return point.altitude;
+          }
+          // fall through
+        default:
+          throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+      }
+    }
+
+    @Override
+    public int size() {
+      return point.hasAltitude() ? 3 : 2;
+    }
+  }
+
   /**
    * TypeAdapter for Point geometry.
    *
@@ -6,12 +6,10 @@ import android.support.annotation.Nullable;
 import android.support.annotation.Size;
 
 import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
 import com.google.gson.TypeAdapter;
 import com.google.gson.stream.JsonReader;
 import com.google.gson.stream.JsonWriter;
 import com.mapbox.geojson.exception.GeoJsonException;
-import com.mapbox.geojson.gson.GeoJsonAdapterFactory;
 
 import java.io.IOException;
 import java.util.ArrayList;
@@ -79,9 +77,7 @@ public final class Polygon implements CoordinateContainer<List<List<Point>>> {
    * @since 1.0.0
    */
   public static Polygon fromJson(@NonNull String json) {
-    GsonBuilder gson = new GsonBuilder();
-    gson.registerTypeAdapterFactory(GeoJsonAdapterFactory.create());
-    return gson.create().fromJson(json, Polygon.class);
+    return GeoJsonGson.getGson().fromJson(json, Polygon.class);
   }
 
   /**
@@ -135,6 +131,40 @@ public final class Polygon implements CoordinateContainer<List<List<Point>>> {
     return new Polygon(TYPE, null, converted);
   }
 
+  /**
+   * Create a new instance of this class backed by a list of packed {@link CoordinateSequence}s,
+   * the first one being the outer ring and the others the holes. Unlike the factory methods taking
+   * lists of {@link Point}s, no point object is retained per position; {@link #coordinates()}
+   * returns read-only views over the sequences instead. Each sequence should follow the linear
+   * ring rules, else a {@link GeoJsonException} is thrown.
+   *
+   * @param coordinates a list of sequences, each one making up a ring of the polygon
+   * @return a new instance of this class defined by the values passed inside this static factory
+   *   method
+   * @since 4.9.0
+   */
+  public static Polygon fromCoordinateSequences(@NonNull List<CoordinateSequence> coordinates) {
+    return new Polygon(TYPE, null, toRings(coordinates));
+  }
+
+  /**
+   * Create a new instance of this class backed by a list of packed {@link CoordinateSequence}s,
+   * the first one being the outer ring and the others the holes. Unlike the factory methods taking
+   * lists of {@link Point}s, no point object is retained per position; {@link #coordinates()}
+   * returns read-only views over the sequences instead. Each sequence should follow the linear
+   * ring rules, else a {@link GeoJsonException} is thrown.
+   *
+   * @param coordinates a list of sequences, each one making up a ring of the polygon
+   * @param bbox        optionally include a bbox definition as a double array
+   * @return a new instance of this class defined by the values passed inside this static factory
+   *   method
+   * @since 4.9.0
+   */
+  public static Polygon fromCoordinateSequences(@NonNull List<CoordinateSequence> coordinates,
+                                                @Nullable BoundingBox bbox) {
+    return new Polygon(TYPE, bbox, toRings(coordinates));
+  }
+
   /**
    * Create a new instance of this class by passing in an outer {@link LineString} and optionally
    * one or more inner LineStrings. Each of these LineStrings should follow the linear ring rules.
@@ -301,6 +331,19 @@ public final class Polygon implements CoordinateContainer<List<List<Point>>> {
     return inner;
   }
 
+  /**
+   * Provides the rings that make up the Polygon geometry as packed {@link CoordinateSequence}s.
+   * Rings which were built from a sequence return that same sequence, the others get packed into
+   * a new one.
+   *
+   * @return a list of packed sequences, one per ring
+   * @since 4.9.0
+   */
+  @NonNull
+  public List<CoordinateSequence> coordinateSequences() {
+    return CoordinateSequence.fromPointLists(coordinates);
+  }
+
   /**
    * This describes the TYPE of GeoJson geometry this object is, thus this will always return
    * {@link Polygon}.
@@ -354,9 +397,7 @@ public final class Polygon implements CoordinateContainer<List<List<Point>>> {
    */
   @Override
   public String toJson() {
-    GsonBuilder gson = new GsonBuilder();
-    gson.registerTypeAdapterFactory(GeoJsonAdapterFactory.create());
-    return gson.create().toJson(this);
+    return GeoJsonGson.getGson().toJson(this);
   }
 
   /**
@@ -370,6 +411,13 @@ public final class Polygon implements CoordinateContainer<List<List<Point>>> {
     return new Polygon.GsonTypeAdapter(gson);
   }
 
+  private static List<List<Point>> toRings(List<CoordinateSequence> sequences) {
+    for (CoordinateSequence sequence : sequences) {
+      isLinearRing(LineString.fromCoordinateSequence(sequence));
+    }
+    return CoordinateSequence.toPointLists(sequences);
+  }
+
   /**
    * Checks to ensure that the LineStrings defining the polygon correctly and adhering to the linear
    * ring rules.
@@ -37,12 +37,43 @@ public abstract class GeoJsonAdapterFactory implements TypeAdapterFactory {
     return new GeoJsonAdapterFactoryIml();
   }
 
+  /**
+   * Create a new instance of this GeoJson type adapter factory, this is passed into the Gson
+   * Builder. Optionally, {@link Feature} properties can be kept as raw JSON when read and only be
+   * parsed the first time one of them is accessed, which is worth it when reading many features
+   * whose properties are mostly left untouched.
+   *
+   * @param lazyFeatureProperties true to defer parsing Feature properties until first accessed
+   * @return a new GSON TypeAdapterFactory
+   * @see Feature#typeAdapter(Gson, boolean)
+   * @since 4.9.0
+   */
+  public static TypeAdapterFactory create(boolean lazyFeatureProperties) {
+    return new GeoJsonAdapterFactoryIml(lazyFeatureProperties);
+  }
+
   /**
    * GeoJsonAdapterFactory implementation.
    *
    * @since 3.0.0
    */
   public static final class GeoJsonAdapterFactoryIml extends GeoJsonAdapterFactory {
+
+    private final boolean lazyFeatureProperties;
+
+    /**
+     * Creates a factory reading Feature properties right away.
+     *
+     * @since 3.0.0
+     */
+    public GeoJsonAdapterFactoryIml() {
+      this(false);
+    }
+
+    GeoJsonAdapterFactoryIml(boolean lazyFeatureProperties) {
+      this.lazyFeatureProperties = lazyFeatureProperties;
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
@@ -50,7 +81,7 @@ public abstract class GeoJsonAdapterFactory implements TypeAdapterFactory {
       if (BoundingBox.class.isAssignableFrom(rawType)) {
         return (TypeAdapter<T>) BoundingBox.typeAdapter(gson);
       } else if (Feature.class.isAssignableFrom(rawType)) {
-        return (TypeAdapter<T>) Feature.typeAdapter(gson);
+        return (TypeAdapter<T>) Feature.typeAdapter(gson, lazyFeatureProperties);
       } else if (FeatureCollection.class.isAssignableFrom(rawType)) {
         return (TypeAdapter<T>) FeatureCollection.typeAdapter(gson);
       } else if (GeometryCollection.class.isAssignableFrom(rawType)) {
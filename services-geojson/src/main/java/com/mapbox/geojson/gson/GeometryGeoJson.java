@@ -3,9 +3,8 @@ package com.mapbox.geojson.gson;
 import android.support.annotation.Keep;
 import android.support.annotation.NonNull;
 
-import com.google.gson.GsonBuilder;
+import com.mapbox.geojson.GeoJsonGson;
 import com.mapbox.geojson.Geometry;
-import com.mapbox.geojson.GeometryAdapterFactory;
 
 /**
  * This is a utility class that helps create a Geometry instance from a JSON string.
@@ -24,10 +23,6 @@ public class GeometryGeoJson {
    */
   public static Geometry fromJson(@NonNull String json) {
 
-    GsonBuilder gson = new GsonBuilder();
-    gson.registerTypeAdapterFactory(GeoJsonAdapterFactory.create());
-    gson.registerTypeAdapterFactory(GeometryAdapterFactory.create());
-
-    return gson.create().fromJson(json, Geometry.class);
+    return GeoJsonGson.getGson().fromJson(json, Geometry.class);
   }
 }
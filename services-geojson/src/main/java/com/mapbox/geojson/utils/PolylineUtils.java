@@ -1,9 +1,13 @@
 package com.mapbox.geojson.utils;
 
 import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+import com.mapbox.geojson.CoordinateSequence;
 import com.mapbox.geojson.Point;
 
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 /**
@@ -37,23 +41,67 @@ public final class PolylineUtils {
    */
   @NonNull
   public static List<Point> decode(@NonNull final String encodedPath, int precision) {
-    int len = encodedPath.length();
+    CoordinateSequence sequence = decodeToSequence(encodedPath, 0, encodedPath.length(), precision);
+
+    // The final length is known upfront, so the list never needs to grow
+    final List<Point> path = new ArrayList<>(sequence.size());
+    for (int i = 0; i < sequence.size(); i++) {
+      path.add(sequence.point(i));
+    }
+    return path;
+  }
+
+  /**
+   * Decodes the encoded path found between {@code start} and {@code end} inside a larger character
+   * sequence into a caller supplied array, which can be reused from one call to the next. The
+   * longitude and latitude of each position are written one after the other, in that respective
+   * order, starting at {@code offset}. Unlike the other decoding methods, the values are written
+   * as decoded, they aren't passed through the current coordinate shifter.
+   * <p>
+   * The array needs room for {@link #positionCount(CharSequence, int, int)} times two values,
+   * any array holding at least {@code end - start} values past the offset is always large enough.
+   * </p>
+   *
+   * @param encodedPath a CharSequence containing an encoded path string
+   * @param start       the index of the first character of the encoded path
+   * @param end         the index following the last character of the encoded path
+   * @param precision   OSRMv4 uses 6, OSRMv5 and Google uses 5
+   * @param coordinates the array receiving the interleaved longitude and latitude values
+   * @param offset      the index inside the array of the first value to write
+   * @return the number of decoded positions
+   * @throws IndexOutOfBoundsException if the range is outside of the character sequence or the
+   *                                   array isn't large enough
+   * @throws IllegalArgumentException  if the encoded path is truncated
+   * @since 4.9.0
+   */
+  public static int decode(@NonNull CharSequence encodedPath, int start, int end, int precision,
+                           @NonNull double[] coordinates, int offset) {
+    if (start < 0 || end > encodedPath.length() || start > end) {
+      throw new IndexOutOfBoundsException(
+        "start " + start + ", end " + end + ", length " + encodedPath.length());
+    }
+    // Every position takes at least two characters, only count them when that doesn't fit
+    if (offset < 0 || (coordinates.length - offset < end - start
+      && coordinates.length - offset < positionCount(encodedPath, start, end) * 2)) {
+      throw new IndexOutOfBoundsException("Not enough room in the coordinates array");
+    }
 
     // OSRM uses precision=6, the default Polyline spec divides by 1E5, capping at precision=5
     double factor = Math.pow(10, precision);
 
-    // For speed we preallocate to an upper bound on the final length, then
-    // truncate the array before returning.
-    final List<Point> path = new ArrayList<>();
-    int index = 0;
+    int index = start;
+    int position = offset;
     int lat = 0;
     int lng = 0;
 
-    while (index < len) {
+    while (index < end) {
       int result = 1;
       int shift = 0;
       int temp;
       do {
+        if (index == end) {
+          throw truncated(start, end);
+        }
         temp = encodedPath.charAt(index++) - 63 - 1;
         result += temp << shift;
         shift += 5;
@@ -64,6 +112,9 @@ public final class PolylineUtils {
       result = 1;
       shift = 0;
       do {
+        if (index == end) {
+          throw truncated(start, end);
+        }
         temp = encodedPath.charAt(index++) - 63 - 1;
         result += temp << shift;
         shift += 5;
@@ -71,10 +122,73 @@ public final class PolylineUtils {
       while (temp >= 0x1f);
       lng += (result & 1) != 0 ? ~(result >> 1) : (result >> 1);
 
-      path.add(Point.fromLngLat(lng / factor, lat / factor));
+      coordinates[position++] = lng / factor;
+      coordinates[position++] = lat / factor;
     }
 
-    return path;
+    return (position - offset) / 2;
+  }
+
+  /**
+   * Decodes an encoded path string into a packed {@link CoordinateSequence}, without creating a
+   * {@link Point} per position.
+   *
+   * @param encodedPath a CharSequence representing an encoded path string
+   * @param precision   OSRMv4 uses 6, OSRMv5 and Google uses 5
+   * @return a two dimensional sequence of the positions making up the line
+   * @since 4.9.0
+   */
+  @NonNull
+  public static CoordinateSequence decodeToSequence(@NonNull CharSequence encodedPath,
+                                                    int precision) {
+    return decodeToSequence(encodedPath, 0, encodedPath.length(), precision);
+  }
+
+  /**
+   * Decodes the encoded path found between {@code start} and {@code end} inside a larger character
+   * sequence into a packed {@link CoordinateSequence}. This allows decoding a path embedded in
+   * another string, such as a JSON response, without copying it out first.
+   *
+   * @param encodedPath a CharSequence containing an encoded path string
+   * @param start       the index of the first character of the encoded path
+   * @param end         the index following the last character of the encoded path
+   * @param precision   OSRMv4 uses 6, OSRMv5 and Google uses 5
+   * @return a two dimensional sequence of the positions making up the line
+   * @since 4.9.0
+   */
+  @NonNull
+  public static CoordinateSequence decodeToSequence(@NonNull CharSequence encodedPath, int start,
+                                                    int end, int precision) {
+    double[] coordinates = new double[positionCount(encodedPath, start, end) * 2];
+    decode(encodedPath, start, end, precision, coordinates, 0);
+    return CoordinateSequence.fromLngLats(coordinates, 2);
+  }
+
+  /**
+   * Counts the positions encoded between {@code start} and {@code end} inside a character
+   * sequence, without decoding them. Useful to size the array passed to
+   * {@link #decode(CharSequence, int, int, int, double[], int)}.
+   *
+   * @param encodedPath a CharSequence containing an encoded path string
+   * @param start       the index of the first character of the encoded path
+   * @param end         the index following the last character of the encoded path
+   * @return the number of positions making up the encoded path
+   * @since 4.9.0
+   */
+  public static int positionCount(@NonNull CharSequence encodedPath, int start, int end) {
+    // Each value ends with the first character that doesn't have the continuation bit set
+    int values = 0;
+    for (int i = start; i < end; i++) {
+      if (encodedPath.charAt(i) - 63 < 0x20) {
+        values++;
+      }
+    }
+    return values / 2;
+  }
+
+  private static IllegalArgumentException truncated(int start, int end) {
+    return new IllegalArgumentException(
+      "The encoded path between " + start + " and " + end + " is truncated.");
   }
 
   /**
@@ -102,8 +216,8 @@ public final class PolylineUtils {
       long varLat = lat - lastLat;
       long varLng = lng - lastLng;
 
-      encode(varLat, result);
-      encode(varLng, result);
+      encodeValue(varLat, result, null);
+      encodeValue(varLng, result, null);
 
       lastLat = lat;
       lastLng = lng;
@@ -111,13 +225,114 @@ public final class PolylineUtils {
     return result.toString();
   }
 
-  private static void encode(long variable, StringBuilder result) {
+  /**
+   * Encodes positions stored in an array of interleaved longitude and latitude values, such as the
+   * one filled by {@link #decode(CharSequence, int, int, int, double[], int)}, and appends the
+   * encoded path to the given {@link StringBuilder}. Reusing the same builder from one call to the
+   * next avoids allocating a new one, and a new String, per path.
+   *
+   * @param coordinates the interleaved longitude and latitude values
+   * @param offset      the index inside the array of the first value to encode
+   * @param count       the number of positions to encode
+   * @param precision   OSRMv4 uses 6, OSRMv5 and Google uses 5
+   * @param result      the builder the encoded path gets appended to
+   * @return the builder passed in
+   * @since 4.9.0
+   */
+  @NonNull
+  public static StringBuilder encode(@NonNull double[] coordinates, int offset, int count,
+                                     int precision, @NonNull StringBuilder result) {
+    checkRange(coordinates, offset, count);
+    encodePositions(coordinates, offset, count, precision, result, null);
+    return result;
+  }
+
+  /**
+   * Encodes positions stored in an array of interleaved longitude and latitude values and writes
+   * the encoded path as ASCII bytes into the given {@link ByteBuffer}, starting at its current
+   * position. {@link #maxEncodedLength(int, int)} gives the room needed in the buffer.
+   *
+   * @param coordinates the interleaved longitude and latitude values
+   * @param offset      the index inside the array of the first value to encode
+   * @param count       the number of positions to encode
+   * @param precision   OSRMv4 uses 6, OSRMv5 and Google uses 5
+   * @param result      the buffer the encoded path gets written to
+   * @return the buffer passed in
+   * @throws java.nio.BufferOverflowException if the buffer runs out of room
+   * @since 4.9.0
+   */
+  @NonNull
+  public static ByteBuffer encode(@NonNull double[] coordinates, int offset, int count,
+                                  int precision, @NonNull ByteBuffer result) {
+    checkRange(coordinates, offset, count);
+    encodePositions(coordinates, offset, count, precision, null, result);
+    return result;
+  }
+
+  // Exactly one of chars and bytes is set, the encoded path is written to that one
+  private static void encodePositions(double[] coordinates, int offset, int count, int precision,
+                                      @Nullable StringBuilder chars, @Nullable ByteBuffer bytes) {
+    long lastLat = 0;
+    long lastLng = 0;
+    double factor = Math.pow(10, precision);
+
+    for (int index = offset, end = offset + count * 2; index < end; index += 2) {
+      long lat = Math.round(coordinates[index + 1] * factor);
+      long lng = Math.round(coordinates[index] * factor);
+
+      encodeValue(lat - lastLat, chars, bytes);
+      encodeValue(lng - lastLng, chars, bytes);
+
+      lastLat = lat;
+      lastLng = lng;
+    }
+  }
+
+  private static void encodeValue(long variable, @Nullable StringBuilder chars,
+                                  @Nullable ByteBuffer bytes) {
     variable = variable < 0 ? ~(variable << 1) : variable << 1;
     while (variable >= 0x20) {
-      result.append(Character.toChars((int) ((0x20 | (variable & 0x1f)) + 63)));
+      encodeChar((int) ((0x20 | (variable & 0x1f)) + 63), chars, bytes);
       variable >>= 5;
     }
-    result.append(Character.toChars((int) (variable + 63)));
+    encodeChar((int) (variable + 63), chars, bytes);
+  }
+
+  private static void encodeChar(int value, @Nullable StringBuilder chars,
+                                 @Nullable ByteBuffer bytes) {
+    if (chars != null) {
+      chars.append((char) value);
+    } else {
+      bytes.put((byte) value);
+    }
+  }
+
+  /**
+   * The maximum length of the encoded path of the given number of positions. It holds as long as
+   * longitudes are within -180 to 180 and latitudes within -90 to 90, and is meant to size the
+   * destination of the encoded path upfront.
+   *
+   * @param positionCount the number of positions to encode
+   * @param precision     OSRMv4 uses 6, OSRMv5 and Google uses 5
+   * @return the maximum number of characters making up the encoded path
+   * @since 4.9.0
+   */
+  public static int maxEncodedLength(int positionCount, int precision) {
+    // The largest value is a jump from one side of the antimeridian to the other
+    long variable = Math.round(360 * Math.pow(10, precision)) << 1;
+    int chunks = 1;
+    while (variable >= 0x20) {
+      chunks++;
+      variable >>= 5;
+    }
+    return positionCount * 2 * chunks;
+  }
+
+  private static void checkRange(double[] coordinates, int offset, int count) {
+    if (offset < 0 || count < 0 || offset + count * 2 > coordinates.length) {
+      throw new IndexOutOfBoundsException(
+        "offset " + offset + ", count " + count + ", length " + coordinates.length);
+    }
   }
 
   /*
@@ -191,48 +406,128 @@ public final class PolylineUtils {
       return points;
     }
 
-    double sqTolerance = tolerance * tolerance;
+    double[] coordinates = new double[points.size() * 2];
+    for (int i = 0; i < points.size(); i++) {
+      coordinates[i * 2] = points.get(i).longitude();
+      coordinates[i * 2 + 1] = points.get(i).latitude();
+    }
+    boolean[] keep = simplifyMarks(coordinates, tolerance * tolerance, highestQuality);
 
-    points = highestQuality ? points : simplifyRadialDist(points, sqTolerance);
-    points = simplifyDouglasPeucker(points, sqTolerance);
+    List<Point> simplified = new ArrayList<>(countKept(keep));
+    for (int i = 0; i < keep.length; i++) {
+      if (keep[i]) {
+        simplified.add(points.get(i));
+      }
+    }
+    if (simplified.size() == 1) {
+      // All positions were the same, still return a line
+      simplified.add(simplified.get(0));
+    }
+    return simplified;
+  }
 
-    return points;
+  /**
+   * Reduces the number of positions of a polyline stored as an array of interleaved longitude and
+   * latitude values while retaining its shape. This gives the same result as
+   * {@link #simplify(List, double, boolean)} without creating a {@link Point} per position.
+   *
+   * @param coordinates    the interleaved longitude and latitude values
+   * @param tolerance      affects the amount of simplification (in the same metric as the point
+   *                       coordinates)
+   * @param highestQuality excludes distance-based preprocessing step which leads to highest quality
+   *                       simplification
+   * @return the interleaved longitude and latitude values of the simplified polyline
+   * @since 4.9.0
+   */
+  @NonNull
+  public static double[] simplify(@NonNull double[] coordinates, double tolerance,
+                                  boolean highestQuality) {
+    if (coordinates.length <= 4) {
+      return coordinates;
+    }
+
+    boolean[] keep = simplifyMarks(coordinates, tolerance * tolerance, highestQuality);
+
+    int kept = countKept(keep);
+    double[] simplified = new double[Math.max(kept, 2) * 2];
+    int index = 0;
+    for (int i = 0; i < keep.length; i++) {
+      if (keep[i]) {
+        simplified[index++] = coordinates[i * 2];
+        simplified[index++] = coordinates[i * 2 + 1];
+      }
+    }
+    if (kept == 1) {
+      // All positions were the same, still return a line
+      simplified[2] = simplified[0];
+      simplified[3] = simplified[1];
+    }
+    return simplified;
   }
 
   /**
-   * Square distance between 2 points.
+   * Marks the positions retained by the simplification, first by the optional distance-based
+   * preprocessing step, then by the Ramer-Douglas-Peucker algorithm.
    *
-   * @param p1 first {@link Point}
-   * @param p2 second Point
-   * @return square of the distance between two input points
+   * @param coordinates    the interleaved longitude and latitude values
+   * @param sqTolerance    square of amount of simplification
+   * @param highestQuality whether to skip the distance-based preprocessing step
+   * @return whether each position is retained
    */
-  private static double getSqDist(Point p1, Point p2) {
-    double dx = p1.longitude() - p2.longitude();
-    double dy = p1.latitude() - p2.latitude();
+  private static boolean[] simplifyMarks(double[] coordinates, double sqTolerance,
+                                         boolean highestQuality) {
+    boolean[] candidates = highestQuality ? null : simplifyRadialDist(coordinates, sqTolerance);
+    return simplifyDouglasPeucker(coordinates, candidates, sqTolerance);
+  }
+
+  private static int countKept(boolean[] keep) {
+    int kept = 0;
+    for (boolean retained : keep) {
+      if (retained) {
+        kept++;
+      }
+    }
+    return kept;
+  }
+
+  /**
+   * Square distance between 2 positions.
+   *
+   * @param coordinates the interleaved longitude and latitude values
+   * @param p1          index of the first position
+   * @param p2          index of the second position
+   * @return square of the distance between two input positions
+   */
+  private static double getSqDist(double[] coordinates, int p1, int p2) {
+    double dx = coordinates[p1 * 2] - coordinates[p2 * 2];
+    double dy = coordinates[p1 * 2 + 1] - coordinates[p2 * 2 + 1];
     return dx * dx + dy * dy;
   }
 
   /**
-   * Square distance from a point to a segment.
+   * Square distance from a position to a segment.
    *
-   * @param point {@link Point} whose distance from segment needs to be determined
-   * @param p1,p2 points defining the segment
-   * @return square of the distance between first input point and segment defined by
-   *   other two input points
+   * @param coordinates the interleaved longitude and latitude values
+   * @param point       index of the position whose distance from segment needs to be determined
+   * @param p1,p2       indices of the positions defining the segment
+   * @return square of the distance between first input position and segment defined by
+   *   other two input positions
    */
-  private static double getSqSegDist(Point point, Point p1, Point p2) {
-    double horizontal = p1.longitude();
-    double vertical = p1.latitude();
-    double diffHorizontal = p2.longitude() - horizontal;
-    double diffVertical = p2.latitude() - vertical;
+  private static double getSqSegDist(double[] coordinates, int point, int p1, int p2) {
+    double horizontal = coordinates[p1 * 2];
+    double vertical = coordinates[p1 * 2 + 1];
+    double diffHorizontal = coordinates[p2 * 2] - horizontal;
+    double diffVertical = coordinates[p2 * 2 + 1] - vertical;
+    double pointHorizontal = coordinates[point * 2];
+    double pointVertical = coordinates[point * 2 + 1];
 
     if (diffHorizontal != 0 || diffVertical != 0) {
-      double total = ((point.longitude() - horizontal) * diffHorizontal + (point.latitude()
+      double total = ((pointHorizontal - horizontal) * diffHorizontal + (pointVertical
         - vertical) * diffVertical) / (diffHorizontal * diffHorizontal + diffVertical
         * diffVertical);
       if (total > 1) {
-        horizontal = p2.longitude();
-        vertical = p2.latitude();
+        horizontal = coordinates[p2 * 2];
+        vertical = coordinates[p2 * 2 + 1];
 
       } else if (total > 0) {
         horizontal += diffHorizontal * total;
@@ -240,8 +535,8 @@ public final class PolylineUtils {
       }
     }
 
-    diffHorizontal = point.longitude() - horizontal;
-    diffVertical = point.latitude() - vertical;
+    diffHorizontal = pointHorizontal - horizontal;
+    diffVertical = pointVertical - vertical;
 
     return diffHorizontal * diffHorizontal + diffVertical * diffVertical;
   }
@@ -249,74 +544,91 @@ public final class PolylineUtils {
   /**
    * Basic distance-based simplification.
    *
-   * @param points a list of points to be simplified
+   * @param coordinates the interleaved longitude and latitude values
    * @param sqTolerance square of amount of simplification
-   * @return a list of simplified points
+   * @return whether each position is retained
    */
-  private static List<Point> simplifyRadialDist(List<Point> points, double sqTolerance) {
-    Point prevPoint = points.get(0);
-    ArrayList<Point> newPoints = new ArrayList<>();
-    newPoints.add(prevPoint);
-    Point point = null;
-
-    for (int i = 1, len = points.size(); i < len; i++) {
-      point = points.get(i);
-
-      if (getSqDist(point, prevPoint) > sqTolerance) {
-        newPoints.add(point);
-        prevPoint = point;
+  private static boolean[] simplifyRadialDist(double[] coordinates, double sqTolerance) {
+    int size = coordinates.length / 2;
+    boolean[] retained = new boolean[size];
+    retained[0] = true;
+    int prevPoint = 0;
+
+    for (int i = 1; i < size; i++) {
+      if (getSqDist(coordinates, i, prevPoint) > sqTolerance) {
+        retained[i] = true;
+        prevPoint = i;
       }
     }
 
-    if (!prevPoint.equals(point)) {
-      newPoints.add(point);
+    // The last position is added unless it's the same as the last retained one
+    int last = size - 1;
+    if (coordinates[prevPoint * 2] != coordinates[last * 2]
+      || coordinates[prevPoint * 2 + 1] != coordinates[last * 2 + 1]) {
+      retained[last] = true;
     }
-    return newPoints;
+    return retained;
   }
 
-  private static List<Point> simplifyDpStep(
-    List<Point> points, int first, int last, double sqTolerance, List<Point> simplified) {
-    double maxSqDist = sqTolerance;
-    int index = 0;
-
-    ArrayList<Point> stepList = new ArrayList<>();
-
-    for (int i = first + 1; i < last; i++) {
-      double sqDist = getSqSegDist(points.get(i), points.get(first), points.get(last));
-      if (sqDist > maxSqDist) {
-        index = i;
-        maxSqDist = sqDist;
-      }
+  /**
+   * Simplification using Ramer-Douglas-Peucker algorithm. Segments still to be looked at are
+   * kept on an explicit stack rather than recursing, so long lines can't overflow the call stack,
+   * and retained positions are only marked, the output is built once all of them are known.
+   *
+   * @param coordinates the interleaved longitude and latitude values
+   * @param candidates  the positions left by the distance-based simplification, or null for all
+   * @param sqTolerance square of amount of simplification
+   * @return whether each position is retained
+   */
+  private static boolean[] simplifyDouglasPeucker(double[] coordinates, boolean[] candidates,
+                                                  double sqTolerance) {
+    int size = coordinates.length / 2;
+    int last = size - 1;
+    while (candidates != null && !candidates[last]) {
+      last--;
     }
 
-    if (maxSqDist > sqTolerance) {
-      if (index - first > 1) {
-        stepList.addAll(simplifyDpStep(points, first, index, sqTolerance, simplified));
+    boolean[] keep = new boolean[size];
+    keep[0] = true;
+    keep[last] = true;
+
+    int[] stack = new int[32];
+    int stackSize = 0;
+    stack[stackSize++] = 0;
+    stack[stackSize++] = last;
+
+    while (stackSize > 0) {
+      int segmentLast = stack[--stackSize];
+      int first = stack[--stackSize];
+      double maxSqDist = sqTolerance;
+      int index = 0;
+
+      for (int i = first + 1; i < segmentLast; i++) {
+        if (candidates != null && !candidates[i]) {
+          continue;
+        }
+        double sqDist = getSqSegDist(coordinates, i, first, segmentLast);
+        if (sqDist > maxSqDist) {
+          index = i;
+          maxSqDist = sqDist;
+        }
       }
 
-      stepList.add(points.get(index));
-
-      if (last - index > 1) {
-        stepList.addAll(simplifyDpStep(points, index, last, sqTolerance, simplified));
+      if (maxSqDist > sqTolerance) {
+        keep[index] = true;
+        if (stackSize + 4 > stack.length) {
+          stack = Arrays.copyOf(stack, stack.length * 2);
+        }
+        if (index - first > 1) {
+          stack[stackSize++] = first;
+          stack[stackSize++] = index;
+        }
+        if (segmentLast - index > 1) {
+          stack[stackSize++] = index;
+          stack[stackSize++] = segmentLast;
+        }
       }
     }
-
-    return stepList;
-  }
-
-  /**
-   * Simplification using Ramer-Douglas-Peucker algorithm.
-   *
-   * @param points a list of points to be simplified
-   * @param sqTolerance square of amount of simplification
-   * @return a list of simplified points
-   */
-  private static List<Point> simplifyDouglasPeucker(List<Point> points, double sqTolerance) {
-    int last = points.size() - 1;
-    ArrayList<Point> simplified = new ArrayList<>();
-    simplified.add(points.get(0));
-    simplified.addAll(simplifyDpStep(points, 0, last, sqTolerance, simplified));
-    simplified.add(points.get(last));
-    return simplified;
+    return keep;
   }
 }
@@ -0,0 +1,142 @@
+package com.mapbox.geojson;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import com.mapbox.core.TestUtils;
+import com.mapbox.geojson.exception.GeoJsonException;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+public class CoordinateSequenceTest extends TestUtils {
+
+  @Rule
+  public ExpectedException thrown = ExpectedException.none();
+
+  @Test
+  public void sanity() throws Exception {
+    CoordinateSequence sequence = CoordinateSequence.fromLngLats(new double[] {1, 2, 3, 4}, 2);
+    assertEquals(2, sequence.size());
+    assertEquals(2, sequence.dimension());
+    assertFalse(sequence.hasAltitude());
+    assertEquals(3, sequence.longitude(1), DELTA);
+    assertEquals(4, sequence.latitude(1), DELTA);
+    assertEquals(Double.NaN, sequence.altitude(1), DELTA);
+  }
+
+  @Test
+  public void fromLngLats_withAltitude() throws Exception {
+    CoordinateSequence sequence =
+      CoordinateSequence.fromLngLats(new double[] {1, 2, 3, 4, 5, 6}, 3);
+    assertEquals(2, sequence.size());
+    assertTrue(sequence.hasAltitude());
+    assertEquals(Point.fromLngLat(4, 5, 6), sequence.point(1));
+  }
+
+  @Test
+  public void fromLngLats_copiesValues() throws Exception {
+    double[] values = new double[] {1, 2, 3, 4};
+    LineString lineString =
+      LineString.fromCoordinateSequence(CoordinateSequence.fromLngLats(values, 2));
+    values[0] = 10;
+    assertEquals(1, lineString.coordinateSequence().longitude(0), DELTA);
+    assertEquals(Point.fromLngLat(1, 2), lineString.coordinates().get(0));
+  }
+
+  @Test
+  public void fromLngLats_range() throws Exception {
+    double[] values = new double[] {1, 2, 3, 4, 5, 6};
+    CoordinateSequence sequence = CoordinateSequence.fromLngLats(values, 1, 2, 2);
+    values[2] = 10;
+    assertEquals(2, sequence.size());
+    assertEquals(3, sequence.longitude(0), DELTA);
+    assertEquals(6, sequence.latitude(1), DELTA);
+  }
+
+  @Test
+  public void fromLngLats_invalidLengthThrowsException() throws Exception {
+    thrown.expect(GeoJsonException.class);
+    CoordinateSequence.fromLngLats(new double[] {1, 2, 3}, 2);
+  }
+
+  @Test
+  public void fromLngLats_invalidDimensionThrowsException() throws Exception {
+    thrown.expect(GeoJsonException.class);
+    CoordinateSequence.fromLngLats(new double[] {1, 2, 3, 4}, 4);
+  }
+
+  @Test
+  public void fromPoints_packsPoints() throws Exception {
+    List<Point> points = new ArrayList<>();
+    points.add(Point.fromLngLat(1, 2));
+    points.add(Point.fromLngLat(3, 4));
+    CoordinateSequence sequence = CoordinateSequence.fromPoints(points);
+    assertTrue(Arrays.equals(new double[] {1, 2, 3, 4}, sequence.toArray()));
+    assertEquals(points, sequence.points());
+  }
+
+  @Test
+  public void fromPoints_reusesBackingSequence() throws Exception {
+    CoordinateSequence sequence = CoordinateSequence.fromLngLats(new double[] {1, 2, 3, 4}, 2);
+    assertSame(sequence, CoordinateSequence.fromPoints(sequence.points()));
+  }
+
+  @Test
+  public void points_isReadOnly() throws Exception {
+    thrown.expect(UnsupportedOperationException.class);
+    CoordinateSequence sequence = CoordinateSequence.fromLngLats(new double[] {1, 2, 3, 4}, 2);
+    sequence.points().add(Point.fromLngLat(5, 6));
+  }
+
+  @Test
+  public void lineString_fromCoordinateSequence() throws Exception {
+    CoordinateSequence sequence = CoordinateSequence.fromLngLats(new double[] {1, 2, 3, 4}, 2);
+    LineString lineString = LineString.fromCoordinateSequence(sequence);
+    assertSame(sequence, lineString.coordinateSequence());
+    assertEquals(LineString.fromJson(lineString.toJson()), lineString);
+    compareJson("{\"type\":\"LineString\",\"coordinates\":[[1,2],[3,4]]}", lineString.toJson());
+  }
+
+  @Test
+  public void polygon_fromCoordinateSequences() throws Exception {
+    CoordinateSequence outer = CoordinateSequence.fromLngLats(
+      new double[] {0, 0, 1, 0, 1, 1, 0, 0}, 2);
+    Polygon polygon = Polygon.fromCoordinateSequences(Arrays.asList(outer));
+    assertEquals(4, polygon.outer().coordinates().size());
+    assertSame(outer, polygon.coordinateSequences().get(0));
+    assertEquals(Polygon.fromJson(polygon.toJson()), polygon);
+  }
+
+  @Test
+  public void polygon_fromCoordinateSequencesOpenRingThrowsException() throws Exception {
+    thrown.expect(GeoJsonException.class);
+    thrown.expectMessage("LinearRings require first and last coordinate to be identical.");
+    CoordinateSequence outer = CoordinateSequence.fromLngLats(
+      new double[] {0, 0, 1, 0, 1, 1, 0, 1}, 2);
+    Polygon.fromCoordinateSequences(Arrays.asList(outer));
+  }
+
+  @Test
+  public void polygon_fromCoordinateSequencesShortRingThrowsException() throws Exception {
+    thrown.expect(GeoJsonException.class);
+    thrown.expectMessage("LinearRings need to be made up of 4 or more coordinates.");
+    CoordinateSequence outer = CoordinateSequence.fromLngLats(new double[] {0, 0, 1, 0, 0, 0}, 2);
+    Polygon.fromCoordinateSequences(Arrays.asList(outer));
+  }
+
+  @Test
+  public void testSerializable() throws Exception {
+    CoordinateSequence sequence = CoordinateSequence.fromLngLats(new double[] {1, 2, 3, 4}, 2);
+    LineString lineString = LineString.fromCoordinateSequence(sequence);
+    byte[] bytes = serialize(lineString);
+    assertEquals(lineString, deserialize(bytes, LineString.class));
+  }
+}
@@ -6,9 +6,12 @@ import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import com.mapbox.core.TestUtils;
+import com.mapbox.geojson.gson.GeoJsonAdapterFactory;
 
 import org.junit.Test;
 
@@ -260,4 +263,47 @@ public class FeatureTest extends TestUtils {
     assertNull(value);
 
   }
+
+  @Test
+  public void lazyProperties_matchEagerlyParsedFeature() throws Exception {
+    Gson gson = new GsonBuilder()
+      .registerTypeAdapterFactory(GeoJsonAdapterFactory.create(true))
+      .registerTypeAdapterFactory(GeometryAdapterFactory.create())
+      .create();
+    String json = loadJsonFixture(SAMPLE_FEATURE_POINT);
+    Feature feature = gson.fromJson(json, Feature.class);
+
+    assertEquals(Feature.fromJson(json), feature);
+    compareJson(Feature.fromJson(json).toJson(), feature.toJson());
+  }
+
+  @Test
+  public void lazyProperties_canBeModified() throws Exception {
+    Gson gson = new GsonBuilder()
+      .registerTypeAdapterFactory(GeoJsonAdapterFactory.create(true))
+      .create();
+    Feature feature = gson.fromJson(
+      "{\"type\":\"Feature\",\"properties\":{\"a\":[1,{\"b\":null}]}}", Feature.class);
+    feature.addStringProperty("c", "d");
+
+    assertTrue(feature.hasProperty("a"));
+    assertEquals("d", feature.getStringProperty("c"));
+  }
+
+  @Test
+  public void getDoubleProperty() throws Exception {
+    Feature feature = Feature.fromJson(
+      "{\"type\":\"Feature\",\"properties\":{\"a\":1.5,\"b\":null}}");
+    assertEquals(1.5, feature.getDoubleProperty("a", 0), DELTA);
+    assertEquals(-1, feature.getDoubleProperty("b", -1), DELTA);
+    assertEquals(-1, feature.getDoubleProperty("does_not_exist", -1), DELTA);
+  }
+
+  @Test
+  public void getLongProperty() throws Exception {
+    Feature feature = Feature.fromJson(
+      "{\"type\":\"Feature\",\"properties\":{\"a\":12345678901234}}");
+    assertEquals(12345678901234L, feature.getLongProperty("a", 0));
+    assertEquals(-1, feature.getLongProperty("does_not_exist", -1));
+  }
 }
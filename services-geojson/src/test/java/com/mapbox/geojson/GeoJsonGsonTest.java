@@ -0,0 +1,33 @@
+package com.mapbox.geojson;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import com.mapbox.core.TestUtils;
+
+import org.junit.Test;
+
+public class GeoJsonGsonTest extends TestUtils {
+
+  private static final String SAMPLE_FEATURE = "sample-feature.json";
+
+  @Test
+  public void getGson_returnsSameInstance() throws Exception {
+    assertSame(GeoJsonGson.getGson(), GeoJsonGson.getGson());
+  }
+
+  @Test
+  public void getGson_deserializesGeometry() throws Exception {
+    Geometry geometry = GeoJsonGson.getGson().fromJson(
+      "{\"type\":\"LineString\",\"coordinates\":[[1,2],[3,4]]}", Geometry.class);
+    assertTrue(geometry instanceof LineString);
+    assertEquals(Point.fromLngLat(3, 4), ((LineString) geometry).coordinates().get(1));
+  }
+
+  @Test
+  public void getGson_matchesFeatureToJson() throws Exception {
+    Feature feature = Feature.fromJson(loadJsonFixture(SAMPLE_FEATURE));
+    compareJson(feature.toJson(), GeoJsonGson.getGson().toJson(feature));
+  }
+}
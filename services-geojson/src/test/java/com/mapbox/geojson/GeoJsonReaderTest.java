@@ -0,0 +1,83 @@
+package com.mapbox.geojson;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import com.mapbox.core.TestUtils;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.io.ByteArrayInputStream;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+public class GeoJsonReaderTest extends TestUtils {
+
+  private static final String SAMPLE_FEATURECOLLECTION = "sample-featurecollection.json";
+  private static final String SAMPLE_FEATURECOLLECTION_BBOX = "sample-feature-collection-with-bbox.json";
+
+  @Rule
+  public ExpectedException thrown = ExpectedException.none();
+
+  @Test
+  public void readsAllFeatures() throws Exception {
+    String json = loadJsonFixture(SAMPLE_FEATURECOLLECTION);
+    GeoJsonReader reader = GeoJsonReader.fromReader(new StringReader(json));
+    List<Feature> features = new ArrayList<>();
+    while (reader.hasNext()) {
+      features.add(reader.next());
+    }
+    reader.close();
+    assertEquals(FeatureCollection.fromJson(json).features(), features);
+  }
+
+  @Test
+  public void readsFromInputStream() throws Exception {
+    String json = loadJsonFixture(SAMPLE_FEATURECOLLECTION_BBOX);
+    GeoJsonReader reader =
+      GeoJsonReader.fromInputStream(new ByteArrayInputStream(json.getBytes("UTF-8")));
+    int count = 0;
+    while (reader.hasNext()) {
+      reader.next();
+      count++;
+    }
+    reader.close();
+    assertEquals(FeatureCollection.fromJson(json).features().size(), count);
+    assertEquals(FeatureCollection.fromJson(json).bbox(), reader.bbox());
+  }
+
+  @Test
+  public void bbox_readAfterFeatures() throws Exception {
+    GeoJsonReader reader = GeoJsonReader.fromReader(new StringReader(
+      "{\"features\":[{\"type\":\"Feature\",\"geometry\":null}],"
+        + "\"type\":\"FeatureCollection\",\"bbox\":[1.0,2.0,3.0,4.0]}"));
+    assertTrue(reader.hasNext());
+    assertNull(reader.bbox());
+    Feature feature = reader.next();
+    assertNotNull(feature.properties());
+    assertFalse(reader.hasNext());
+    assertEquals(BoundingBox.fromLngLats(1.0, 2.0, 3.0, 4.0), reader.bbox());
+  }
+
+  @Test
+  public void noFeatures() throws Exception {
+    GeoJsonReader reader =
+      GeoJsonReader.fromReader(new StringReader("{\"type\":\"FeatureCollection\"}"));
+    assertFalse(reader.hasNext());
+  }
+
+  @Test
+  public void next_throwsWhenExhausted() throws Exception {
+    thrown.expect(NoSuchElementException.class);
+    GeoJsonReader reader = GeoJsonReader.fromReader(
+      new StringReader("{\"type\":\"FeatureCollection\",\"features\":[]}"));
+    reader.next();
+  }
+}
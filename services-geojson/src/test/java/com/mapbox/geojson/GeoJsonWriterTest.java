@@ -0,0 +1,60 @@
+package com.mapbox.geojson;
+
+import static org.junit.Assert.assertEquals;
+
+import com.mapbox.core.TestUtils;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.io.ByteArrayOutputStream;
+import java.io.StringWriter;
+
+public class GeoJsonWriterTest extends TestUtils {
+
+  private static final String SAMPLE_FEATURECOLLECTION_BBOX = "sample-feature-collection-with-bbox.json";
+
+  @Rule
+  public ExpectedException thrown = ExpectedException.none();
+
+  @Test
+  public void write_matchesFeatureCollectionToJson() throws Exception {
+    FeatureCollection featureCollection =
+      FeatureCollection.fromJson(loadJsonFixture(SAMPLE_FEATURECOLLECTION_BBOX));
+    StringWriter stringWriter = new StringWriter();
+    GeoJsonWriter writer = GeoJsonWriter.fromWriter(stringWriter, featureCollection.bbox());
+    for (Feature feature : featureCollection.features()) {
+      writer.write(feature);
+    }
+    writer.close();
+    assertEquals(featureCollection.toJson(), stringWriter.toString());
+  }
+
+  @Test
+  public void write_toOutputStream() throws Exception {
+    Feature feature = Feature.fromGeometry(Point.fromLngLat(1.0, 2.0));
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    GeoJsonWriter writer = GeoJsonWriter.fromOutputStream(outputStream);
+    writer.write(feature);
+    writer.write(feature);
+    writer.close();
+    compareJson(FeatureCollection.fromFeatures(new Feature[] {feature, feature}).toJson(),
+      outputStream.toString("UTF-8"));
+  }
+
+  @Test
+  public void close_withoutFeatures() throws Exception {
+    StringWriter stringWriter = new StringWriter();
+    GeoJsonWriter.fromWriter(stringWriter).close();
+    compareJson("{\"type\":\"FeatureCollection\",\"features\":[]}", stringWriter.toString());
+  }
+
+  @Test
+  public void write_afterCloseThrowsException() throws Exception {
+    thrown.expect(IllegalStateException.class);
+    GeoJsonWriter writer = GeoJsonWriter.fromWriter(new StringWriter());
+    writer.close();
+    writer.write(Feature.fromGeometry(null));
+  }
+}
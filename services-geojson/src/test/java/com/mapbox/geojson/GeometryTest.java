@@ -1,20 +1,27 @@
 package com.mapbox.geojson;
 
+import com.google.gson.JsonParseException;
 import com.mapbox.core.TestUtils;
 import com.mapbox.geojson.gson.GeometryGeoJson;
 
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.ExpectedException;
 
 import java.io.IOException;
 import java.util.Arrays;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
 
 public class GeometryTest extends TestUtils {
 
   private static final String SAMPLE_GEOMETRY_COLLECTION = "sample-geometrycollection.json";
 
+  @Rule
+  public ExpectedException thrown = ExpectedException.none();
+
   @Test
   public void fromJson() throws IOException {
     final String json =
@@ -90,4 +97,26 @@ public class GeometryTest extends TestUtils {
             + "\"type\":\"LineString\",\"bbox\":[1.0,2.0,3.0,4.0]}";
     compareJson(expectedJsonString, geometryJsonStr);
   }
+
+  @Test
+  public void geometryCollectionFromJson_typeAfterGeometries() throws Exception {
+    Geometry geometry = GeometryGeoJson.fromJson("{\"geometries\":[{\"coordinates\":[1,2],"
+      + "\"type\":\"Point\"}],\"bbox\":[1.0,2.0,3.0,4.0],\"type\":\"GeometryCollection\"}");
+
+    assertTrue(geometry instanceof GeometryCollection);
+    assertEquals(BoundingBox.fromLngLats(1, 2, 3, 4), geometry.bbox());
+    assertEquals(Point.fromLngLat(1, 2), ((GeometryCollection) geometry).geometries().get(0));
+  }
+
+  @Test
+  public void fromJson_unknownTypeThrowsException() throws Exception {
+    thrown.expect(JsonParseException.class);
+    GeometryGeoJson.fromJson("{\"type\":\"Circle\",\"coordinates\":[1,2]}");
+  }
+
+  @Test
+  public void fromJson_missingTypeThrowsException() throws Exception {
+    thrown.expect(JsonParseException.class);
+    GeometryGeoJson.fromJson("{\"coordinates\":[1,2]}");
+  }
 }
@@ -6,6 +6,8 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 
+import com.google.gson.Gson;
+import com.mapbox.geojson.exception.GeoJsonException;
 import com.mapbox.core.TestUtils;
 
 import org.junit.Rule;
@@ -162,4 +164,60 @@ public class PointTest extends TestUtils {
     thrown.expect(NullPointerException.class);
     Point.fromJson("{\"type\":\"Point\",\"coordinates\":null}");
   }
-}
\ No newline at end of file
+
+  @Test
+  public void coordinates_matchesPrimitiveValues() throws Exception {
+    Point point = Point.fromLngLat(1.0, 2.0, 5.0);
+    assertEquals(Arrays.asList(1.0, 2.0, 5.0), point.coordinates());
+    assertEquals(Arrays.asList(1.0, 2.0, 5.0).hashCode(), point.coordinates().hashCode());
+  }
+
+  @Test
+  public void coordinates_isReadOnly() throws Exception {
+    thrown.expect(UnsupportedOperationException.class);
+    Point point = Point.fromLngLat(1.0, 2.0);
+    point.coordinates().set(0, 3.0);
+  }
+
+  @Test
+  public void equals_comparesPrimitiveValues() throws Exception {
+    assertEquals(Point.fromLngLat(1.0, 2.0), Point.fromJson(Point.fromLngLat(1.0, 2.0).toJson()));
+    assertEquals(Point.fromLngLat(1.0, 2.0).hashCode(), Point.fromLngLat(1.0, 2.0).hashCode());
+    assertFalse(Point.fromLngLat(1.0, 2.0).equals(Point.fromLngLat(1.0, 2.0, 3.0)));
+  }
+
+  @Test
+  public void gson_withoutGeoJsonAdapterFactory() throws Exception {
+    Gson gson = new Gson();
+    Point point = Point.fromLngLat(1.0, 2.0);
+    compareJson("{\"type\":\"Point\",\"coordinates\":[1.0,2.0]}", gson.toJson(point));
+    assertEquals(point, gson.fromJson(gson.toJson(point), Point.class));
+  }
+
+  @Test
+  public void hashCode_matchesCoordinatesList() throws Exception {
+    for (List<Double> coordinates : Arrays.asList(Arrays.asList(1.5, -2.25),
+      Arrays.asList(1.5, -2.25, 5.0))) {
+      int expected = ((1000003 ^ "Point".hashCode()) * 1000003) * 1000003
+        ^ coordinates.hashCode();
+      assertEquals(expected, new Point("Point", null, coordinates).hashCode());
+    }
+  }
+
+  @Test
+  public void constructor_singleCoordinateThrows() throws Exception {
+    thrown.expect(GeoJsonException.class);
+    thrown.expectMessage("Point coordinates need at least a longitude and a latitude.");
+    new Point("Point", null, Arrays.asList(1.0));
+  }
+
+  @Test
+  public void coordinates_keepsValuesBeyondAltitude() throws Exception {
+    List<Double> coordinates = Arrays.asList(1.0, 2.0, 3.0, 4.0);
+    Point point = new Point("Point", null, coordinates);
+    assertEquals(coordinates, point.coordinates());
+    assertEquals(3.0, point.altitude(), DELTA);
+    assertEquals(point, new Point("Point", null, point.coordinates()));
+    assertFalse(point.equals(Point.fromLngLat(1.0, 2.0, 3.0)));
+  }
+}
@@ -1,19 +1,27 @@
 package com.mapbox.geojson.utils;
 
 import static com.mapbox.geojson.utils.PolylineUtils.decode;
+import static com.mapbox.geojson.utils.PolylineUtils.decodeToSequence;
 import static com.mapbox.geojson.utils.PolylineUtils.encode;
+import static com.mapbox.geojson.utils.PolylineUtils.maxEncodedLength;
+import static com.mapbox.geojson.utils.PolylineUtils.positionCount;
 import static com.mapbox.geojson.utils.PolylineUtils.simplify;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 
+import com.mapbox.geojson.CoordinateSequence;
 import com.mapbox.geojson.LineString;
 import com.mapbox.geojson.Point;
 import com.mapbox.geojson.TestUtils;
 
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.ExpectedException;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -35,6 +43,9 @@ public class PolylineUtilsTest extends TestUtils {
   private static final  String TEST_LINE6 =
     "qn_iHgp}LzCy@xCsAsC}PoEeD_@{A@uD_@Sg@Je@a@I_@FcAoFyGcCqFgQ{L{CmD";
 
+  @Rule
+  public ExpectedException thrown = ExpectedException.none();
+
   @Test
   public void testDecodePath() {
     List<Point> latLngs = decode(TEST_LINE, PRECISION_5);
@@ -116,6 +127,87 @@ public class PolylineUtilsTest extends TestUtils {
     assertEquals(0, path.size());
   }
 
+  @Test
+  public void decodeToSequence_matchesDecode() {
+    List<Point> path = decode(TEST_LINE6, PRECISION_6);
+    CoordinateSequence sequence = decodeToSequence(TEST_LINE6, PRECISION_6);
+
+    assertEquals(path.size(), sequence.size());
+    assertEquals(2, sequence.dimension());
+    for (int i = 0; i < path.size(); i++) {
+      assertEquals(path.get(i), sequence.point(i));
+    }
+  }
+
+  @Test
+  public void decode_rangeInsideLargerSequence() {
+    String json = "{\"geometry\":\"" + TEST_LINE + "\"}";
+    int start = json.indexOf(TEST_LINE);
+    int end = start + TEST_LINE.length();
+    List<Point> path = decode(TEST_LINE, PRECISION_5);
+
+    assertEquals(path.size(), positionCount(json, start, end));
+    assertEquals(path, decodeToSequence(json, start, end, PRECISION_5).points());
+
+    double[] coordinates = new double[2 + path.size() * 2];
+    int count = decode(new StringBuilder(json), start, end, PRECISION_5, coordinates, 2);
+    assertEquals(path.size(), count);
+    for (int i = 0; i < count; i++) {
+      assertEquals(path.get(i).longitude(), coordinates[2 + i * 2], DELTA);
+      assertEquals(path.get(i).latitude(), coordinates[3 + i * 2], DELTA);
+    }
+  }
+
+  @Test
+  public void decode_arrayTooSmall() {
+    thrown.expect(IndexOutOfBoundsException.class);
+    decode(TEST_LINE, 0, TEST_LINE.length(), PRECISION_5, new double[41], 0);
+  }
+
+  @Test
+  public void decode_truncatedPath() {
+    thrown.expect(IllegalArgumentException.class);
+    thrown.expectMessage("truncated");
+    decodeToSequence(TEST_LINE, 0, TEST_LINE.length() - 1, PRECISION_5);
+  }
+
+  @Test
+  public void encode_primitiveArrayIntoReusedBuilder() {
+    double[] coordinates = new double[4 + TEST_LINE.length()];
+    int count = decode(TEST_LINE, 0, TEST_LINE.length(), PRECISION_5, coordinates, 4);
+
+    StringBuilder builder = new StringBuilder("prefix:");
+    encode(coordinates, 4, count, PRECISION_5, builder);
+    assertEquals("prefix:" + TEST_LINE, builder.toString());
+
+    builder.setLength(0);
+    encode(coordinates, 4, count, PRECISION_5, builder);
+    assertEquals(TEST_LINE, builder.toString());
+  }
+
+  @Test
+  public void encode_primitiveArrayIntoByteBuffer() {
+    double[] coordinates = new double[TEST_LINE6.length()];
+    int count = decode(TEST_LINE6, 0, TEST_LINE6.length(), PRECISION_6, coordinates, 0);
+
+    ByteBuffer buffer = ByteBuffer.allocate(maxEncodedLength(count, PRECISION_6));
+    encode(coordinates, 0, count, PRECISION_6, buffer);
+    buffer.flip();
+    assertEquals(TEST_LINE6, Charset.forName("US-ASCII").decode(buffer).toString());
+  }
+
+  @Test
+  public void maxEncodedLength_boundsLargestJumps() {
+    List<Point> path = Arrays.asList(
+      Point.fromLngLat(-180, -90),
+      Point.fromLngLat(180, 90),
+      Point.fromLngLat(-180, -90)
+    );
+    assertTrue(encode(path, PRECISION_5).length() <= maxEncodedLength(3, PRECISION_5));
+    assertTrue(encode(path, PRECISION_6).length() <= maxEncodedLength(3, PRECISION_6));
+    assertEquals(0, maxEncodedLength(0, PRECISION_6));
+  }
+
   @Test
   public void encode_neverReturnsNull() throws Exception {
     String encodedString = encode(new ArrayList<Point>(), PRECISION_6);
@@ -151,6 +243,37 @@ public class PolylineUtilsTest extends TestUtils {
     }
   }
 
+  @Test
+  public void simplify_primitiveArrayMatchesPointList() throws IOException {
+    List<Point> path = createPointListFromResourceFile(SIMPLIFICATION_INPUT);
+    double[] coordinates = new double[path.size() * 2];
+    for (int i = 0; i < path.size(); i++) {
+      coordinates[i * 2] = path.get(i).longitude();
+      coordinates[i * 2 + 1] = path.get(i).latitude();
+    }
+
+    for (boolean highestQuality : new boolean[] {true, false}) {
+      List<Point> expected = simplify(path, PRECISION_5, highestQuality);
+      double[] simplified = simplify(coordinates, PRECISION_5, highestQuality);
+      assertEquals(expected.size() * 2, simplified.length);
+      for (int i = 0; i < expected.size(); i++) {
+        assertEquals(expected.get(i).longitude(), simplified[i * 2], 0);
+        assertEquals(expected.get(i).latitude(), simplified[i * 2 + 1], 0);
+      }
+    }
+  }
+
+  @Test
+  public void simplify_identicalPointsStillReturnsALine() {
+    List<Point> path = new ArrayList<>();
+    for (int i = 0; i < 5; i++) {
+      path.add(Point.fromLngLat(1, 2));
+    }
+    List<Point> simplifiedPath = simplify(path);
+    assertEquals(2, simplifiedPath.size());
+    assertEquals(path.get(0), simplifiedPath.get(1));
+  }
+
   private List<Point> createPointListFromResourceFile(String fileName) throws IOException {
     String inputPoints = loadJsonFixture(fileName);
     String[] coords = inputPoints.split(",", -1);
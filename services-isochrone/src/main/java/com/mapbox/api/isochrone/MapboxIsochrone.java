@@ -17,7 +17,6 @@ import com.mapbox.geojson.GeometryAdapterFactory;
 import com.mapbox.geojson.Point;
 import com.mapbox.geojson.gson.GeoJsonAdapterFactory;
 
-import java.util.Locale;
 
 import retrofit2.Call;
 
@@ -182,9 +181,10 @@ public abstract class MapboxIsochrone extends MapboxService<FeatureCollection, I
      * @since 4.6.0
      */
     public Builder coordinates(@NonNull Point queryPoint) {
-      coordinates(String.format(Locale.US, "%s,%s",
-        TextUtils.formatCoordinate(queryPoint.longitude()),
-        TextUtils.formatCoordinate(queryPoint.latitude())));
+      StringBuilder builder = new StringBuilder();
+      TextUtils.appendCoordinate(builder, queryPoint.longitude()).append(',');
+      TextUtils.appendCoordinate(builder, queryPoint.latitude());
+      coordinates(builder.toString());
       return this;
     }
 
@@ -732,14 +732,15 @@ public abstract class MapboxMapMatching extends
     }
 
     private static String formatCoordinates(List<Point> coordinates) {
-      List<String> coordinatesFormatted = new ArrayList<>();
+      StringBuilder builder = new StringBuilder(coordinates.size() * 24);
       for (Point point : coordinates) {
-        coordinatesFormatted.add(String.format(Locale.US, "%s,%s",
-          TextUtils.formatCoordinate(point.longitude()),
-          TextUtils.formatCoordinate(point.latitude())));
+        if (builder.length() > 0) {
+          builder.append(';');
+        }
+        TextUtils.appendCoordinate(builder, point.longitude()).append(',');
+        TextUtils.appendCoordinate(builder, point.latitude());
       }
-
-      return TextUtils.join(";", coordinatesFormatted.toArray());
+      return builder.toString();
     }
   }
 }
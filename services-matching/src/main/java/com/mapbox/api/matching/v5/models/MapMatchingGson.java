@@ -0,0 +1,41 @@
+package com.mapbox.api.matching.v5.models;
+
+import android.support.annotation.Keep;
+import android.support.annotation.NonNull;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.mapbox.api.directions.v5.DirectionsAdapterFactory;
+
+/**
+ * The shared {@link Gson} instance used by the {@code fromJson} methods of the Map Matching
+ * models.
+ *
+ * @since 4.9.0
+ */
+@Keep
+public final class MapMatchingGson {
+
+  private MapMatchingGson() {
+    // Private constructor preventing instances of class
+  }
+
+  /**
+   * Returns the shared {@link Gson} instance able to serialize and deserialize all the Map Matching
+   * models.
+   *
+   * @return the shared Map Matching Gson instance
+   * @since 4.9.0
+   */
+  @NonNull
+  public static Gson getGson() {
+    return GsonHolder.GSON;
+  }
+
+  private static final class GsonHolder {
+    static final Gson GSON = new GsonBuilder()
+      .registerTypeAdapterFactory(MapMatchingAdapterFactory.create())
+      .registerTypeAdapterFactory(DirectionsAdapterFactory.create())
+      .create();
+  }
+}
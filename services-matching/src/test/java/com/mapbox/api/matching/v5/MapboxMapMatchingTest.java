@@ -21,6 +21,7 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.Locale;
 import java.util.Random;
+import java.util.concurrent.TimeUnit;
 
 import okhttp3.HttpUrl;
 import okhttp3.mockwebserver.MockResponse;
@@ -604,6 +605,23 @@ public class MapboxMapMatchingTest extends TestUtils {
     assertEquals("unrestricted;curb", routeOptions.approaches());
   }
 
+  @Test
+  public void executeAsync_responseIncludesRouteOptions() throws Exception {
+    MapboxMapMatching mapMatching = MapboxMapMatching.builder()
+      .profile(PROFILE_DRIVING)
+      .coordinate(Point.fromLngLat(-117.1728265285492,32.71204416018209))
+      .coordinate(Point.fromLngLat(-117.17334151268004,32.71254065549407))
+      .addApproaches(APPROACH_UNRESTRICTED, APPROACH_CURB)
+      .accessToken(ACCESS_TOKEN)
+      .baseUrl(mockUrl.toString())
+      .build();
+
+    Response<MapMatchingResponse> response = mapMatching.executeAsync().get(10, TimeUnit.SECONDS);
+    RouteOptions routeOptions = response.body().matchings().get(0).routeOptions();
+
+    assertEquals("unrestricted;curb", routeOptions.approaches());
+  }
+
   @Test
   public void sanityWaypointNamesInstructions() {
     MapboxMapMatching mapMatching = MapboxMapMatching.builder()
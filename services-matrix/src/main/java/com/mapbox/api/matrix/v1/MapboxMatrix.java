@@ -19,7 +19,6 @@ import com.mapbox.geojson.Point;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Locale;
 
 import retrofit2.Call;
 
@@ -37,7 +36,9 @@ import retrofit2.Call;
  * The standard limit for request are a maximum 60 requests per minute and maximum 25 input
  * coordinates. For example you can request a symmetric 25x25 matrix, an asymmetric 1x24 matrix with
  * distinct coordinates or a 12x24 where sources and destinations share some coordinates. For higher
- * volumes contact us.
+ * volumes contact us. To stay within the request limit, a
+ * {@link com.mapbox.core.RateLimiter} can be set for this API through
+ * {@link com.mapbox.core.MapboxService#setRateLimiter(Class, com.mapbox.core.RateLimiter)}.
  * <p>
  *
  * @see <a href="https://www.mapbox.com/api-documentation/navigation/#matrix">API documentation</a>
@@ -328,13 +329,15 @@ public abstract class MapboxMatrix extends MapboxService<MatrixResponse, MatrixS
     }
 
     private static String formatCoordinates(List<Point> coordinates) {
-      List<String> coordinatesFormatted = new ArrayList<>();
+      StringBuilder builder = new StringBuilder(coordinates.size() * 24);
       for (Point point : coordinates) {
-        coordinatesFormatted.add(String.format(Locale.US, "%s,%s",
-          TextUtils.formatCoordinate(point.longitude()),
-          TextUtils.formatCoordinate(point.latitude())));
+        if (builder.length() > 0) {
+          builder.append(';');
+        }
+        TextUtils.appendCoordinate(builder, point.longitude()).append(',');
+        TextUtils.appendCoordinate(builder, point.latitude());
       }
-      return TextUtils.join(";", coordinatesFormatted.toArray());
+      return builder.toString();
     }
   }
 }
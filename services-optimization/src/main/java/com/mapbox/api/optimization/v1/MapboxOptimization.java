@@ -36,7 +36,9 @@ import retrofit2.Call;
  * bicycling and walking or hiking.
  * <p>
  * Under normal plans, a maximum of 12 coordinates can be passed in at once at a maximum 60 requests
- * per minute. For higher volumes, reach out through our contact page.
+ * per minute. For higher volumes, reach out through our contact page. To stay within the request
+ * limit, a {@link com.mapbox.core.RateLimiter} can be set for this API through
+ * {@link com.mapbox.core.MapboxService#setRateLimiter(Class, com.mapbox.core.RateLimiter)}.
  * <p>
  * Note that for under 10 coordinates, the returned results will be optimal. For 10 and more
  * coordinates, the results will be optimized approximations.
@@ -502,14 +504,15 @@ public abstract class MapboxOptimization
     }
 
     private static String formatCoordinates(List<Point> coordinates) {
-      List<String> coordinatesFormatted = new ArrayList<>();
+      StringBuilder builder = new StringBuilder(coordinates.size() * 24);
       for (Point point : coordinates) {
-        coordinatesFormatted.add(String.format(Locale.US, "%s,%s",
-          TextUtils.formatCoordinate(point.longitude()),
-          TextUtils.formatCoordinate(point.latitude())));
+        if (builder.length() > 0) {
+          builder.append(';');
+        }
+        TextUtils.appendCoordinate(builder, point.longitude()).append(',');
+        TextUtils.appendCoordinate(builder, point.latitude());
       }
-
-      return TextUtils.join(";", coordinatesFormatted.toArray());
+      return builder.toString();
     }
   }
 }
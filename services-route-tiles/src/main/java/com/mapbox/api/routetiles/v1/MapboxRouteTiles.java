@@ -44,19 +44,25 @@ public abstract class MapboxRouteTiles extends MapboxService<ResponseBody, Route
   }
 
   @Override
-  protected synchronized OkHttpClient getOkHttpClient() {
+  protected OkHttpClient getOkHttpClient() {
     if (okHttpClient == null) {
-      OkHttpClient.Builder httpClient = new OkHttpClient.Builder();
+      Interceptor interceptor = interceptor();
+      Interceptor networkInterceptor = networkInterceptor();
+      if (!isEnableDebug() && interceptor == null && networkInterceptor == null) {
+        // Nothing to customize, the shared client and its services can be used as is
+        okHttpClient = getSharedOkHttpClient();
+        return okHttpClient;
+      }
+
+      OkHttpClient.Builder httpClient = getSharedOkHttpClient().newBuilder();
       if (isEnableDebug()) {
         HttpLoggingInterceptor logging = new HttpLoggingInterceptor();
         logging.setLevel(HttpLoggingInterceptor.Level.BASIC);
         httpClient.addInterceptor(logging);
       }
-      Interceptor interceptor = interceptor();
       if (interceptor != null) {
         httpClient.addInterceptor(interceptor);
       }
-      Interceptor networkInterceptor = networkInterceptor();
       if (networkInterceptor != null) {
         httpClient.addNetworkInterceptor(networkInterceptor);
       }
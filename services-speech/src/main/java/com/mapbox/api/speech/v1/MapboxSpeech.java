@@ -71,9 +71,9 @@ public abstract class MapboxSpeech extends MapboxService<ResponseBody, SpeechSer
   protected abstract String baseUrl();
 
   @Override
-  public synchronized OkHttpClient getOkHttpClient() {
+  public OkHttpClient getOkHttpClient() {
     if (okHttpClient == null) {
-      OkHttpClient.Builder httpClient = new OkHttpClient.Builder();
+      OkHttpClient.Builder httpClient = getSharedOkHttpClient().newBuilder();
       if (isEnableDebug()) {
         HttpLoggingInterceptor logging = new HttpLoggingInterceptor();
         logging.setLevel(HttpLoggingInterceptor.Level.BASIC);
@@ -12,8 +12,6 @@ import com.mapbox.core.exceptions.ServicesException;
 import com.mapbox.core.utils.TextUtils;
 import com.mapbox.geojson.Point;
 
-import java.util.Locale;
-
 /**
  * Mapbox Static Image API marker overlay. Building this object allows you to place a marker on top
  * or within your static image. The marker can either use the default marker (though you can change
@@ -44,23 +42,21 @@ public abstract class StaticMarkerAnnotation {
    */
   @RestrictTo(LIBRARY)
   public String url() {
-    String url;
+    StringBuilder url = new StringBuilder();
     if (iconUrl() != null) {
-      return String.format(
-        Locale.US, "url-%s(%f,%f)", iconUrl(), lnglat().longitude(), lnglat().latitude());
-    }
-
-    if (color() != null && !TextUtils.isEmpty(label())) {
-      url = String.format(Locale.US, "%s-%s+%s", name(), label(), color());
-    } else if (!TextUtils.isEmpty(label())) {
-      url = String.format(Locale.US, "%s-%s", name(), label());
-    } else if (color() != null) {
-      url = String.format(Locale.US, "%s+%s", name(), color());
+      url.append("url-").append(iconUrl());
     } else {
-      url = name();
+      url.append(name());
+      if (!TextUtils.isEmpty(label())) {
+        url.append('-').append(label());
+      }
+      if (color() != null) {
+        url.append('+').append(color());
+      }
     }
-
-    return String.format(Locale.US, "%s(%f,%f)", url, lnglat().longitude(), lnglat().latitude());
+    url.append('(');
+    TextUtils.appendCoordinate(url, lnglat().longitude()).append(',');
+    return TextUtils.appendCoordinate(url, lnglat().latitude()).append(')').toString();
   }
 
   @Nullable
@@ -222,7 +222,7 @@ public class MapboxStaticMapTest extends TestUtils {
       .cameraAuto(true)
       .staticMarkerAnnotations(markers)
       .build();
-    assertTrue(staticMap.url().toString().contains("pin-m-a(-71.041500,42.366200)"));
+    assertTrue(staticMap.url().toString().contains("pin-m-a(-71.0415,42.3662)"));
   }
 
   @Test
@@ -246,8 +246,8 @@ public class MapboxStaticMapTest extends TestUtils {
       .cameraAuto(true)
       .staticMarkerAnnotations(markers)
       .build();
-    assertTrue(staticMap.url().toString().contains("pin-m-a(-71.041500,42.366200),"
-      + "pin-m-a+FFC800(-71.084200,42.394300)"));
+    assertTrue(staticMap.url().toString().contains("pin-m-a(-71.0415,42.3662),"
+      + "pin-m-a+FFC800(-71.0842,42.3943)"));
   }
 
   @Test
@@ -25,7 +25,7 @@ public class StaticMarkerAnnotationTest {
       .lnglat(Point .fromLngLat(1.0,2.0))
       .name(StaticMapCriteria.MEDIUM_PIN)
       .build();
-    assertTrue(staticMarkerAnnotation.url().contains("pin-m(1.000000,2.000000)"));
+    assertTrue(staticMarkerAnnotation.url().contains("pin-m(1,2)"));
   }
 
   @Test
@@ -35,7 +35,7 @@ public class StaticMarkerAnnotationTest {
       .name(StaticMapCriteria.MEDIUM_PIN)
       .label("abc")
       .build();
-    assertTrue(staticMarkerAnnotation.url().contains("pin-m-abc(1.000000,2.000000)"));
+    assertTrue(staticMarkerAnnotation.url().contains("pin-m-abc(1,2)"));
   }
 
   @Test
@@ -50,7 +50,7 @@ public class StaticMarkerAnnotationTest {
         Color.BLUE.getBlue())
       .build();
     assertThat(staticMarkerAnnotation.url(),
-      containsString("pin-m-abc+0000FF(1.000000,2.000000)"));
+      containsString("pin-m-abc+0000FF(1,2)"));
   }
 
   @Test
@@ -63,7 +63,7 @@ public class StaticMarkerAnnotationTest {
         Color.BLUE.getGreen(),
         Color.BLUE.getBlue())
       .build();
-    assertTrue(staticMarkerAnnotation.url().contains("pin-m+0000FF(1.000000,2.000000)"));
+    assertTrue(staticMarkerAnnotation.url().contains("pin-m+0000FF(1,2)"));
   }
 
   @Test
@@ -72,7 +72,7 @@ public class StaticMarkerAnnotationTest {
       .iconUrl("https://foobar.com")
       .lnglat(Point.fromLngLat(0.0, 0.0))
       .build();
-    assertTrue(marker.url().contains("url-https://foobar.com(0.000000,0.000000)"));
+    assertTrue(marker.url().contains("url-https://foobar.com(0,0)"));
   }
 
   @Test
@@ -4,12 +4,19 @@ import android.support.annotation.NonNull;
 import android.support.annotation.Nullable;
 
 import com.google.auto.value.AutoValue;
+import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import com.mapbox.core.MapboxService;
 import com.mapbox.core.constants.Constants;
 import com.mapbox.core.exceptions.ServicesException;
 import com.mapbox.core.utils.MapboxUtils;
 import com.mapbox.core.utils.TextUtils;
+import com.mapbox.geojson.Feature;
 import com.mapbox.geojson.FeatureCollection;
 import com.mapbox.geojson.GeometryAdapterFactory;
 import com.mapbox.geojson.Point;
@@ -17,7 +24,6 @@ import com.mapbox.geojson.gson.GeoJsonAdapterFactory;
 
 import java.io.IOException;
 import java.util.List;
-import java.util.Locale;
 
 import retrofit2.Call;
 import retrofit2.Callback;
@@ -35,6 +41,7 @@ import retrofit2.Response;
  */
 @AutoValue
 public abstract class MapboxTilequery extends MapboxService<FeatureCollection, TilequeryService> {
+  private static volatile boolean lazyFeatureProperties;
   private Call<List<FeatureCollection>> batchCall;
 
   protected MapboxTilequery() {
@@ -46,7 +53,34 @@ public abstract class MapboxTilequery extends MapboxService<FeatureCollection, T
 
     return new GsonBuilder()
       .registerTypeAdapterFactory(GeoJsonAdapterFactory.create())
-      .registerTypeAdapterFactory(GeometryAdapterFactory.create());
+      .registerTypeAdapterFactory(GeometryAdapterFactory.create())
+      // Registered last, so it takes precedence over GeoJsonAdapterFactory for features
+      .registerTypeAdapterFactory(new FeatureAdapterFactory());
+  }
+
+  /**
+   * Whether the properties of the features in tilequery responses are only parsed the first time
+   * one of them is accessed.
+   *
+   * @return true if feature properties are parsed lazily
+   * @since 4.9.0
+   */
+  public static boolean isLazyFeatureProperties() {
+    return lazyFeatureProperties;
+  }
+
+  /**
+   * Keeps the properties of the features in tilequery responses as raw JSON, and only parses them
+   * the first time one of them is accessed. This is worth it when most of the returned features
+   * are never looked at, or only through their geometry. It applies to all the tilequery
+   * responses read after this call.
+   *
+   * @param lazy true to defer parsing feature properties until first accessed
+   * @see Feature#typeAdapter(Gson, boolean)
+   * @since 4.9.0
+   */
+  public static void setLazyFeatureProperties(boolean lazy) {
+    lazyFeatureProperties = lazy;
   }
 
   @Override
@@ -215,13 +249,9 @@ public abstract class MapboxTilequery extends MapboxService<FeatureCollection, T
      * @since 3.5.0
      */
     public Builder query(@NonNull Point point) {
-      query(String.format(Locale.US, "%s,%s",
-        TextUtils.formatCoordinate(point.longitude()),
-        TextUtils.formatCoordinate(point.latitude())));
-
-      String str = String.format(Locale.US, "%s,%s",
-        TextUtils.formatCoordinate(point.longitude()),
-        TextUtils.formatCoordinate(point.latitude()));
+      StringBuilder builder = new StringBuilder();
+      TextUtils.appendCoordinate(builder, point.longitude()).append(',');
+      query(TextUtils.appendCoordinate(builder, point.latitude()).toString());
       return this;
     }
 
@@ -314,4 +344,32 @@ public abstract class MapboxTilequery extends MapboxService<FeatureCollection, T
       return tilequery;
     }
   }
+
+  /**
+   * Reads features with or without lazy properties, depending on the current setting, since the
+   * Gson instance it belongs to is shared by all the tilequery services.
+   */
+  private static final class FeatureAdapterFactory implements TypeAdapterFactory {
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+      if (type.getRawType() != Feature.class) {
+        return null;
+      }
+      final TypeAdapter<Feature> eager = Feature.typeAdapter(gson, false);
+      final TypeAdapter<Feature> lazy = Feature.typeAdapter(gson, true);
+      return (TypeAdapter<T>) new TypeAdapter<Feature>() {
+        @Override
+        public void write(JsonWriter out, Feature value) throws IOException {
+          eager.write(out, value);
+        }
+
+        @Override
+        public Feature read(JsonReader in) throws IOException {
+          return (lazyFeatureProperties ? lazy : eager).read(in);
+        }
+      };
+    }
+  }
 }
@@ -50,6 +50,27 @@ public class MapboxTilequeryTest extends TilequeryTestUtils {
       .contains("-122.42901,37.80633"));
   }
 
+  @Test
+  public void executeCall_lazyFeatureProperties() throws Exception {
+    MapboxTilequery client = MapboxTilequery.builder()
+      .accessToken(ACCESS_TOKEN)
+      .query("-122.42901,37.80633")
+      .mapIds("mapbox.mapbox-streets-v7")
+      .baseUrl(mockUrl.toString())
+      .build();
+    FeatureCollection eager = client.cloneCall().execute().body();
+
+    MapboxTilequery.setLazyFeatureProperties(true);
+    try {
+      assertTrue(MapboxTilequery.isLazyFeatureProperties());
+      FeatureCollection lazy = client.cloneCall().execute().body();
+      assertEquals("wood", lazy.features().get(0).getStringProperty("class"));
+      assertEquals(eager, lazy);
+    } finally {
+      MapboxTilequery.setLazyFeatureProperties(false);
+    }
+  }
+
   @Test
   public void build_noAccessTokenExceptionThrown() throws Exception {
     thrown.expect(IllegalStateException.class);